@@ -0,0 +1,37 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.dto.request;
+
+import java.util.List;
+
+public class UserBatchGetRequestDTO {
+
+    private List<Long> ids;
+
+    private List<String> usernames;
+
+    private List<String> emails;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(List<String> usernames) {
+        this.usernames = usernames;
+    }
+
+    public List<String> getEmails() {
+        return emails;
+    }
+
+    public void setEmails(List<String> emails) {
+        this.emails = emails;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.dto.request;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+public class UserExportFilterDTO {
+
+    private UserStatus status;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+
+    public UserStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UserStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.dto.request;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+public class UserFilterDTO {
+
+    private UserStatus status;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+
+    private LocalDateTime lastLoginFrom;
+
+    private LocalDateTime lastLoginTo;
+
+    public UserStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UserStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public LocalDateTime getLastLoginFrom() {
+        return lastLoginFrom;
+    }
+
+    public void setLastLoginFrom(LocalDateTime lastLoginFrom) {
+        this.lastLoginFrom = lastLoginFrom;
+    }
+
+    public LocalDateTime getLastLoginTo() {
+        return lastLoginTo;
+    }
+
+    public void setLastLoginTo(LocalDateTime lastLoginTo) {
+        this.lastLoginTo = lastLoginTo;
+    }
+
+}
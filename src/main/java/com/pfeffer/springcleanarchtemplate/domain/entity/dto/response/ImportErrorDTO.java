@@ -0,0 +1,33 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.dto.response;
+
+public class ImportErrorDTO {
+
+    private long row;
+
+    private String message;
+
+    public ImportErrorDTO() {
+    }
+
+    public ImportErrorDTO(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+}
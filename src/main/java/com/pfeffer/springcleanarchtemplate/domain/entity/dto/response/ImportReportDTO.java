@@ -0,0 +1,48 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReportDTO {
+
+    private long imported;
+
+    private long rejected;
+
+    private boolean errorsTruncated;
+
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public List<ImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+}
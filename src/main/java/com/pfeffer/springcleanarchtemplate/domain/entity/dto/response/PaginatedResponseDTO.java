@@ -1,6 +1,9 @@
 package com.pfeffer.springcleanarchtemplate.domain.entity.dto.response;
 
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
 
 import java.util.List;
@@ -11,6 +14,11 @@ import java.util.List;
  * This DTO encapsulates the paginated content, pagination details such as the
  * current page, total pages, page size, total elements, and sorting
  * information.
+ * <p>
+ * Responses built from a {@link SliceContent} leave the totals as
+ * {@code null}, since they are never counted. Responses built from a
+ * {@link CursorSliceContent} also carry the opaque cursor of the next slice
+ * in {@code nextCursor}.
  *
  * @param <T> the type of content in the paginated response
  * @author Mateus Pfeffer
@@ -24,9 +32,9 @@ public class PaginatedResponseDTO<T> {
 
     private int pageSize;
 
-    private int totalPages;
+    private Integer totalPages;
 
-    private long totalElements;
+    private Long totalElements;
 
     private boolean first;
 
@@ -34,6 +42,8 @@ public class PaginatedResponseDTO<T> {
 
     private String[] sort;
 
+    private String nextCursor;
+
     /**
      * Constructs a new {@link PaginatedResponseDTO} from a given {@link
      * PageContent}.
@@ -54,6 +64,46 @@ public class PaginatedResponseDTO<T> {
         this.sort = pageContent.getSort();
     }
 
+    /**
+     * Constructs a new {@link PaginatedResponseDTO} from a given {@link
+     * SliceContent}, without totals.
+     *
+     * @param sliceContent the {@link SliceContent} containing pagination
+     *                     details and content
+     */
+    public PaginatedResponseDTO(SliceContent<T> sliceContent) {
+        InternalValidation.notNull(sliceContent, "SliceContent cannot be null");
+
+        this.content = sliceContent.getContent();
+        this.pageNumber = sliceContent.getNumber();
+        this.pageSize = sliceContent.getSize();
+        this.first = sliceContent.isFirst();
+        this.last = sliceContent.isLast();
+        this.sort = sliceContent.getSort();
+    }
+
+    /**
+     * Constructs a new {@link PaginatedResponseDTO} from a given {@link
+     * CursorSliceContent}, without totals, carrying the opaque cursor of the
+     * next slice.
+     *
+     * @param sliceContent the {@link CursorSliceContent} containing pagination
+     *                     details and content
+     */
+    public PaginatedResponseDTO(CursorSliceContent<T> sliceContent) {
+        InternalValidation.notNull(sliceContent, "CursorSliceContent cannot be null");
+
+        this.content = sliceContent.getContent();
+        this.pageNumber = sliceContent.getNumber();
+        this.pageSize = sliceContent.getSize();
+        this.first = sliceContent.isFirst();
+        this.last = sliceContent.isLast();
+        this.sort = sliceContent.getSort();
+        this.nextCursor = sliceContent.nextPagination()
+                .map(CursorPaginationRequest::toCursor)
+                .orElse(null);
+    }
+
     public List<T> getContent() {
         return content;
     }
@@ -78,19 +128,19 @@ public class PaginatedResponseDTO<T> {
         this.pageSize = pageSize;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
 
@@ -118,4 +168,12 @@ public class PaginatedResponseDTO<T> {
         this.sort = sort;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
 }
@@ -0,0 +1,19 @@
+package com.pfeffer.springcleanarchtemplate.domain.entity.enums;
+
+public enum ExportFormat implements IEnum {
+
+    CSV("CSV"),
+    NDJSON("NDJSON");
+
+    private final String key;
+
+    ExportFormat(String key) {
+        this.key = key;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+}
@@ -21,7 +21,10 @@ public enum SimpleErrorCode implements ErrorCode {
     INTEGER_CANT_BE_LOWER_THAN("006", "integer.cant_be_lower_than", 400),
     NOT_FOUND("007", "not_found", 404),
     ALREADY_EXISTS("008", "already_exists", 400),
-    STRING_MUST_BE_BETWEEN("009", "string.must_be_between", 400);
+    STRING_MUST_BE_BETWEEN("009", "string.must_be_between", 400),
+    INVALID_PARAMETER("010", "invalid.parameter", 400),
+    TIMEOUT("011", "timeout", 503),
+    UNAVAILABLE("012", "unavailable", 503);
 
     private final String key;
 
@@ -1,15 +1,111 @@
 package com.pfeffer.springcleanarchtemplate.domain.gateway;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.BulkInsertGateway;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.RangeScanGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.SoftDeleteGateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserGateway
-        extends Gateway<UserBO, Long> {
+        extends Gateway<UserBO, Long>, SoftDeleteGateway<UserBO, Long>, BulkInsertGateway<UserBO>,
+        RangeScanGateway<UserBO> {
 
     Optional<UserBO> findByUsername(String username);
 
     Optional<UserBO> findByEmail(String email);
 
+    /**
+     * Returns the users with any of the given usernames.
+     *
+     * @param usernames the usernames to look up, must not be {@code null}.
+     * @return the users found, never {@code null}.
+     */
+    List<UserBO> findByUsernames(Collection<String> usernames);
+
+    /**
+     * Returns the users with any of the given emails.
+     *
+     * @param emails the emails to look up, must not be {@code null}.
+     * @return the users found, never {@code null}.
+     */
+    List<UserBO> findByEmails(Collection<String> emails);
+
+    /**
+     * Finds a page of the users matching the filter, sorted by the criteria
+     * of the pagination. Range bounds are inclusive for {@code from} and
+     * exclusive for {@code to}; a {@code null} bound or status matches every
+     * user.
+     *
+     * @param filter     the users to find, must not be {@code null}.
+     * @param pagination the page to find, must not be {@code null}.
+     * @return the page of users, with the total number of matching users.
+     */
+    PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination);
+
+    /**
+     * Writes the users matching the filter to the given stream, without
+     * materializing them as business objects.
+     *
+     * @param filter the users to export, must not be {@code null}.
+     * @param format the output format, must not be {@code null}.
+     * @param out    the stream to write to; it is not closed.
+     * @return the number of users written.
+     */
+    long export(UserExportFilterDTO filter, ExportFormat format, OutputStream out);
+
+    /**
+     * Inserts a new user unless its username or email is already taken,
+     * without a prior lookup.
+     *
+     * @param bo the user to insert; its identifier is ignored.
+     * @return the inserted user, or the conflicting field ({@code "username"}
+     * or {@code "email"}).
+     */
+    InsertResult<UserBO> create(UserBO bo);
+
+    /**
+     * Inserts each user as {@link #create(UserBO)} would, all in one
+     * transaction, so that they share a single commit. A user conflicting
+     * with one inserted earlier in the same list is rejected as well.
+     *
+     * @param bos the users to insert, in order; their identifiers are
+     *            ignored.
+     * @return the result of each user, at the same position.
+     */
+    List<InsertResult<UserBO>> createAll(List<UserBO> bos);
+
+    /**
+     * Records that a user logged in. Unlike {@link #updateById(Object, Map)},
+     * the user is not read first, and the update may be applied later,
+     * together with the logins of other users.
+     *
+     * @param id          the identifier of the user, must not be
+     *                    {@code null}.
+     * @param lastLoginAt the time of the login, must not be {@code null}.
+     */
+    void touchLastLogin(Long id, LocalDateTime lastLoginAt);
+
+    /**
+     * Sets the last login time of each user, unless the user is missing,
+     * soft-deleted or already has a later one.
+     *
+     * @param lastLogins the last login time by user identifier, must not be
+     *                   {@code null}.
+     * @return the number of users updated.
+     */
+    int updateLastLogins(Map<Long, LocalDateTime> lastLogins);
+
 }
@@ -0,0 +1,128 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous counterpart of {@link Gateway}: every operation starts
+ * right away and returns a {@link CompletableFuture} of the result of the
+ * matching {@link Gateway} operation, so callers can overlap several calls
+ * or release their thread while the calls run.
+ * <p>
+ * Each operation behaves as its {@link Gateway} counterpart; the exceptions
+ * the latter would throw complete the future exceptionally instead.
+ * Cancelling a future interrupts its call if it is still running.
+ * Streaming operations have no counterpart, since a stream must be consumed
+ * by the thread that opened it.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see Gateway
+ * @since 1.0
+ */
+public interface AsyncGateway<BO extends EntityBO, ID> {
+
+    /**
+     * @see CrudGateway#findById(Object)
+     */
+    CompletableFuture<Optional<BO>> findById(ID id);
+
+    /**
+     * @see CrudGateway#findByIds(Iterable)
+     */
+    CompletableFuture<List<BO>> findByIds(Iterable<ID> ids);
+
+    /**
+     * @see CrudGateway#existsById(Object)
+     */
+    CompletableFuture<Boolean> existsById(ID id);
+
+    /**
+     * @see CrudGateway#findAll()
+     */
+    CompletableFuture<List<BO>> findAll();
+
+    /**
+     * @see PagingAndSortingGateway#findAll(String...)
+     */
+    CompletableFuture<List<BO>> findAll(String... sort);
+
+    /**
+     * @see PagingAndSortingGateway#findAll(Pagination)
+     */
+    CompletableFuture<PageContent<BO>> findAll(Pagination pagination);
+
+    /**
+     * @see PagingAndSortingGateway#findSlice(Pagination)
+     */
+    CompletableFuture<SliceContent<BO>> findSlice(Pagination pagination);
+
+    /**
+     * @see PagingAndSortingGateway#scroll(CursorPaginationRequest)
+     */
+    CompletableFuture<CursorSliceContent<BO>> scroll(CursorPaginationRequest pagination);
+
+    /**
+     * @see CrudGateway#count()
+     */
+    CompletableFuture<Long> count();
+
+    /**
+     * @see CrudGateway#count(CountMode)
+     */
+    CompletableFuture<Long> count(CountMode mode);
+
+    /**
+     * @see CrudGateway#save(EntityBO)
+     */
+    CompletableFuture<BO> save(BO bo);
+
+    /**
+     * @see CrudGateway#saveAll(Iterable)
+     */
+    CompletableFuture<List<BO>> saveAll(Iterable<? extends BO> bos);
+
+    /**
+     * @see PartialUpdateGateway#updateById(Object, Map)
+     */
+    CompletableFuture<Boolean> updateById(ID id, Map<String, ?> changes);
+
+    /**
+     * @see CrudGateway#deleteById(Object)
+     */
+    CompletableFuture<Void> deleteById(ID id);
+
+    /**
+     * @see CrudGateway#delete(EntityBO)
+     */
+    CompletableFuture<Void> delete(BO bo);
+
+    /**
+     * @see CrudGateway#deleteAllById(Iterable)
+     */
+    CompletableFuture<Long> deleteAllById(Iterable<? extends ID> ids);
+
+    /**
+     * @see CrudGateway#deleteAll(Iterable)
+     */
+    CompletableFuture<Long> deleteAll(Iterable<? extends BO> bos);
+
+    /**
+     * @see CrudGateway#deleteAll()
+     */
+    CompletableFuture<Long> deleteAll();
+
+}
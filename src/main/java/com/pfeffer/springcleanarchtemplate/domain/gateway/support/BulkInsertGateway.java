@@ -0,0 +1,32 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A gateway interface for inserting many new entities at once, skipping
+ * those that conflict with a unique constraint instead of failing the whole
+ * batch.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see InsertResult
+ * @since 1.0
+ */
+public interface BulkInsertGateway<BO extends EntityBO> {
+
+    /**
+     * Inserts the given entities, in order, unless they conflict with an
+     * existing entity or with an earlier entity of the same list. Their
+     * identifiers are ignored.
+     *
+     * @param bos the entities to insert, must not be {@code null}.
+     * @return the name of the conflicting field by the position of each
+     * entity that was not inserted; empty if all of them were.
+     */
+    Map<Integer, String> insertAllIfAbsent(List<BO> bos);
+
+}
@@ -2,6 +2,7 @@ package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
 import com.pfeffer.springcleanarchtemplate.domain.exception.InternalValidationException;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
 
 import java.util.Optional;
 
@@ -91,6 +92,20 @@ public interface CrudGateway<BO extends EntityBO, ID> {
      */
     long count();
 
+    /**
+     * Returns the number of entities available, computed according to the
+     * given mode.
+     * <p>
+     * Implementations that cannot cache or estimate the count fall back to
+     * {@link #count()}.
+     *
+     * @param mode how the total is computed; must not be {@code null}.
+     * @return the exact, cached or estimated number of entities.
+     */
+    default long count(CountMode mode) {
+        return count();
+    }
+
     /**
      * Deletes the entity with the given id.
      * <p>
@@ -116,24 +131,28 @@ public interface CrudGateway<BO extends EntityBO, ID> {
      *
      * @param ids must not be {@code null}. Must not contain {@code null}
      *            elements.
+     * @return the number of entities deleted.
      * @throws IllegalArgumentException in case the given {@code ids} or one of
      *                                  its elements is {@code null}.
      */
-    void deleteAllById(Iterable<? extends ID> ids);
+    long deleteAllById(Iterable<? extends ID> ids);
 
     /**
      * Deletes the given entities.
      *
      * @param bos must not be {@code null}. Must not contain {@code null}
      *            elements.
+     * @return the number of entities deleted.
      * @throws IllegalArgumentException in case the given {@code entities} or
      *                                  one of its entities is {@code null}.
      */
-    void deleteAll(Iterable<? extends BO> bos);
+    long deleteAll(Iterable<? extends BO> bos);
 
     /**
      * Deletes all entities.
+     *
+     * @return the number of entities deleted.
      */
-    void deleteAll();
+    long deleteAll();
 
 }
@@ -21,6 +21,7 @@ import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
  * @since 1.0
  */
 public interface Gateway<BO extends EntityBO, ID>
-        extends ListCrudGateway<BO, ID>, ListPagingAndSortingGateway<BO> {
+        extends ListCrudGateway<BO, ID>, ListPagingAndSortingGateway<BO>, StreamingGateway<BO>,
+        PartialUpdateGateway<ID> {
 
 }
@@ -0,0 +1,21 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+/**
+ * An inclusive range of numeric entity identifiers.
+ *
+ * @param min the smallest identifier in the range.
+ * @param max the largest identifier in the range, not smaller than
+ *            {@code min}.
+ * @author Mateus Pfeffer
+ * @see RangeScanGateway
+ * @since 1.0
+ */
+public record IdRange(long min, long max) {
+
+    public IdRange {
+        InternalValidation.isTrue(min <= max, "Range min must not be greater than max");
+    }
+
+}
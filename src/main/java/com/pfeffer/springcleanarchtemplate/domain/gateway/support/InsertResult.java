@@ -0,0 +1,69 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+/**
+ * The outcome of a conflict-aware insert: either the inserted entity, or the
+ * name of the unique field whose value is already taken.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     InsertResult<UserBO> result = gateway.create(user);
+ *
+ *     if (!result.isInserted()) {
+ *         throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", result.conflict());
+ *     }
+ *     }
+ * </pre>
+ *
+ * @param value    the inserted entity, or {@code null} if the insert
+ *                 conflicted
+ * @param conflict the name of the conflicting field, or {@code null} if the
+ *                 entity was inserted
+ * @param <BO>     the type of the business object (entity)
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public record InsertResult<BO extends EntityBO>(BO value, String conflict) {
+
+    /**
+     * Creates the result of a successful insert.
+     *
+     * @param value the inserted entity, must not be {@code null}
+     * @param <BO>  the type of the business object (entity)
+     * @return a new {@link InsertResult} holding the inserted entity
+     */
+    public static <BO extends EntityBO> InsertResult<BO> inserted(BO value) {
+        InternalValidation.notNull(value, "Inserted value must not be null");
+
+        return new InsertResult<>(value, null);
+    }
+
+    /**
+     * Creates the result of an insert that conflicted with an existing
+     * entity.
+     *
+     * @param field the name of the conflicting field, must not be
+     *              {@code null}
+     * @param <BO>  the type of the business object (entity)
+     * @return a new {@link InsertResult} holding the conflicting field
+     */
+    public static <BO extends EntityBO> InsertResult<BO> conflict(String field) {
+        InternalValidation.notNull(field, "Conflicting field must not be null");
+
+        return new InsertResult<>(null, field);
+    }
+
+    /**
+     * Checks whether the entity was inserted.
+     *
+     * @return {@code true} if the entity was inserted, {@code false} if the
+     * insert conflicted
+     */
+    public boolean isInserted() {
+        return value != null;
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
 
 /**
  * A generic gateway interface for performing paging and sorting operations
@@ -42,4 +45,36 @@ public interface PagingAndSortingGateway<BO extends EntityBO> {
      */
     PageContent<BO> findAll(Pagination pagination);
 
+    /**
+     * Retrieves a slice of entities, optionally sorted by specified fields,
+     * without counting the total number of entities.
+     * <p>
+     * One element more than the page size is fetched to tell whether there
+     * is a following slice, so this is cheaper than
+     * {@link #findAll(Pagination)} when the totals are not needed.
+     *
+     * @param pagination The pagination parameters that define the page number,
+     *                   the size of the page, and optional sorting criteria.
+     * @return A {@link SliceContent} object containing the list of businesses
+     * objects representing the entities.
+     */
+    SliceContent<BO> findSlice(Pagination pagination);
+
+    /**
+     * Retrieves a slice of entities using keyset (cursor) pagination.
+     * <p>
+     * Rather than skipping rows with an offset, the slice starts right after
+     * the element identified by the sort keys carried in the
+     * {@code pagination}, so every slice costs the same regardless of its
+     * depth. The entity identifier is always appended to the sort criteria to
+     * make the order total.
+     *
+     * @param pagination the cursor that defines the page size, the sort
+     *                   criteria and the position to continue from.
+     * @return A {@link CursorSliceContent} whose
+     * {@link CursorSliceContent#nextPagination()} is the cursor for the
+     * following slice.
+     */
+    CursorSliceContent<BO> scroll(CursorPaginationRequest pagination);
+
 }
@@ -0,0 +1,33 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import java.util.Map;
+
+/**
+ * A gateway interface for updating a subset of the attributes of an entity
+ * without loading it first.
+ * <p>
+ * Implementations write only the given attributes, so unchanged columns are
+ * left out of the generated statement.
+ *
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public interface PartialUpdateGateway<ID> {
+
+    /**
+     * Updates the given attributes of the entity with the given id.
+     * <p>
+     * Attributes mapped to {@code null} are cleared. Callers are responsible
+     * for restricting the keys to attributes that may be changed.
+     *
+     * @param id      must not be {@code null}.
+     * @param changes the new attribute values by attribute name, must not be
+     *                {@code null}.
+     * @return {@code true} if the entity exists and was updated, {@code false}
+     * otherwise.
+     */
+    boolean updateById(ID id, Map<String, ?> changes);
+
+}
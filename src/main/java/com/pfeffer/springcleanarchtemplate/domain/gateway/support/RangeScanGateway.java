@@ -0,0 +1,41 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A gateway interface for scanning every entity in identifier order, one
+ * bounded batch at a time, so that a scan can be split into identifier
+ * ranges processed independently and resumed after the last identifier
+ * processed.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see IdRange
+ * @since 1.0
+ */
+public interface RangeScanGateway<BO extends EntityBO> {
+
+    /**
+     * Returns the smallest and the largest identifier currently stored.
+     *
+     * @return the range of identifiers, or empty if there are no entities.
+     */
+    Optional<IdRange> findIdRange();
+
+    /**
+     * Returns, in identifier order, up to {@code limit} entities whose
+     * identifier is greater than {@code afterId} and not greater than
+     * {@code toId}.
+     *
+     * @param afterId the identifier after which to start, exclusive.
+     * @param toId    the identifier at which to stop, inclusive.
+     * @param limit   the maximum number of entities, greater than 0.
+     * @return the entities found, never {@code null}.
+     */
+    List<BO> findRange(long afterId, long toId, int limit);
+
+}
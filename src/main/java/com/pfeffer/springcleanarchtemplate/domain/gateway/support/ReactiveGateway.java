@@ -0,0 +1,60 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+
+import java.util.concurrent.Flow;
+
+/**
+ * The reactive counterpart of the read operations of {@link Gateway}: every
+ * operation returns a {@link Flow.Publisher} that runs nothing until it is
+ * subscribed to, then emits the entities as the subscriber requests them.
+ * <p>
+ * Publishers of a single value emit at most one element, as a {@code Mono}
+ * would; the others emit any number of elements, as a {@code Flux} would.
+ * {@link Flow} holds the Reactive Streams interfaces, so the publishers can
+ * be adapted to Reactor or any other Reactive Streams library, e.g. with
+ * {@code JdkFlowAdapter.flowPublisherToFlux}.
+ * <p>
+ * Each operation behaves as its {@link Gateway} counterpart; the exceptions
+ * the latter would throw are signalled through {@code onError} instead.
+ * Writes have no counterpart, see {@link AsyncGateway}.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see AsyncGateway
+ * @since 1.0
+ */
+public interface ReactiveGateway<BO extends EntityBO, ID> {
+
+    /**
+     * Emits the entity with the given identifier, or nothing if there is
+     * none.
+     *
+     * @see CrudGateway#findById(Object)
+     */
+    Flow.Publisher<BO> findById(ID id);
+
+    /**
+     * @see CrudGateway#findByIds(Iterable)
+     */
+    Flow.Publisher<BO> findByIds(Iterable<ID> ids);
+
+    /**
+     * Emits every entity in the given order. Entities are fetched one page
+     * at a time and only once the subscriber requested them, so a slow
+     * subscriber holds at most one page in memory.
+     *
+     * @see PagingAndSortingGateway#findAll(String...)
+     */
+    Flow.Publisher<BO> findAll(String... sort);
+
+    /**
+     * @see CrudGateway#count(CountMode)
+     */
+    Flow.Publisher<Long> count(CountMode mode);
+
+}
@@ -0,0 +1,42 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.NonDeletable;
+
+/**
+ * A gateway interface for entities that are never physically removed, but
+ * flagged as deleted by setting their {@link NonDeletable#getDeletedAt()
+ * deletion timestamp}.
+ * <p>
+ * Implementations update the deletion timestamp directly in the data store,
+ * without loading the entities first.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see NonDeletable
+ * @since 1.0
+ */
+public interface SoftDeleteGateway<BO extends EntityBO & NonDeletable<?>, ID> {
+
+    /**
+     * Flags the entity with the given id as deleted, unless it already is.
+     *
+     * @param id must not be {@code null}.
+     * @return {@code true} if the entity was flagged, {@code false} if no
+     * entity with the given id exists or it was already deleted.
+     */
+    boolean softDeleteById(ID id);
+
+    /**
+     * Flags the entities with the given ids as deleted, skipping those that
+     * already are.
+     *
+     * @param ids must not be {@code null} nor contain any {@code null} values.
+     * @return the number of entities flagged.
+     */
+    int softDeleteAllById(Iterable<? extends ID> ids);
+
+}
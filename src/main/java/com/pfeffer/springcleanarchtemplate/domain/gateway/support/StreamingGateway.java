@@ -0,0 +1,45 @@
+package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+
+import java.util.stream.Stream;
+
+/**
+ * A generic gateway interface for reading entities of type {@code BO} one at
+ * a time, without materializing the whole result in memory.
+ * <p>
+ * The returned {@link Stream} is backed by an open database cursor, so it
+ * must be consumed within the transaction in which it was obtained and closed
+ * afterward, preferably with a try-with-resources statement:
+ * <pre>
+ *     {@code
+ *     try (Stream<UserBO> users = gateway.streamAll("createdAt")) {
+ *         users.forEach(writer::write);
+ *     }
+ *     }
+ * </pre>
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see EntityBO
+ * @since 1.0
+ */
+public interface StreamingGateway<BO extends EntityBO> {
+
+    /**
+     * Returns a lazily populated stream of all entities sorted by the given
+     * options.
+     * <p>
+     * The sorting parameters should be provided in the format of "field1,asc"
+     * or "field2,desc", where "asc" indicates ascending order and "desc"
+     * indicates descending order.
+     *
+     * @param sort optional sorting parameters in the format of "field1,asc" or
+     *             "field2,desc";
+     * @return a {@link Stream} of all entities, never {@code null}. The stream
+     * holds database resources and must be closed by the caller.
+     */
+    Stream<BO> streamAll(String... sort);
+
+}
@@ -1,7 +1,7 @@
 /**
  * This package contains interfaces that provide support for various
  * data access operations in the repository layer. It includes gateways
- * for CRUD and pagination functionalities, facilitating a consistent
+ * for CRUD, pagination and streaming functionalities, facilitating a consistent
  * approach to data manipulation and retrieval.
  */
 package com.pfeffer.springcleanarchtemplate.domain.gateway.support;
\ No newline at end of file
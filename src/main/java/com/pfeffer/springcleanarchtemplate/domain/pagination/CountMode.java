@@ -0,0 +1,30 @@
+package com.pfeffer.springcleanarchtemplate.domain.pagination;
+
+/**
+ * Defines how the total number of elements of a paginated listing is
+ * computed.
+ *
+ * @author Mateus Pfeffer
+ * @see Pagination#getCountMode()
+ * @since 1.0
+ */
+public enum CountMode {
+
+    /**
+     * The total is counted by the database on every request.
+     */
+    EXACT,
+
+    /**
+     * The total is counted by the database and reused until it expires or the
+     * data is modified through the gateway.
+     */
+    CACHED,
+
+    /**
+     * The total is taken from the database statistics, which is constant-time
+     * but approximate. Small tables are still counted exactly.
+     */
+    ESTIMATED
+
+}
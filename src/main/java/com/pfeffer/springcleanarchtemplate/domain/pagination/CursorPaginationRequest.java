@@ -0,0 +1,271 @@
+package com.pfeffer.springcleanarchtemplate.domain.pagination;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.Validation;
+import com.pfeffer.springcleanarchtemplate.domain.utils.type.StringUtils;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A cursor-based (keyset) page request.
+ * <p>
+ * Instead of skipping {@code pageNumber * pageSize} rows, a cursor request
+ * carries the sort key values of the last element of the previous page
+ * (including its identifier), and the next page is fetched with a seek
+ * predicate such as {@code WHERE (sort_key, id) > (?, ?)}. The cost of
+ * fetching a page is therefore independent of how deep into the result the
+ * page is.
+ * <p>
+ * A request can be exchanged with clients as an opaque cursor through
+ * {@link #toCursor()} and {@link #fromCursor(String, int)}. The cursor embeds
+ * the sort criteria, so following pages keep the order of the first one.
+ * <p>
+ * It is deliberately not a {@link Pagination}: a cursor page has no offset
+ * and cannot be reached by number, only from the page before it, so it
+ * cannot be handed to the offset-based listings.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     CursorPaginationRequest first = CursorPaginationRequest.of(20, "createdAt");
+ *     CursorSliceContent<UserBO> slice = gateway.scroll(first);
+ *
+ *     Optional<CursorPaginationRequest> next = slice.nextPagination();
+ *     }
+ * </pre>
+ *
+ * @author Mateus Pfeffer
+ * @implNote Cursor pagination can only move forward: the next page depends on
+ * the content of the current one, so it is created with {@link #after(Map)}
+ * or taken from {@link CursorSliceContent#nextPagination()}.
+ * @see CursorSliceContent
+ * @since 1.0
+ */
+public class CursorPaginationRequest implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2270370815324531467L;
+
+    private static final String PAGE_PREFIX = "p=";
+
+    private static final String SORT_PREFIX = "s=";
+
+    private static final String KEY_PREFIX = "k.";
+
+    private static final String NULL_KEY_PREFIX = "n.";
+
+    private final int pageNumber;
+
+    private final int pageSize;
+
+    private final String[] sort;
+
+    private final LinkedHashMap<String, String> keys;
+
+    /**
+     * Constructs a new {@link CursorPaginationRequest}.
+     *
+     * @param pageNumber zero-based number of the page within the scroll, must
+     *                   not be negative.
+     * @param pageSize   the size of the page to be returned, must be greater
+     *                   than 0.
+     * @param sort       the sorting criteria, must not be {@code null}.
+     * @param keys       the sort key values of the last element of the
+     *                   previous page, by property name; empty for the first
+     *                   page. Must not be {@code null}.
+     * @throws IllegalArgumentException if any of the arguments is invalid.
+     */
+    protected CursorPaginationRequest(int pageNumber, int pageSize, String[] sort, Map<String, String> keys) {
+        Validation.isTrue(pageNumber >= 0, "Page number must be greater than or equal to zero");
+        Validation.isTrue(pageSize > 0, "Page size must be greater than zero");
+        Validation.notNull(sort, "Sort must not be null");
+        Validation.notNull(keys, "Keys must not be null");
+
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.sort = sort;
+        this.keys = new LinkedHashMap<>(keys);
+    }
+
+    /**
+     * Creates a {@link CursorPaginationRequest} for the first page.
+     *
+     * @param pageSize the size of the page to be returned, must be greater
+     *                 than 0.
+     * @param sort     the sorting criteria, must not be {@code null}.
+     * @return a new {@link CursorPaginationRequest} for the first page.
+     */
+    public static CursorPaginationRequest of(int pageSize, String... sort) {
+        return new CursorPaginationRequest(0, pageSize, sort, Map.of());
+    }
+
+    /**
+     * Restores a {@link CursorPaginationRequest} from an opaque cursor
+     * previously produced by {@link #toCursor()}.
+     * <p>
+     * An empty cursor is not accepted; callers starting a new scroll should
+     * use {@link #of(int, String...)}.
+     *
+     * @param cursor   the opaque cursor, must not be empty.
+     * @param pageSize the size of the page to be returned, must be greater
+     *                 than 0.
+     * @return the {@link CursorPaginationRequest} represented by the cursor.
+     * @throws LocalizedException if the cursor is malformed.
+     */
+    public static CursorPaginationRequest fromCursor(String cursor, int pageSize) {
+        if (!StringUtils.hasLength(cursor)) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "cursor");
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            int pageNumber = 0;
+            List<String> sort = new ArrayList<>();
+            Map<String, String> keys = new LinkedHashMap<>();
+
+            for (String part : decoded.split("&")) {
+                if (part.startsWith(PAGE_PREFIX)) {
+                    pageNumber = Integer.parseInt(part.substring(PAGE_PREFIX.length()));
+                } else if (part.startsWith(SORT_PREFIX)) {
+                    sort.add(decode(part.substring(SORT_PREFIX.length())));
+                } else if (part.startsWith(KEY_PREFIX)) {
+                    String[] entry = part.substring(KEY_PREFIX.length()).split("=", 2);
+                    keys.put(decode(entry[0]), decode(entry[1]));
+                } else if (part.startsWith(NULL_KEY_PREFIX)) {
+                    keys.put(decode(part.substring(NULL_KEY_PREFIX.length())), null);
+                } else {
+                    throw new IllegalArgumentException("Unknown cursor part");
+                }
+            }
+
+            return new CursorPaginationRequest(pageNumber, pageSize, sort.toArray(String[]::new), keys);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "cursor");
+        }
+    }
+
+    /**
+     * Encodes this request as an opaque, URL-safe cursor that can be handed
+     * to clients and restored with {@link #fromCursor(String, int)}.
+     *
+     * @return the opaque cursor.
+     */
+    public String toCursor() {
+        StringJoiner joiner = new StringJoiner("&");
+
+        joiner.add(PAGE_PREFIX + pageNumber);
+
+        for (String order : sort) {
+            joiner.add(SORT_PREFIX + encode(order));
+        }
+
+        keys.forEach((property, value) -> joiner.add(value == null
+                ? NULL_KEY_PREFIX + encode(property)
+                : KEY_PREFIX + encode(property) + "=" + encode(value)));
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates the request for the page following the element whose sort key
+     * values are given.
+     *
+     * @param keys the sort key values of the last element of the current
+     *             page, by property name, must not be {@code null}.
+     * @return a new {@link CursorPaginationRequest} for the next page.
+     */
+    public CursorPaginationRequest after(Map<String, String> keys) {
+        return new CursorPaginationRequest(pageNumber + 1, pageSize, sort, keys);
+    }
+
+    /**
+     * Returns the sort key values of the last element of the previous page.
+     *
+     * @return an unmodifiable map of the key values by property name, empty
+     * for the first page.
+     */
+    public Map<String, String> getKeys() {
+        return Collections.unmodifiableMap(keys);
+    }
+
+    /**
+     * Returns the zero-based number of the page within the scroll.
+     *
+     * @return the page number.
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String[] getSort() {
+        return sort;
+    }
+
+    /**
+     * Returns the request for the first page of the same scroll.
+     *
+     * @return the first page.
+     */
+    public CursorPaginationRequest first() {
+        return of(pageSize, sort);
+    }
+
+    public boolean hasPrevious() {
+        return pageNumber > 0;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof CursorPaginationRequest that)) {
+            return false;
+        }
+
+        return pageNumber == that.pageNumber
+                && pageSize == that.pageSize
+                && Arrays.equals(sort, that.sort)
+                && keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+
+        result = 31 * result + pageNumber;
+        result = 31 * result + pageSize;
+        result = 31 * result + Arrays.hashCode(sort);
+        result = 31 * result + keys.hashCode();
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cursor request [number: %d, size %d, sort: %s, keys: %s]", pageNumber, pageSize, Arrays.toString(sort), keys);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.pfeffer.springcleanarchtemplate.domain.pagination;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.InternalValidationException;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A slice of elements fetched through a {@link CursorPaginationRequest}.
+ * <p>
+ * The total number of elements is never computed for cursor slices; instead,
+ * the slice knows the {@link CursorPaginationRequest} for the following one,
+ * built from the sort keys of its last element. Unlike a {@link SliceContent},
+ * it cannot be navigated by page number, since a cursor slice can only be
+ * reached from the one before it.
+ *
+ * @param <T> the type of elements contained in the slice
+ * @author Mateus Pfeffer
+ * @see CursorPaginationRequest
+ * @since 1.0
+ */
+public class CursorSliceContent<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1752164394731573839L;
+
+    private final ArrayList<T> content = new ArrayList<>();
+
+    private final CursorPaginationRequest pagination;
+
+    private final CursorPaginationRequest next;
+
+    /**
+     * Constructs a new {@link CursorSliceContent}.
+     *
+     * @param content    the list of elements in this slice; must not be
+     *                   {@code null}
+     * @param pagination the cursor used to request this slice; must not be
+     *                   {@code null}
+     * @param next       the cursor for the next slice, or {@code null} if this
+     *                   is the last slice
+     * @throws InternalValidationException if content or pagination is
+     *                                     {@code null}
+     */
+    public CursorSliceContent(Collection<T> content, CursorPaginationRequest pagination, CursorPaginationRequest next) {
+        InternalValidation.notNull(content, "Content must not be null");
+        InternalValidation.notNull(pagination, "CursorPaginationRequest must not be null");
+
+        this.content.addAll(content);
+        this.pagination = pagination;
+        this.next = next;
+    }
+
+    /**
+     * Returns the zero-based number of this slice within the scroll.
+     *
+     * @return the number of this slice.
+     */
+    public int getNumber() {
+        return pagination.getPageNumber();
+    }
+
+    /**
+     * Returns the maximum number of elements of this slice.
+     *
+     * @return the requested page size.
+     */
+    public int getSize() {
+        return pagination.getPageSize();
+    }
+
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    public List<T> getContent() {
+        return Collections.unmodifiableList(content);
+    }
+
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    public String[] getSort() {
+        return pagination.getSort();
+    }
+
+    public boolean isFirst() {
+        return !pagination.hasPrevious();
+    }
+
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Returns the cursor used to request this slice.
+     *
+     * @return the cursor of this slice, never {@code null}.
+     */
+    public CursorPaginationRequest getPagination() {
+        return pagination;
+    }
+
+    /**
+     * Returns the cursor of the following slice.
+     *
+     * @return the cursor of the next slice, or empty if this is the last one.
+     */
+    public Optional<CursorPaginationRequest> nextPagination() {
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * Maps the content of this slice, keeping its cursors.
+     *
+     * @param converter the function to convert elements; must not be
+     *                  {@code null}
+     * @param <U>       the type of elements in the resulting slice
+     * @return a new {@link CursorSliceContent} with the mapped content
+     */
+    public <U> CursorSliceContent<U> map(Function<? super T, ? extends U> converter) {
+        InternalValidation.notNull(converter, "Function must not be null");
+
+        List<U> converted = content.stream().<U>map(converter).toList();
+
+        return new CursorSliceContent<>(converted, pagination, next);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof CursorSliceContent<?> that)) {
+            return false;
+        }
+
+        return content.equals(that.content)
+                && pagination.equals(that.pagination)
+                && Objects.equals(next, that.next);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+
+        result += 31 * content.hashCode();
+        result += 31 * pagination.hashCode();
+        result += 31 * Objects.hashCode(next);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cursor slice %d containing %d elements", getNumber() + 1, getNumberOfElements());
+    }
+
+}
@@ -68,6 +68,16 @@ public interface Pagination {
         return !isPaged();
     }
 
+    /**
+     * Returns how the total number of elements should be computed for this
+     * pagination.
+     *
+     * @return the {@link CountMode}, {@link CountMode#EXACT} by default.
+     */
+    default CountMode getCountMode() {
+        return CountMode.EXACT;
+    }
+
     /**
      * Gets the current page number.
      *
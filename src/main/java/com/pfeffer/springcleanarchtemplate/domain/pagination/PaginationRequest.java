@@ -20,6 +20,8 @@ public class PaginationRequest extends AbstractPaginationRequest {
 
     private final String[] sort;
 
+    private final CountMode countMode;
+
     /**
      * Constructs a new {@link PaginationRequest} with the specified page
      * number, page size, and sorting criteria.
@@ -31,11 +33,30 @@ public class PaginationRequest extends AbstractPaginationRequest {
      * @throws IllegalArgumentException if sort criteria is {@code null}.
      */
     protected PaginationRequest(int pageNumber, int pageSize, String[] sort) {
+        this(pageNumber, pageSize, sort, CountMode.EXACT);
+    }
+
+    /**
+     * Constructs a new {@link PaginationRequest} with the specified page
+     * number, page size, sorting criteria and count mode.
+     *
+     * @param pageNumber zero-based page number, must not be negative.
+     * @param pageSize   the size of the page to be returned, must be greater
+     *                   than 0.
+     * @param sort       the sorting criteria, must not be {@code null}.
+     * @param countMode  how the total number of elements is computed, must
+     *                   not be {@code null}.
+     * @throws IllegalArgumentException if sort criteria or count mode is
+     *                                  {@code null}.
+     */
+    protected PaginationRequest(int pageNumber, int pageSize, String[] sort, CountMode countMode) {
         super(pageNumber, pageSize);
 
         Validation.notNull(sort, "Sort must not be null");
+        Validation.notNull(countMode, "Count mode must not be null");
 
         this.sort = sort;
+        this.countMode = countMode;
     }
 
     /**
@@ -75,24 +96,29 @@ public class PaginationRequest extends AbstractPaginationRequest {
         return sort;
     }
 
+    @Override
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
     @Override
     public Pagination next() {
-        return new PaginationRequest(getPageNumber() + 1, getPageSize(), getSort());
+        return new PaginationRequest(getPageNumber() + 1, getPageSize(), getSort(), countMode);
     }
 
     @Override
     public Pagination previous() {
-        return getPageNumber() == 0 ? this : new PaginationRequest(getPageNumber() - 1, getPageSize(), getSort());
+        return getPageNumber() == 0 ? this : new PaginationRequest(getPageNumber() - 1, getPageSize(), getSort(), countMode);
     }
 
     @Override
     public Pagination first() {
-        return new PaginationRequest(0, getPageSize(), getSort());
+        return new PaginationRequest(0, getPageSize(), getSort(), countMode);
     }
 
     @Override
     public Pagination withPage(int pageNumber) {
-        return new PaginationRequest(pageNumber, getPageSize(), getSort());
+        return new PaginationRequest(pageNumber, getPageSize(), getSort(), countMode);
     }
 
     /**
@@ -104,7 +130,21 @@ public class PaginationRequest extends AbstractPaginationRequest {
      * @throws IllegalArgumentException if the sort criteria is {@code null}.
      */
     public PaginationRequest withSort(String... sort) {
-        return new PaginationRequest(getPageNumber(), getPageSize(), sort);
+        return new PaginationRequest(getPageNumber(), getPageSize(), sort, countMode);
+    }
+
+    /**
+     * Creates a new {@link PaginationRequest} instance with the specified
+     * count mode, maintaining the current page number, page size and sort
+     * criteria.
+     *
+     * @param countMode how the total number of elements is computed, must not
+     *                  be {@code null}.
+     * @return a new {@link PaginationRequest} instance with updated count mode.
+     * @throws IllegalArgumentException if the count mode is {@code null}.
+     */
+    public PaginationRequest withCountMode(CountMode countMode) {
+        return new PaginationRequest(getPageNumber(), getPageSize(), sort, countMode);
     }
 
     @Override
@@ -117,17 +157,17 @@ public class PaginationRequest extends AbstractPaginationRequest {
             return false;
         }
 
-        return super.equals(that) && Arrays.equals(sort, that.sort);
+        return super.equals(that) && Arrays.equals(sort, that.sort) && countMode == that.countMode;
     }
 
     @Override
     public int hashCode() {
-        return 31 * super.hashCode() + Arrays.hashCode(sort);
+        return 31 * (31 * super.hashCode() + Arrays.hashCode(sort)) + countMode.hashCode();
     }
 
     @Override
     public String toString() {
-        return String.format("Page request [number: %d, size %d, sort: %s]", getPageNumber(), getPageSize(), Arrays.toString(sort));
+        return String.format("Page request [number: %d, size %d, sort: %s, count: %s]", getPageNumber(), getPageSize(), Arrays.toString(sort), countMode);
     }
 
 }
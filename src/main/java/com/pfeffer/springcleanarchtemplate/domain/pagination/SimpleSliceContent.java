@@ -0,0 +1,88 @@
+package com.pfeffer.springcleanarchtemplate.domain.pagination;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link SliceContent} for pages fetched without counting
+ * the total number of elements.
+ * <p>
+ * Whether there is a following slice is known up front, usually by fetching
+ * one element more than the page size, so this class is suited for listings
+ * where a {@code count} query would cost more than the page itself.
+ *
+ * @param <T> the type of elements contained in the slice
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class SimpleSliceContent<T> extends ChunkContent<T> {
+
+    @Serial
+    private static final long serialVersionUID = 4630195571380529167L;
+
+    private final boolean hasNext;
+
+    /**
+     * Constructs a new {@link SimpleSliceContent} with the given content,
+     * pagination details and whether there is a following slice.
+     *
+     * @param content    the list of elements in this slice; must not be null
+     * @param pagination the pagination details for this slice; must not be
+     *                   null
+     * @param hasNext    whether there is a slice after this one
+     */
+    public SimpleSliceContent(Collection<T> content, Pagination pagination, boolean hasNext) {
+        super(content, pagination);
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Maps the content of this slice using a given function and returns a new
+     * {@link SliceContent} instance with the mapped content while preserving
+     * pagination details.
+     *
+     * @param <U>       the type of elements in the resulting slice
+     * @param converter the function to convert elements; must not be {@code
+     *                  null}
+     * @return a new {@link SliceContent} instance with the mapped content
+     */
+    @Override
+    public <U> SliceContent<U> map(Function<? super T, ? extends U> converter) {
+        return new SimpleSliceContent<>(getConvertedContent(converter), getPagination(), hasNext);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Slice %d containing %d elements", getNumber() + 1, getNumberOfElements());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof SimpleSliceContent<?> that)) {
+            return false;
+        }
+
+        return this.hasNext == that.hasNext && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+
+        result += 31 * Boolean.hashCode(hasNext);
+        result += 31 * super.hashCode();
+
+        return result;
+    }
+
+}
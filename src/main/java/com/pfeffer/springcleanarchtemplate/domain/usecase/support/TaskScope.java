@@ -0,0 +1,169 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent calls of a use case concurrently, each on its own virtual
+ * thread, so their latencies overlap instead of adding up.
+ * <p>
+ * It follows the shutdown-on-failure policy of {@code StructuredTaskScope},
+ * which is still a preview API in Java 21: {@link #join()} waits for every
+ * forked call, but as soon as one fails, or the deadline shared by all calls
+ * passes, the remaining ones are cancelled and the failure is rethrown.
+ * Closing the scope cancels any call still running and waits for it, so no
+ * thread outlives the scope.
+ * <p>
+ * Forked calls run outside the caller's thread, and therefore outside its
+ * transaction; only independent reads should be forked.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     try (TaskScope scope = TaskScope.withDeadline(Duration.ofSeconds(2))) {
+ *         Supplier<Optional<UserBO>> byUsername = scope.fork(() -> gateway.findByUsername(username));
+ *         Supplier<Optional<UserBO>> byEmail = scope.fork(() -> gateway.findByEmail(email));
+ *
+ *         scope.join();
+ *
+ *         return byUsername.get().isPresent() || byEmail.get().isPresent();
+ *     }
+ *     }
+ * </pre>
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public final class TaskScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-scope-", 0).factory());
+
+    private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+
+    private final List<Future<Object>> futures = new ArrayList<>();
+
+    private final long deadline;
+
+    private int joined;
+
+    private TaskScope(Duration timeout) {
+        this.deadline = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Opens a scope whose calls must all complete within the given timeout.
+     *
+     * @param timeout the time allowed for every call, from now, must be
+     *                positive.
+     * @return the new scope.
+     */
+    public static TaskScope withDeadline(Duration timeout) {
+        InternalValidation.notNull(timeout, "Timeout must not be null");
+        InternalValidation.isTrue(timeout.isPositive(), "Timeout must be positive");
+
+        return new TaskScope(timeout);
+    }
+
+    /**
+     * Starts a call returning a value.
+     *
+     * @param call the call to run.
+     * @param <T>  the type of the value.
+     * @return the value of the call, which is only available after
+     * {@link #join()} returns.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Supplier<? extends T> call) {
+        InternalValidation.notNull(call, "Call must not be null");
+
+        Future<Object> future = completion.submit(call::get);
+
+        futures.add(future);
+
+        return () -> (T) future.resultNow();
+    }
+
+    /**
+     * Starts a call returning no value, such as a validation that throws when
+     * it fails.
+     *
+     * @param call the call to run.
+     */
+    public void fork(Runnable call) {
+        InternalValidation.notNull(call, "Call must not be null");
+
+        futures.add(completion.submit(call, null));
+    }
+
+    /**
+     * Waits for every call forked so far.
+     *
+     * @throws RuntimeException   the exception thrown by the first call to
+     *                            fail, after the other calls are cancelled.
+     * @throws LocalizedException with {@link SimpleErrorCode#TIMEOUT} if the
+     *                            deadline passes first.
+     */
+    public void join() {
+        try {
+            for (; joined < futures.size(); joined++) {
+                Future<Object> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    throw new LocalizedException(SimpleErrorCode.TIMEOUT);
+                }
+
+                if (done.state() == Future.State.FAILED) {
+                    throw propagate(done.exceptionNow());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+
+            throw new LocalizedException(SimpleErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (RuntimeException | Error e) {
+            cancel();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels the calls still running and waits for them to finish.
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.close();
+    }
+
+    private void cancel() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+
+        if (failure instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(failure);
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the execution facilities shared by the use cases,
+ * such as running independent gateway calls concurrently.
+ */
+package com.pfeffer.springcleanarchtemplate.domain.usecase.support;
@@ -7,6 +7,7 @@ import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
 import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
 import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
 
 public class CreateUser {
 
@@ -17,28 +18,15 @@ public class CreateUser {
     }
 
     public UserResponseDTO execute(UserRequestDTO dto) {
-        verifyExisting(dto);
-
         UserBO bo = UserMapper.toBO(dto);
-        bo = gateway.save(bo);
-
-        return UserMapper.toResponseDTO(bo);
-    }
 
-    private void verifyExisting(UserRequestDTO dto) {
-        UserBO bo = gateway.findByUsername(dto.getUsername())
-                .orElse(null);
+        InsertResult<UserBO> result = gateway.create(bo);
 
-        if (bo != null) {
-            throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", "username");
+        if (!result.isInserted()) {
+            throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", result.conflict());
         }
 
-        bo = gateway.findByEmail(dto.getEmail())
-                .orElse(null);
-
-        if (bo != null) {
-            throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", "email");
-        }
+        return UserMapper.toResponseDTO(result.value());
     }
 
 }
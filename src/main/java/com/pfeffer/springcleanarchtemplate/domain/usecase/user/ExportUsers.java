@@ -0,0 +1,48 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.io.OutputStream;
+
+public class ExportUsers {
+
+    private final UserGateway gateway;
+
+    public ExportUsers(UserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public long execute(UserExportFilterDTO filter, ExportFormat format, OutputStream out) {
+        validate(filter, format);
+
+        return gateway.export(filter, format, out);
+    }
+
+    /**
+     * Validates an export request without running it, so that a streamed
+     * export can be rejected before its response is committed.
+     *
+     * @param filter the export filter
+     * @param format the export format
+     * @throws LocalizedException if the filter or the format is invalid
+     */
+    public void validate(UserExportFilterDTO filter, ExportFormat format) {
+        if (filter == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUEST_DTO_NULL);
+        }
+
+        if (format == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUIRED_FIELD, "format");
+        }
+
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "createdFrom");
+        }
+    }
+
+}
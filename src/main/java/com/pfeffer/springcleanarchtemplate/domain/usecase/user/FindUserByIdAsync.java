@@ -0,0 +1,26 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.AsyncGateway;
+
+import java.util.concurrent.CompletableFuture;
+
+public class FindUserByIdAsync {
+
+    private final AsyncGateway<UserBO, Long> gateway;
+
+    public FindUserByIdAsync(AsyncGateway<UserBO, Long> gateway) {
+        this.gateway = gateway;
+    }
+
+    public CompletableFuture<UserResponseDTO> execute(Long id) {
+        return gateway.findById(id)
+                .thenApply(user -> UserMapper.toResponseDTO(user
+                        .orElseThrow(() -> new LocalizedException(SimpleErrorCode.NOT_FOUND, "user", "id"))));
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.ReactiveGateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.FlowPublishers;
+
+import java.util.concurrent.CompletableFuture;
+
+public class FindUserByIdReactive {
+
+    private final ReactiveGateway<UserBO, Long> gateway;
+
+    public FindUserByIdReactive(ReactiveGateway<UserBO, Long> gateway) {
+        this.gateway = gateway;
+    }
+
+    public CompletableFuture<UserResponseDTO> execute(Long id) {
+        return FlowPublishers.first(gateway.findById(id))
+                .thenApply(user -> UserMapper.toResponseDTO(user
+                        .orElseThrow(() -> new LocalizedException(SimpleErrorCode.NOT_FOUND, "user", "id"))));
+    }
+
+}
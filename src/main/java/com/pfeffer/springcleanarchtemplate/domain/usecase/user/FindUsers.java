@@ -0,0 +1,61 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserBatchGetRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FindUsers {
+
+    private static final int MAX_KEYS = 1_000;
+
+    private final UserGateway gateway;
+
+    public FindUsers(UserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public List<UserResponseDTO> execute(UserBatchGetRequestDTO dto) {
+        if (dto == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUEST_DTO_NULL);
+        }
+
+        List<Long> ids = orEmpty(dto.getIds());
+        List<String> usernames = orEmpty(dto.getUsernames());
+        List<String> emails = orEmpty(dto.getEmails());
+
+        if (ids.size() + usernames.size() + emails.size() > MAX_KEYS) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "ids");
+        }
+
+        Map<Long, UserBO> users = new LinkedHashMap<>();
+
+        if (!ids.isEmpty()) {
+            gateway.findByIds(ids).forEach(user -> users.putIfAbsent(user.getId(), user));
+        }
+
+        if (!usernames.isEmpty()) {
+            gateway.findByUsernames(usernames).forEach(user -> users.putIfAbsent(user.getId(), user));
+        }
+
+        if (!emails.isEmpty()) {
+            gateway.findByEmails(emails).forEach(user -> users.putIfAbsent(user.getId(), user));
+        }
+
+        return users.values().stream()
+                .map(UserMapper::toResponseDTO)
+                .toList();
+    }
+
+    private static <T> List<T> orEmpty(List<T> keys) {
+        return keys == null ? List.of() : keys;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.AsyncGateway;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class FindUsersByIdsAsync {
+
+    private static final int MAX_IDS = 1_000;
+
+    private final AsyncGateway<UserBO, Long> gateway;
+
+    public FindUsersByIdsAsync(AsyncGateway<UserBO, Long> gateway) {
+        this.gateway = gateway;
+    }
+
+    public CompletableFuture<List<UserResponseDTO>> execute(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        if (ids.size() > MAX_IDS) {
+            return CompletableFuture.failedFuture(new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "ids"));
+        }
+
+        return gateway.findByIds(ids)
+                .thenApply(users -> users.stream()
+                        .map(UserMapper::toResponseDTO)
+                        .toList());
+    }
+
+}
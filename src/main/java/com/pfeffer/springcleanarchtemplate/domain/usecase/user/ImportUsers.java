@@ -0,0 +1,126 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.ImportErrorDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.ImportReportDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.EmailVO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports users read one row at a time, validating each row like
+ * {@link CreateUser} and inserting the valid ones in chunks of
+ * {@value #CHUNK_SIZE} rows, so memory does not grow with the number of rows.
+ * <p>
+ * Rows are numbered from 1, in the order they are read. Only the first
+ * {@value #MAX_REPORTED_ERRORS} rejected rows are reported individually.
+ */
+public class ImportUsers {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final int MAX_NAME_LENGTH = 60;
+
+    private static final int MAX_USERNAME_LENGTH = 30;
+
+    private static final int MAX_EMAIL_LENGTH = 150;
+
+    private final UserGateway gateway;
+
+    public ImportUsers(UserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public ImportReportDTO execute(Iterator<UserRequestDTO> rows) {
+        if (rows == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUEST_DTO_NULL);
+        }
+
+        ImportReportDTO report = new ImportReportDTO();
+        List<UserBO> chunk = new ArrayList<>(CHUNK_SIZE);
+        long[] chunkRows = new long[CHUNK_SIZE];
+        long row = 0;
+
+        while (rows.hasNext()) {
+            row++;
+
+            try {
+                UserBO bo = toValidBO(rows.next());
+
+                chunkRows[chunk.size()] = row;
+                chunk.add(bo);
+            } catch (LocalizedException e) {
+                reject(report, row, e);
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                insert(chunk, chunkRows, report);
+            }
+        }
+
+        insert(chunk, chunkRows, report);
+        report.getErrors().sort(Comparator.comparingLong(ImportErrorDTO::getRow));
+
+        return report;
+    }
+
+    private UserBO toValidBO(UserRequestDTO dto) {
+        if (dto == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUEST_DTO_NULL);
+        }
+
+        dto.setId(null);
+
+        UserBO bo = UserMapper.toBO(dto);
+        new EmailVO(bo.getEmail());
+
+        verifyLength("firstName", bo.getFirstName(), MAX_NAME_LENGTH);
+        verifyLength("lastName", bo.getLastName(), MAX_NAME_LENGTH);
+        verifyLength("username", bo.getUsername(), MAX_USERNAME_LENGTH);
+        verifyLength("email", bo.getEmail(), MAX_EMAIL_LENGTH);
+
+        return bo;
+    }
+
+    private void verifyLength(String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new LocalizedException(SimpleErrorCode.STRING_CANT_BE_LONGER_THAN, field, maxLength);
+        }
+    }
+
+    private void insert(List<UserBO> chunk, long[] chunkRows, ImportReportDTO report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> conflicts = gateway.insertAllIfAbsent(chunk);
+
+        conflicts.forEach((position, field) -> reject(report, chunkRows[position],
+                new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", field)));
+
+        report.setImported(report.getImported() + chunk.size() - conflicts.size());
+        chunk.clear();
+    }
+
+    private void reject(ImportReportDTO report, long row, LocalizedException e) {
+        report.setRejected(report.getRejected() + 1);
+
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ImportErrorDTO(row, e.getMessage()));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.PaginatedResponseDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ListUser {
 
@@ -26,10 +32,39 @@ public class ListUser {
                 .toList();
     }
 
+    public void execute(Consumer<UserResponseDTO> consumer) {
+        try (Stream<UserBO> users = gateway.streamAll()) {
+            users.map(UserMapper::toResponseDTO)
+                    .forEach(consumer);
+        }
+    }
+
     public PaginatedResponseDTO<UserResponseDTO> execute(Pagination pagination) {
         PageContent<UserBO> usersPage = gateway.findAll(pagination);
 
         return new PaginatedResponseDTO<>(usersPage.map(UserMapper::toResponseDTO));
     }
 
+    public PaginatedResponseDTO<UserResponseDTO> execute(Pagination pagination, boolean count) {
+        if (count) {
+            return execute(pagination);
+        }
+
+        SliceContent<UserBO> usersSlice = gateway.findSlice(pagination);
+
+        return new PaginatedResponseDTO<>(usersSlice.map(UserMapper::toResponseDTO));
+    }
+
+    public PaginatedResponseDTO<UserResponseDTO> execute(UserFilterDTO filter, Pagination pagination) {
+        PageContent<UserBO> usersPage = gateway.findAll(filter, pagination);
+
+        return new PaginatedResponseDTO<>(usersPage.map(UserMapper::toResponseDTO));
+    }
+
+    public PaginatedResponseDTO<UserResponseDTO> execute(CursorPaginationRequest pagination) {
+        CursorSliceContent<UserBO> usersSlice = gateway.scroll(pagination);
+
+        return new PaginatedResponseDTO<>(usersSlice.map(UserMapper::toResponseDTO));
+    }
+
 }
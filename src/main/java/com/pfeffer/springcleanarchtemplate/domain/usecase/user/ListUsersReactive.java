@@ -0,0 +1,24 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.mapper.UserMapper;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.ReactiveGateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.FlowPublishers;
+
+import java.util.concurrent.Flow;
+
+public class ListUsersReactive {
+
+    private final ReactiveGateway<UserBO, Long> gateway;
+
+    public ListUsersReactive(ReactiveGateway<UserBO, Long> gateway) {
+        this.gateway = gateway;
+    }
+
+    public Flow.Publisher<UserResponseDTO> execute() {
+        // Keyset order, so each page is a seek from the previous one
+        return FlowPublishers.map(gateway.findAll("id"), UserMapper::toResponseDTO);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.usecase.support.TaskScope;
+import com.pfeffer.springcleanarchtemplate.domain.utils.type.StringUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public class PatchUser {
+
+    private static final Map<String, Function<UserRequestDTO, Object>> PATCHABLE_FIELDS = Map.of(
+            "firstName", UserRequestDTO::getFirstName,
+            "lastName", UserRequestDTO::getLastName,
+            "username", UserRequestDTO::getUsername,
+            "email", UserRequestDTO::getEmail,
+            "status", UserRequestDTO::getStatus,
+            "disabledAt", UserRequestDTO::getDisabledAt,
+            "lastLoginAt", UserRequestDTO::getLastLoginAt
+    );
+
+    private static final Set<String> REQUIRED_FIELDS = Set.of("firstName", "username", "email", "status");
+
+    private static final Duration UNIQUENESS_CHECKS_DEADLINE = Duration.ofSeconds(5);
+
+    private final UserGateway gateway;
+
+    public PatchUser(UserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public void execute(Long id, UserRequestDTO dto, Set<String> fields) {
+        if (dto == null || fields == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUEST_DTO_NULL);
+        }
+
+        Map<String, Object> changes = new HashMap<>();
+
+        for (String field : fields) {
+            Function<UserRequestDTO, Object> getter = PATCHABLE_FIELDS.get(field);
+
+            if (getter == null) {
+                throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, field);
+            }
+
+            Object value = getter.apply(dto);
+
+            if (REQUIRED_FIELDS.contains(field) && (value == null || value instanceof String s && !StringUtils.hasLength(s))) {
+                throw new LocalizedException(SimpleErrorCode.REQUIRED_FIELD, field);
+            }
+
+            changes.put(field, value);
+        }
+
+        try (TaskScope scope = TaskScope.withDeadline(UNIQUENESS_CHECKS_DEADLINE)) {
+            scope.fork(() -> verifyUnique(id, "username", dto.getUsername(), changes, gateway::findByUsername));
+            scope.fork(() -> verifyUnique(id, "email", dto.getEmail(), changes, gateway::findByEmail));
+
+            scope.join();
+        }
+
+        if (!gateway.updateById(id, changes)) {
+            throw new LocalizedException(SimpleErrorCode.NOT_FOUND, "user", "id");
+        }
+    }
+
+    private void verifyUnique(Long id, String field, String value, Map<String, Object> changes,
+                              Function<String, Optional<UserBO>> finder) {
+        if (!changes.containsKey(field)) {
+            return;
+        }
+
+        finder.apply(value)
+                .filter(existing -> !existing.getId().equals(id))
+                .ifPresent(existing -> {
+                    throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", field);
+                });
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.time.LocalDateTime;
+
+public class RecordUserLogin {
+
+    private final UserGateway gateway;
+
+    public RecordUserLogin(UserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public void execute(Long id) {
+        if (id == null) {
+            throw new LocalizedException(SimpleErrorCode.REQUIRED_FIELD, "id");
+        }
+
+        // Usually served by the cache. Unknown ids are rejected before they reach the write-behind buffer
+        boolean active = gateway.findById(id)
+                .filter(user -> user.getDeletedAt() == null)
+                .isPresent();
+
+        if (!active) {
+            throw new LocalizedException(SimpleErrorCode.NOT_FOUND, "user", "id");
+        }
+
+        gateway.touchLastLogin(id, LocalDateTime.now());
+    }
+
+}
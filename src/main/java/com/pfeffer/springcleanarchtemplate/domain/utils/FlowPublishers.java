@@ -0,0 +1,133 @@
+package com.pfeffer.springcleanarchtemplate.domain.utils;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Operators for the {@link Flow.Publisher}s returned by the reactive
+ * gateways, so use cases can transform them without a Reactive Streams
+ * library.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public final class FlowPublishers {
+
+    private FlowPublishers() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Returns a publisher emitting the elements of the source converted by
+     * the mapper. Demand and cancellation are passed through to the source;
+     * an exception thrown by the mapper cancels the source and is signalled
+     * to the subscriber.
+     *
+     * @param source the publisher to convert, must not be {@code null}
+     * @param mapper converts each element, must not be {@code null}
+     * @param <T>    the type of the elements of the source
+     * @param <R>    the type of the converted elements
+     * @return the converting publisher
+     */
+    public static <T, R> Flow.Publisher<R> map(Flow.Publisher<T> source, Function<? super T, ? extends R> mapper) {
+        InternalValidation.notNull(source, "Publisher source must not be null");
+        InternalValidation.notNull(mapper, "Function mapper must not be null");
+
+        return subscriber -> source.subscribe(new Flow.Subscriber<T>() {
+
+            private Flow.Subscription subscription;
+
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(T item) {
+                if (done) {
+                    return;
+                }
+
+                R mapped;
+
+                try {
+                    mapped = mapper.apply(item);
+                } catch (RuntimeException e) {
+                    done = true;
+                    subscription.cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+
+                subscriber.onNext(mapped);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(throwable);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Requests the first element of the publisher, then cancels it.
+     *
+     * @param source the publisher, must not be {@code null}
+     * @param <T>    the type of the elements
+     * @return the first element, empty if the publisher completes without
+     * any, or completed exceptionally with the error it signals
+     */
+    public static <T> CompletableFuture<Optional<T>> first(Flow.Publisher<T> source) {
+        InternalValidation.notNull(source, "Publisher source must not be null");
+
+        CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+
+        source.subscribe(new Flow.Subscriber<T>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                subscription.cancel();
+                result.complete(Optional.of(item));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(Optional.empty());
+            }
+
+        });
+
+        return result;
+    }
+
+}
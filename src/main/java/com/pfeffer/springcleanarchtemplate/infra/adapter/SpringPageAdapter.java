@@ -36,7 +36,7 @@ public class SpringPageAdapter<T> implements PageContent<T> {
 
     @Override
     public long getTotalElements() {
-        return page.getNumberOfElements();
+        return page.getTotalElements();
     }
 
     @Override
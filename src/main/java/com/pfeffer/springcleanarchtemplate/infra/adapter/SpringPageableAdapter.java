@@ -1,11 +1,15 @@
 package com.pfeffer.springcleanarchtemplate.infra.adapter;
 
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
 import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Adapter for converting Spring's {@link Pageable} interface to the
  * domain-specific {@link Pagination} and vice versa.
@@ -17,10 +21,18 @@ public class SpringPageableAdapter implements Pagination {
 
     private final Pageable pageable;
 
+    private final CountMode countMode;
+
     public SpringPageableAdapter(Pageable pageable) {
+        this(pageable, CountMode.EXACT);
+    }
+
+    public SpringPageableAdapter(Pageable pageable, CountMode countMode) {
         InternalValidation.notNull(pageable, "Pageable must not be null");
+        InternalValidation.notNull(countMode, "CountMode must not be null");
 
         this.pageable = pageable;
+        this.countMode = countMode;
     }
 
     /**
@@ -35,10 +47,39 @@ public class SpringPageableAdapter implements Pagination {
         return PageRequest.of(
                 pagination.getPageNumber(),
                 pagination.getPageSize(),
-                Sort.by(pagination.getSort())
+                toSort(pagination.getSort())
         );
     }
 
+    /**
+     * Converts the domain-specific sort criteria to a Spring {@link Sort}.
+     * <p>
+     * Each criterion is a property name optionally followed by a direction,
+     * separated by a comma or a space (e.g. {@code "name"}, {@code "name,desc"}
+     * or {@code "name DESC"}). Properties without a direction are sorted in
+     * ascending order.
+     *
+     * @param sort the domain-specific sort criteria, must not be {@code null}
+     * @return a Spring {@link Sort} corresponding to the provided criteria
+     */
+    public static Sort toSort(String[] sort) {
+        InternalValidation.notNull(sort, "Sort must not be null");
+
+        List<Sort.Order> orders = new ArrayList<>(sort.length);
+
+        for (String criterion : sort) {
+            String[] parts = criterion.trim().split("[,\\s]+");
+
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromString(parts[1])
+                    : Sort.DEFAULT_DIRECTION;
+
+            orders.add(new Sort.Order(direction, parts[0]));
+        }
+
+        return Sort.by(orders);
+    }
+
     @Override
     public int getPageNumber() {
         return pageable.getPageNumber();
@@ -63,22 +104,22 @@ public class SpringPageableAdapter implements Pagination {
 
     @Override
     public Pagination next() {
-        return new SpringPageableAdapter(pageable.next());
+        return new SpringPageableAdapter(pageable.next(), countMode);
     }
 
     @Override
     public Pagination previousOrFirst() {
-        return new SpringPageableAdapter(pageable.previousOrFirst());
+        return new SpringPageableAdapter(pageable.previousOrFirst(), countMode);
     }
 
     @Override
     public Pagination first() {
-        return new SpringPageableAdapter(pageable.first());
+        return new SpringPageableAdapter(pageable.first(), countMode);
     }
 
     @Override
     public Pagination withPage(int pageNumber) {
-        return new SpringPageableAdapter(pageable.withPage(pageNumber));
+        return new SpringPageableAdapter(pageable.withPage(pageNumber), countMode);
     }
 
     @Override
@@ -86,4 +127,9 @@ public class SpringPageableAdapter implements Pagination {
         return pageable.hasPrevious();
     }
 
+    @Override
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
 }
@@ -0,0 +1,114 @@
+package com.pfeffer.springcleanarchtemplate.infra.adapter;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Adapter between the domain-specific {@link CursorPaginationRequest} and
+ * Spring Data's keyset {@link ScrollPosition} and {@link Window}.
+ * <p>
+ * Cursor keys are carried as strings in the domain, so they are converted
+ * back to the Java type of the corresponding entity attribute before being
+ * handed to Spring Data.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public final class SpringScrollPositionAdapter {
+
+    private SpringScrollPositionAdapter() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Converts a {@link CursorPaginationRequest} to a keyset
+     * {@link ScrollPosition}.
+     *
+     * @param pagination    the cursor to convert
+     * @param attributeType resolves the Java type of an entity attribute by
+     *                      its name
+     * @return the initial keyset position for the first page, or a forward
+     * keyset position after the keys carried by the cursor
+     * @throws LocalizedException if a key of the cursor does not match an
+     *                            attribute of the entity or cannot be
+     *                            converted to its type
+     */
+    public static KeysetScrollPosition toScrollPosition(CursorPaginationRequest pagination,
+                                                        Function<String, Class<?>> attributeType) {
+        InternalValidation.notNull(pagination, "CursorPaginationRequest must not be null");
+        InternalValidation.notNull(attributeType, "Function attributeType must not be null");
+
+        if (pagination.getKeys().isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+
+        try {
+            pagination.getKeys().forEach((property, value) ->
+                    keys.put(property, convert(value, attributeType.apply(property))));
+        } catch (RuntimeException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Converts a Spring Data {@link Window} to a {@link CursorSliceContent},
+     * deriving the cursor of the next slice from the position of the last
+     * element of the window.
+     *
+     * @param window     the window returned by Spring Data
+     * @param pagination the cursor used to request the window
+     * @param <T>        the type of the elements in the window
+     * @return the slice with the window content
+     */
+    public static <T> CursorSliceContent<T> toSliceContent(Window<T> window, CursorPaginationRequest pagination) {
+        InternalValidation.notNull(window, "Window must not be null");
+        InternalValidation.notNull(pagination, "CursorPaginationRequest must not be null");
+
+        CursorPaginationRequest next = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            Map<String, String> keys = new LinkedHashMap<>();
+
+            position.getKeys().forEach((property, value) ->
+                    keys.put(property, value == null ? null : value.toString()));
+
+            next = pagination.after(keys);
+        }
+
+        return new CursorSliceContent<>(window.getContent(), pagination, next);
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+
+        if (TemporalAccessor.class.isAssignableFrom(type)) {
+            try {
+                return type.getMethod("parse", CharSequence.class).invoke(null, value);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot convert cursor key to " + type.getName(), e);
+            }
+        }
+
+        return DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+
+}
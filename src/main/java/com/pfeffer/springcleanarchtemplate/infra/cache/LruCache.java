@@ -0,0 +1,211 @@
+package com.pfeffer.springcleanarchtemplate.infra.cache;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size-bounded, in-process cache that evicts the least recently used entry
+ * once {@code maximumSize} is reached, and expires entries
+ * {@code timeToLive} after they were written.
+ * <p>
+ * Access order is kept by a {@link LinkedHashMap} guarded by a single lock,
+ * which is held only for the map operation itself. Hit, miss, put and
+ * eviction counts are recorded for {@link LruCacheMetrics}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @author Mateus Pfeffer
+ * @see LruCacheMetrics
+ * @since 1.0
+ */
+public class LruCache<K, V> {
+
+    private final long maximumSize;
+
+    private final long timeToLiveNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder puts = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new {@link LruCache}.
+     *
+     * @param maximumSize the maximum number of entries, must be greater than
+     *                    zero
+     * @param timeToLive  how long an entry is kept after being written, must
+     *                    be positive
+     */
+    public LruCache(long maximumSize, Duration timeToLive) {
+        InternalValidation.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+        InternalValidation.notNull(timeToLive, "Time to live must not be null");
+        InternalValidation.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for the given key, recording a hit or a miss.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public V get(K key) {
+        V value = getQuietly(key);
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the value cached for the given key without recording a hit or
+     * a miss, e.g. for lookups on secondary keys.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public V getQuietly(K key) {
+        lock.lock();
+
+        try {
+            Entry<V> entry = entries.get(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt() - System.nanoTime() <= 0) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a miss that was resolved without calling {@link #get(Object)},
+     * so the hit ratio reflects every lookup served by the cache owner.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Caches a value, evicting the least recently used entry if the cache is
+     * full.
+     *
+     * @param key   the key, must not be {@code null}
+     * @param value the value, must not be {@code null}
+     */
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + timeToLiveNanos);
+
+        lock.lock();
+
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+
+        puts.increment();
+    }
+
+    /**
+     * Removes the value cached for the given key.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the removed value, or {@code null} if absent
+     */
+    public V remove(K key) {
+        lock.lock();
+
+        try {
+            Entry<V> entry = entries.remove(key);
+            return entry == null ? null : entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        lock.lock();
+
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long size() {
+        lock.lock();
+
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.pfeffer.springcleanarchtemplate.infra.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Binds the statistics of a {@link LruCache} to Micrometer, publishing the
+ * standard {@code cache.*} meters (gets by result, puts, evictions and size)
+ * plus a {@code cache.hit.ratio} gauge.
+ *
+ * @author Mateus Pfeffer
+ * @see LruCache
+ * @since 1.0
+ */
+public class LruCacheMetrics extends CacheMeterBinder<LruCache<?, ?>> {
+
+    public LruCacheMetrics(LruCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+    }
+
+    @Override
+    protected Long size() {
+        LruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        LruCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        LruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        LruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        LruCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.hit.ratio", this, LruCacheMetrics::hitRatio)
+                .tags(getTagsWithCacheName())
+                .description("The ratio of cache gets that were served from the cache")
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        LruCache<?, ?> cache = getCache();
+
+        if (cache == null) {
+            return Double.NaN;
+        }
+
+        long hits = cache.hitCount();
+        long total = hits + cache.missCount();
+
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+
+}
@@ -0,0 +1,381 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A concurrent hash map from primitive {@code long} keys to values, so keys
+ * are never boxed and each entry costs one {@code long} and one reference.
+ * <p>
+ * The map is split into a power-of-two number of segments, each an
+ * open-addressing table with linear probing guarded by its own
+ * {@link StampedLock}. Writes lock only the segment of their key; reads are
+ * optimistic and take the read lock only if a write to the same segment
+ * overlapped them. Tables double once they are three quarters full and
+ * removals shift the following entries back, so no tombstones accumulate.
+ * <p>
+ * {@code null} values are not allowed, since an empty slot is one without a
+ * value.
+ *
+ * @param <V> the type of the values
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+
+    private final int segmentShift;
+
+    /**
+     * Constructs a new {@link ConcurrentLongMap}.
+     *
+     * @param expectedSize the number of entries the map is sized for, must
+     *                     not be negative
+     * @param concurrency  the minimum number of segments, must be greater
+     *                     than zero; it is rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int expectedSize, int concurrency) {
+        InternalValidation.isTrue(expectedSize >= 0, "Expected size must not be negative");
+        InternalValidation.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, concurrency - 1)) << (concurrency > 1 ? 1 : 0);
+        int segmentCapacity = tableSize(expectedSize / segmentCount + 1);
+
+        this.segments = (Segment<V>[]) new Segment<?>[segmentCount];
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * Constructs a new {@link ConcurrentLongMap} with four segments per
+     * available processor.
+     */
+    public ConcurrentLongMap() {
+        this(0, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    public V get(long key) {
+        long hash = hash(key);
+
+        return segmentFor(hash).get(key, hash);
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param key   the key
+     * @param value the value, must not be {@code null}
+     * @return the previous value, or {@code null} if the key was absent
+     */
+    public V put(long key, V value) {
+        InternalValidation.notNull(value, "Value must not be null");
+
+        long hash = hash(key);
+
+        return segmentFor(hash).put(key, hash, value);
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    public V remove(long key) {
+        long hash = hash(key);
+
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * Returns the number of entries. Entries written concurrently may or may
+     * not be counted.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+
+        return size;
+    }
+
+    /**
+     * Calls the action with every value, one segment at a time. Each segment
+     * is read under its read lock, so the action must not write to this map.
+     *
+     * @param action the action to call
+     */
+    public void forEachValue(Consumer<? super V> action) {
+        InternalValidation.notNull(action, "Action must not be null");
+
+        for (Segment<V> segment : segments) {
+            segment.forEachValue(action);
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    /**
+     * The finalizer of MurmurHash3, so sequential identifiers spread evenly
+     * across segments and slots.
+     */
+    private static long hash(long key) {
+        long h = key;
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    private static int tableSize(int entries) {
+        long capacity = Math.max(MIN_SEGMENT_CAPACITY, (long) Math.ceil(entries / 0.75));
+
+        InternalValidation.isTrue(capacity <= 1 << 30, "Expected size is too large");
+
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    private static final class Segment<V> {
+
+        private final StampedLock lock = new StampedLock();
+
+        private Table table;
+
+        private int size;
+
+        private Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        private V get(long key, long hash) {
+            long stamp = lock.tryOptimisticRead();
+
+            if (stamp != 0) {
+                Object value = table.find(key, hash);
+
+                if (lock.validate(stamp)) {
+                    return cast(value);
+                }
+            }
+
+            stamp = lock.readLock();
+
+            try {
+                return cast(table.find(key, hash));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private V put(long key, long hash, V value) {
+            long stamp = lock.writeLock();
+
+            try {
+                Table current = table;
+                int mask = current.keys.length - 1;
+
+                for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+                    Object existing = current.values[slot];
+
+                    if (existing == null) {
+                        current.keys[slot] = key;
+                        current.values[slot] = value;
+
+                        if (++size > current.keys.length * 3 / 4) {
+                            table = current.resize();
+                        }
+
+                        return null;
+                    }
+
+                    if (current.keys[slot] == key) {
+                        current.values[slot] = value;
+
+                        return cast(existing);
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private V remove(long key, long hash) {
+            long stamp = lock.writeLock();
+
+            try {
+                Table current = table;
+                int mask = current.keys.length - 1;
+
+                for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+                    Object existing = current.values[slot];
+
+                    if (existing == null) {
+                        return null;
+                    }
+
+                    if (current.keys[slot] == key) {
+                        current.shiftBack(slot);
+                        size--;
+
+                        return cast(existing);
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void forEachValue(Consumer<? super V> action) {
+            long stamp = lock.readLock();
+
+            try {
+                for (Object value : table.values) {
+                    if (value != null) {
+                        action.accept(cast(value));
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void clear() {
+            long stamp = lock.writeLock();
+
+            try {
+                table = new Table(MIN_SEGMENT_CAPACITY);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> V cast(Object value) {
+            return (V) value;
+        }
+
+    }
+
+    /**
+     * The slots of a segment. Both arrays are replaced together on resize, so
+     * an optimistic reader always sees arrays of the same length.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+
+        private final Object[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+
+        /**
+         * Probes at most every slot once, so it terminates even when a
+         * concurrent write leaves the table inconsistent for an optimistic
+         * reader.
+         */
+        private Object find(long key, long hash) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+
+            for (int probes = 0; probes <= mask; probes++, slot = (slot + 1) & mask) {
+                Object value = values[slot];
+
+                if (value == null) {
+                    return null;
+                }
+
+                if (keys[slot] == key) {
+                    return value;
+                }
+            }
+
+            return null;
+        }
+
+        private Table resize() {
+            Table resized = new Table(keys.length * 2);
+            int mask = resized.keys.length - 1;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    int slot = (int) hash(keys[i]) & mask;
+
+                    while (resized.values[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+
+                    resized.keys[slot] = keys[i];
+                    resized.values[slot] = values[i];
+                }
+            }
+
+            return resized;
+        }
+
+        /**
+         * Empties a slot and moves back the entries of the same probe run
+         * that would no longer be reachable from their home slot.
+         */
+        private void shiftBack(int emptied) {
+            int mask = keys.length - 1;
+            int gap = emptied;
+
+            for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+                int home = (int) hash(keys[slot]) & mask;
+
+                // Moves the entry unless its home lies cyclically within (gap, slot]
+                if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                    keys[gap] = keys[slot];
+                    values[gap] = values[slot];
+                    gap = slot;
+                }
+            }
+
+            values[gap] = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Runs items submitted concurrently through a batch function on a single
+ * committer thread, so that writes issued by many callers share one
+ * transaction and one commit.
+ * <p>
+ * The committer waits for an item, then collects the items submitted within
+ * {@code maxWait} of it, up to {@code maxBatchSize}, and runs them as one
+ * batch. While a batch runs, new items queue up for the next one, so batches
+ * grow with the load instead of with the wait. Each caller of
+ * {@link #submit(Object)} blocks until its own result is known, or until
+ * its timeout passes.
+ * <p>
+ * If a batch fails, its items are run again one at a time, so an item that
+ * cannot be written fails alone instead of failing every other item of its
+ * batch.
+ * <p>
+ * Items still queued when the committer thread stops, because it was
+ * interrupted or because {@link #close()} stopped waiting for it, fail with
+ * {@link SimpleErrorCode#UNAVAILABLE} instead of blocking their callers.
+ *
+ * @param <T> the type of the items
+ * @param <R> the type of the results
+ * @author Mateus Pfeffer
+ * @see MicroBatchLoader
+ * @since 1.0
+ */
+public class GroupCommitter<T, R> implements AutoCloseable {
+
+    private final Function<List<T>, List<R>> batchFunction;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitNanos;
+
+    private final long timeoutNanos;
+
+    private final BlockingQueue<Pending<T, R>> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * Queued by {@link #close()} to wake the committer up; never run.
+     */
+    private final Pending<T, R> closeSignal = new Pending<>(null, null);
+
+    private final Thread committer;
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder items = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@link GroupCommitter} and starts its committer
+     * thread.
+     *
+     * @param batchFunction returns the result of each item of a batch, at
+     *                      the same position, must not be {@code null}
+     * @param maxBatchSize  the maximum number of items in a batch, must be
+     *                      greater than zero
+     * @param maxWait       how long the first item of a batch waits for
+     *                      others, must not be negative
+     * @param timeout       how long a caller waits for the result of its
+     *                      item, must be positive
+     * @param threadName    the name of the committer thread, must not be
+     *                      {@code null}
+     */
+    public GroupCommitter(Function<List<T>, List<R>> batchFunction,
+                          int maxBatchSize,
+                          Duration maxWait,
+                          Duration timeout,
+                          String threadName) {
+        InternalValidation.notNull(batchFunction, "Function batchFunction must not be null");
+        InternalValidation.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+        InternalValidation.notNull(maxWait, "Max wait must not be null");
+        InternalValidation.isTrue(!maxWait.isNegative(), "Max wait must not be negative");
+        InternalValidation.notNull(timeout, "Timeout must not be null");
+        InternalValidation.isTrue(timeout.isPositive(), "Timeout must be positive");
+        InternalValidation.notNull(threadName, "Thread name must not be null");
+
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.committer = Thread.ofPlatform().name(threadName).daemon().start(this::commitLoop);
+    }
+
+    /**
+     * Runs the item as part of a batch, blocking until the batch completes.
+     *
+     * @param item the item to run, must not be {@code null}
+     * @return the result of the item
+     * @throws RejectedExecutionException if the committer is closed
+     * @throws LocalizedException         with {@link SimpleErrorCode#TIMEOUT}
+     *                                    if the timeout passes first; the
+     *                                    item is not run if it was still
+     *                                    queued, but may be otherwise.
+     * @throws LocalizedException         with
+     *                                    {@link SimpleErrorCode#UNAVAILABLE}
+     *                                    if the committer thread stopped
+     *                                    before running the item.
+     */
+    public R submit(T item) {
+        InternalValidation.notNull(item, "Item must not be null");
+
+        if (closed) {
+            throw new RejectedExecutionException("Group committer is closed");
+        }
+
+        Pending<T, R> pending = new Pending<>(item, new CompletableFuture<>());
+
+        queue.add(pending);
+
+        // Closed meanwhile: the item is run only if the committer already took it
+        if (closed && queue.remove(pending)) {
+            throw new RejectedExecutionException("Group committer is closed");
+        }
+
+        return await(pending);
+    }
+
+    /**
+     * Returns the number of batches run so far, not counting the retries of
+     * failed batches.
+     *
+     * @return the number of batches
+     */
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of items run by all batches so far.
+     *
+     * @return the number of items
+     */
+    public long itemCount() {
+        return items.sum();
+    }
+
+    /**
+     * Returns the number of items waiting for a batch, not counting the ones
+     * of the batch running.
+     *
+     * @return the number of queued items
+     */
+    public int pendingCount() {
+        return (int) queue.stream().filter(pending -> pending != closeSignal).count();
+    }
+
+    /**
+     * Stops accepting items, runs the ones already queued, then stops the
+     * committer thread. Items still queued after a minute fail, as they do
+     * when the caller is interrupted while waiting, whose interrupt status is
+     * then restored.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.add(closeSignal);
+
+        try {
+            committer.join(TimeUnit.MINUTES.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (committer.isAlive()) {
+            failQueued();
+        }
+    }
+
+    private void commitLoop() {
+        List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+        boolean closing = false;
+
+        try {
+            while (!closing || !queue.isEmpty()) {
+                closing |= collect(batch, closing);
+
+                if (!batch.isEmpty()) {
+                    run(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Set before draining, so that a concurrent submit either sees it or gets drained
+            closed = true;
+            batch.forEach(Pending::fail);
+            failQueued();
+        }
+    }
+
+    private void failQueued() {
+        for (Pending<T, R> pending = queue.poll(); pending != null; pending = queue.poll()) {
+            if (pending != closeSignal) {
+                pending.fail();
+            }
+        }
+    }
+
+    /**
+     * Collects the next batch, waiting for its first item unless closing.
+     *
+     * @return {@code true} if the close signal was taken.
+     */
+    private boolean collect(List<Pending<T, R>> batch, boolean closing) throws InterruptedException {
+        Pending<T, R> next = closing ? queue.poll() : queue.take();
+        long deadline = System.nanoTime() + maxWaitNanos;
+
+        while (next != null) {
+            if (next == closeSignal) {
+                return true;
+            }
+
+            batch.add(next);
+
+            if (batch.size() == maxBatchSize) {
+                return false;
+            }
+
+            long remaining = deadline - System.nanoTime();
+
+            next = closing || remaining <= 0 ? queue.poll() : queue.poll(remaining, TimeUnit.NANOSECONDS);
+        }
+
+        return false;
+    }
+
+    private void run(List<Pending<T, R>> batch) {
+        batches.increment();
+        items.add(batch.size());
+
+        try {
+            complete(batch, apply(batch));
+        } catch (RuntimeException | Error e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+                return;
+            }
+
+            for (Pending<T, R> pending : batch) {
+                try {
+                    complete(List.of(pending), apply(List.of(pending)));
+                } catch (RuntimeException | Error itemFailure) {
+                    pending.result().completeExceptionally(itemFailure);
+                }
+            }
+        }
+    }
+
+    private List<R> apply(List<Pending<T, R>> batch) {
+        List<R> results = batchFunction.apply(batch.stream().map(Pending::item).toList());
+
+        InternalValidation.isTrue(results.size() == batch.size(), "Batch function must return one result per item");
+
+        return results;
+    }
+
+    private static <T, R> void complete(List<Pending<T, R>> batch, List<R> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    private R await(Pending<T, R> pending) {
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            queue.remove(pending);
+
+            throw new LocalizedException(SimpleErrorCode.TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+
+            throw new LocalizedException(SimpleErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result) {
+
+        void fail() {
+            result.completeExceptionally(new LocalizedException(SimpleErrorCode.UNAVAILABLE));
+        }
+
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Merges single-key loads issued concurrently into batched loads, in the
+ * style of a DataLoader.
+ * <p>
+ * Keys requested through {@link #load(Object)} are collected until either
+ * {@code maxBatchSize} distinct keys are pending, in which case the caller
+ * that filled the batch runs it right away, or {@code window} has elapsed
+ * since the first pending key, in which case the batch is run on the given
+ * {@link Executor}. Each caller blocks until its own key is resolved.
+ * <p>
+ * Keys absent from the map returned by the batch loader resolve to
+ * {@code null}. An exception thrown by the batch loader is rethrown to every
+ * caller of the batch.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class MicroBatchLoader<K, V> {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("micro-batch-timer").daemon().factory());
+
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    private ScheduledFuture<?> timer;
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder keys = new LongAdder();
+
+    /**
+     * Constructs a new {@link MicroBatchLoader}.
+     *
+     * @param batchLoader  loads the values of a set of keys, must not be
+     *                     {@code null}
+     * @param window       how long keys are collected before a batch is run,
+     *                     must not be negative
+     * @param maxBatchSize the maximum number of keys in a batch, must be
+     *                     greater than zero
+     * @param executor     runs the batches triggered by the window, must not
+     *                     be {@code null}
+     */
+    public MicroBatchLoader(Function<Set<K>, Map<K, V>> batchLoader,
+                            Duration window,
+                            int maxBatchSize,
+                            Executor executor) {
+        InternalValidation.notNull(batchLoader, "Function batchLoader must not be null");
+        InternalValidation.notNull(window, "Window must not be null");
+        InternalValidation.isTrue(!window.isNegative(), "Window must not be negative");
+        InternalValidation.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+        InternalValidation.notNull(executor, "Executor must not be null");
+
+        this.batchLoader = batchLoader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Loads the value of the given key as part of a batch, blocking until the
+     * batch completes.
+     *
+     * @param key the key to load, must not be {@code null}
+     * @return the loaded value, or {@code null} if the batch loader did not
+     * return a value for the key
+     */
+    public V load(K key) {
+        InternalValidation.notNull(key, "Key must not be null");
+
+        CompletableFuture<V> future;
+        Map<K, CompletableFuture<V>> full = null;
+
+        lock.lock();
+
+        try {
+            future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1 && timer == null) {
+                timer = SCHEDULER.schedule(this::flushWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            run(full);
+        }
+
+        return join(future);
+    }
+
+    /**
+     * Returns the number of batches run so far.
+     *
+     * @return the number of batches
+     */
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of distinct keys loaded by all batches so far.
+     *
+     * @return the number of keys
+     */
+    public long keyCount() {
+        return keys.sum();
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+
+        return batch;
+    }
+
+    private void flushWindow() {
+        Map<K, CompletableFuture<V>> batch;
+
+        lock.lock();
+
+        try {
+            timer = null;
+            batch = pending.isEmpty() ? null : takePending();
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch != null) {
+            executor.execute(() -> run(batch));
+        }
+    }
+
+    private void run(Map<K, CompletableFuture<V>> batch) {
+        batches.increment();
+        keys.add(batch.size());
+
+        try {
+            Map<K, V> results = batchLoader.apply(Collections.unmodifiableSet(batch.keySet()));
+
+            batch.forEach((key, future) -> future.complete(results.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} emitting the elements of a paged source, with
+ * backpressure.
+ * <p>
+ * Each subscription opens its own source, then fetches a page only once the
+ * subscriber requested more elements than are left from the previous one.
+ * Pages are fetched and elements emitted on the executor, by one task at a
+ * time, so the subscriber is never signalled concurrently and no thread is
+ * held while it has no demand. The source's {@link Iterator#hasNext()} must
+ * therefore be cheap; only {@link Iterator#next()} may block.
+ * <p>
+ * A task rejected by the executor signals
+ * {@link SimpleErrorCode#UNAVAILABLE}; an exception thrown by the source is
+ * signalled as is.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     Flow.Publisher<UserBO> users = PagingPublisher.of(() -> gateway.findByIds(ids), executor);
+ *     }
+ * </pre>
+ *
+ * @param <T> the type of the elements
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class PagingPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Iterator<List<T>>> source;
+
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@link PagingPublisher}.
+     *
+     * @param source   opens the pages of a subscription, on the executor;
+     *                 must not be {@code null}
+     * @param executor fetches the pages and emits the elements, must not be
+     *                 {@code null}
+     */
+    public PagingPublisher(Supplier<Iterator<List<T>>> source, Executor executor) {
+        InternalValidation.notNull(source, "Supplier source must not be null");
+        InternalValidation.notNull(executor, "Executor must not be null");
+
+        this.source = source;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a publisher of the elements of a single page, loaded once per
+     * subscription.
+     *
+     * @param loader   loads the page, must not be {@code null}
+     * @param executor loads the page and emits its elements, must not be
+     *                 {@code null}
+     * @param <T>      the type of the elements
+     * @return a new {@link PagingPublisher}
+     */
+    public static <T> PagingPublisher<T> of(Supplier<List<T>> loader, Executor executor) {
+        InternalValidation.notNull(loader, "Supplier loader must not be null");
+
+        return new PagingPublisher<>(() -> new Iterator<>() {
+
+            private boolean loaded;
+
+            @Override
+            public boolean hasNext() {
+                return !loaded;
+            }
+
+            @Override
+            public List<T> next() {
+                loaded = true;
+
+                return loader.get();
+            }
+
+        }, executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        InternalValidation.notNull(subscriber, "Subscriber must not be null");
+
+        subscriber.onSubscribe(new PagingSubscription<>(subscriber, source, executor));
+    }
+
+    private static final class PagingSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Supplier<Iterator<List<T>>> source;
+
+        private final Executor executor;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * The drains requested and not run yet; only the caller moving it
+         * from zero schedules one.
+         */
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        /**
+         * Only touched by the running drain.
+         */
+        private final Deque<T> buffer = new ArrayDeque<>();
+
+        private Iterator<List<T>> pages;
+
+        private volatile boolean done;
+
+        private volatile IllegalArgumentException invalidRequest;
+
+        private PagingSubscription(Flow.Subscriber<? super T> subscriber,
+                                   Supplier<Iterator<List<T>>> source,
+                                   Executor executor) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested elements must be positive, got " + n);
+            } else {
+                // Saturates at Long.MAX_VALUE, which stands for an unbounded demand
+                requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+
+            do {
+                drain();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void schedule() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // No drain runs, so this thread may signal the subscriber
+                pendingDrains.set(0);
+                fail(new LocalizedException(SimpleErrorCode.UNAVAILABLE));
+            }
+        }
+
+        private void drain() {
+            if (done) {
+                buffer.clear();
+                return;
+            }
+
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return;
+            }
+
+            long demand = requested.get();
+            long emitted = 0;
+
+            try {
+                if (pages == null) {
+                    pages = source.get();
+                }
+
+                while (!done) {
+                    if (buffer.isEmpty() && !pages.hasNext()) {
+                        done = true;
+                        subscriber.onComplete();
+                        break;
+                    }
+
+                    if (emitted == demand) {
+                        // Takes the elements requested meanwhile, e.g. from onNext
+                        demand = requested.addAndGet(-emitted);
+                        emitted = 0;
+
+                        if (demand == 0) {
+                            break;
+                        }
+                    }
+
+                    if (buffer.isEmpty()) {
+                        buffer.addAll(pages.next());
+                    } else {
+                        subscriber.onNext(buffer.poll());
+                        emitted++;
+                    }
+                }
+
+                requested.addAndGet(-emitted);
+            } catch (RuntimeException | Error e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Throwable failure) {
+            if (!done) {
+                done = true;
+                buffer.clear();
+                subscriber.onError(failure);
+            }
+        }
+
+    }
+
+}
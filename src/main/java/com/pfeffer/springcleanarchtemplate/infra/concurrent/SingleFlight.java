@@ -0,0 +1,129 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers
+ * arriving for the same key while it is in flight wait for it and receive the
+ * same result, or the same exception. Once the call completes, the key is
+ * released, so later callers trigger a new execution; results are never
+ * cached. Keys can also be released early with {@link #forget(Predicate)},
+ * e.g. once the data they load has been written.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     SingleFlight<Long, Optional<UserBO>> flight = new SingleFlight<>();
+ *     Optional<UserBO> user = flight.execute(id, () -> gateway.findById(id));
+ *     }
+ * </pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ * @author Mateus Pfeffer
+ * @see SingleFlightMetrics
+ * @since 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    private final LongAdder issued = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the loader for the given key, or waits for the execution already
+     * in flight for it.
+     *
+     * @param key    the key identifying the call, must not be {@code null}
+     * @param loader computes the result, must not be {@code null}
+     * @return the result of the loader
+     * @throws RuntimeException the exception thrown by the loader, rethrown to
+     *                          every caller sharing the execution
+     */
+    public V execute(K key, Supplier<V> loader) {
+        InternalValidation.notNull(key, "Key must not be null");
+        InternalValidation.notNull(loader, "Supplier loader must not be null");
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+
+        if (inFlight != null) {
+            coalesced.increment();
+            return join(inFlight);
+        }
+
+        issued.increment();
+
+        try {
+            V result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Releases the keys in flight matching the predicate, so later callers
+     * trigger a new execution instead of joining one that may have read data
+     * older than theirs. Callers already waiting keep their execution.
+     *
+     * @param keys selects the keys to release, must not be {@code null}
+     */
+    public void forget(Predicate<? super K> keys) {
+        InternalValidation.notNull(keys, "Predicate keys must not be null");
+
+        calls.keySet().removeIf(keys);
+    }
+
+    /**
+     * Returns the number of calls that ran the loader.
+     *
+     * @return the number of issued calls
+     */
+    public long issuedCount() {
+        return issued.sum();
+    }
+
+    /**
+     * Returns the number of calls that shared an execution already in
+     * flight.
+     *
+     * @return the number of coalesced calls
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+}
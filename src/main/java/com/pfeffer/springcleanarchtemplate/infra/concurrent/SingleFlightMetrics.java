@@ -0,0 +1,65 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the statistics of a {@link SingleFlight} to Micrometer, publishing a
+ * {@code single.flight.calls} counter tagged with {@code result=issued} or
+ * {@code result=coalesced}, and a {@code single.flight.coalesced.ratio}
+ * gauge.
+ *
+ * @author Mateus Pfeffer
+ * @see SingleFlight
+ * @since 1.0
+ */
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final SingleFlight<?, ?> flight;
+
+    private final String name;
+
+    /**
+     * Constructs a new {@link SingleFlightMetrics}.
+     *
+     * @param flight the single flight to observe, must not be {@code null}
+     * @param name   the value of the {@code name} tag, must not be
+     *               {@code null}
+     */
+    public SingleFlightMetrics(SingleFlight<?, ?> flight, String name) {
+        InternalValidation.notNull(flight, "SingleFlight must not be null");
+        InternalValidation.notNull(name, "Name must not be null");
+
+        this.flight = flight;
+        this.name = name;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("single.flight.calls", flight, SingleFlight::issuedCount)
+                .tags("name", name, "result", "issued")
+                .description("The number of calls that ran the loader")
+                .register(registry);
+
+        FunctionCounter.builder("single.flight.calls", flight, SingleFlight::coalescedCount)
+                .tags("name", name, "result", "coalesced")
+                .description("The number of calls that shared a load already in flight")
+                .register(registry);
+
+        Gauge.builder("single.flight.coalesced.ratio", flight, SingleFlightMetrics::coalescedRatio)
+                .tags("name", name)
+                .description("The ratio of calls that shared a load already in flight")
+                .register(registry);
+    }
+
+    private static double coalescedRatio(SingleFlight<?, ?> flight) {
+        long coalesced = flight.coalescedCount();
+        long total = coalesced + flight.issuedCount();
+
+        return total == 0 ? Double.NaN : (double) coalesced / total;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the thread factories of the executors owned by the application,
+ * following the same threading mode as Spring Boot's own executors.
+ * <p>
+ * When {@code spring.threads.virtual.enabled} is {@code true}, Tomcat, the
+ * {@code applicationTaskExecutor} (which also runs asynchronous MVC
+ * requests) and the task scheduler run on virtual threads; executors built
+ * from {@link #named(String, Environment)} then do as well, so blocking JDBC
+ * calls never tie up a platform thread.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Returns a factory of daemon platform threads, or of virtual threads if
+     * the virtual-thread mode is enabled.
+     *
+     * @param prefix      the prefix of the thread names, followed by a counter
+     * @param environment the environment the threading mode is read from
+     * @return the thread factory
+     */
+    public static ThreadFactory named(String prefix, Environment environment) {
+        InternalValidation.notNull(prefix, "Prefix must not be null");
+        InternalValidation.notNull(environment, "Environment must not be null");
+
+        if (isVirtual(environment)) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+
+        return Thread.ofPlatform().name(prefix, 0).daemon().factory();
+    }
+
+    /**
+     * Returns whether the virtual-thread mode is enabled.
+     *
+     * @param environment the environment the threading mode is read from
+     * @return {@code true} if {@code spring.threads.virtual.enabled} is set
+     * and the runtime supports virtual threads
+     */
+    public static boolean isVirtual(Environment environment) {
+        InternalValidation.notNull(environment, "Environment must not be null");
+
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent buffer of timestamps by primitive {@code long} key, keeping
+ * only the latest timestamp of each key, so that repeated touches of the
+ * same key between two drains cost a single entry.
+ * <p>
+ * Keys are spread over a power-of-two number of segments, each an
+ * open-addressing table of two {@code long} arrays guarded by its own lock.
+ * {@link #drain(EntryConsumer)} swaps each table for an empty one under its
+ * lock and visits the detached entries outside of it, so touching is never
+ * blocked by a slow consumer.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class TouchBuffer {
+
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    /**
+     * Marks an empty slot, so the key {@link Long#MIN_VALUE} cannot be
+     * buffered.
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Segment[] segments;
+
+    private final int segmentShift;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Constructs a new {@link TouchBuffer}.
+     *
+     * @param concurrency the minimum number of segments, must be greater
+     *                    than zero; it is rounded up to a power of two
+     */
+    public TouchBuffer(int concurrency) {
+        InternalValidation.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, concurrency - 1)) << (concurrency > 1 ? 1 : 0);
+
+        this.segments = new Segment[segmentCount];
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Records a timestamp for a key, unless a later one is already buffered.
+     *
+     * @param key       the key, must not be {@link Long#MIN_VALUE}
+     * @param timestamp the timestamp
+     */
+    public void touch(long key, long timestamp) {
+        InternalValidation.isTrue(key != EMPTY, "Key must not be Long.MIN_VALUE");
+
+        long hash = hash(key);
+
+        if (segmentFor(hash).touch(key, hash, timestamp)) {
+            size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of buffered keys. Keys touched concurrently may or
+     * may not be counted.
+     *
+     * @return the number of buffered keys
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Removes every buffered entry and calls the action with each of them,
+     * one segment at a time. Keys touched while draining are either passed
+     * to the action or kept for the next drain.
+     *
+     * @param action the action to call
+     * @return the number of entries drained
+     */
+    public int drain(EntryConsumer action) {
+        InternalValidation.notNull(action, "Action must not be null");
+
+        int drained = 0;
+
+        for (Segment segment : segments) {
+            Segment.Table table = segment.detach();
+
+            if (table.size == 0) {
+                continue;
+            }
+
+            size.addAndGet(-table.size);
+            drained += table.size;
+
+            for (int slot = 0; slot < table.keys.length; slot++) {
+                if (table.keys[slot] != EMPTY) {
+                    action.accept(table.keys[slot], table.timestamps[slot]);
+                }
+            }
+        }
+
+        return drained;
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    /**
+     * The finalizer of MurmurHash3, as in {@link ConcurrentLongMap}.
+     */
+    private static long hash(long key) {
+        long h = key;
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * Receives the entries of {@link #drain(EntryConsumer)}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long key, long timestamp);
+
+    }
+
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Table table = new Table(MIN_SEGMENT_CAPACITY);
+
+        /**
+         * @return {@code true} if the key was not buffered yet.
+         */
+        private boolean touch(long key, long hash, long timestamp) {
+            lock.lock();
+
+            try {
+                if (table.size >= table.keys.length * 3 / 4) {
+                    table = table.resize(table.keys.length * 2);
+                }
+
+                return table.touch(key, hash, timestamp);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Table detach() {
+            lock.lock();
+
+            try {
+                Table detached = table;
+
+                if (detached.size > 0) {
+                    table = new Table(MIN_SEGMENT_CAPACITY);
+                }
+
+                return detached;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static final class Table {
+
+            private final long[] keys;
+
+            private final long[] timestamps;
+
+            private int size;
+
+            private Table(int capacity) {
+                this.keys = new long[capacity];
+                this.timestamps = new long[capacity];
+
+                Arrays.fill(keys, EMPTY);
+            }
+
+            private boolean touch(long key, long hash, long timestamp) {
+                int mask = keys.length - 1;
+
+                for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+                    if (keys[slot] == EMPTY) {
+                        keys[slot] = key;
+                        timestamps[slot] = timestamp;
+                        size++;
+
+                        return true;
+                    }
+
+                    if (keys[slot] == key) {
+                        timestamps[slot] = Math.max(timestamps[slot], timestamp);
+
+                        return false;
+                    }
+                }
+            }
+
+            private Table resize(int capacity) {
+                Table resized = new Table(capacity);
+
+                for (int slot = 0; slot < keys.length; slot++) {
+                    if (keys[slot] != EMPTY) {
+                        resized.touch(keys[slot], hash(keys[slot]), timestamps[slot]);
+                    }
+                }
+
+                return resized;
+            }
+
+        }
+
+    }
+
+}
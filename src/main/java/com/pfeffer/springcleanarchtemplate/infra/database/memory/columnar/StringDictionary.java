@@ -0,0 +1,78 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of a string column: each distinct value is stored once
+ * and rows hold its {@code int} code, {@code -1} standing for {@code null}.
+ * <p>
+ * Codes are assigned in the order values are first seen and never reused, so
+ * a value replaced in every row stays in the dictionary until the next full
+ * rebuild of the snapshot. Not thread-safe; guarded by the lock of
+ * {@link UserColumns}.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+final class StringDictionary {
+
+    static final int NULL = -1;
+
+    private final Map<String, Integer> codes;
+
+    private String[] values;
+
+    private int size;
+
+    StringDictionary(int expectedSize) {
+        this.codes = new HashMap<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+        this.values = new String[Math.max(16, expectedSize)];
+    }
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+
+        Integer code = codes.get(value);
+
+        if (code != null) {
+            return code;
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        values[size] = value;
+        codes.put(value, size);
+
+        return size++;
+    }
+
+    String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * Compares two codes by their values, with {@code null} last.
+     */
+    int compare(int left, int right) {
+        if (left == right) {
+            return 0;
+        }
+
+        if (left == NULL || right == NULL) {
+            return left == NULL ? 1 : -1;
+        }
+
+        return values[left].compareTo(values[right]);
+    }
+
+    int size() {
+        return size;
+    }
+
+}
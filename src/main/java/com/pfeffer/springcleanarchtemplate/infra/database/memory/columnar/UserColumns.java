@@ -0,0 +1,545 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimplePageContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageableAdapter;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A columnar table of users, answering filtered and sorted page queries
+ * without creating a business object per row.
+ * <p>
+ * Each attribute is a primitive array indexed by row: timestamps as epoch
+ * microseconds in {@code long[]}, with {@link Long#MIN_VALUE} for
+ * {@code null}, strings as dictionary codes in {@code int[]}, and the status
+ * as a {@code byte} code with one {@link BitSet} of rows per status. Rows are
+ * kept in ascending identifier order, so a row is found by binary search and
+ * new users, whose identifiers come from a sequence, are appended. A filter
+ * on status therefore starts from the bitmap of that status and only visits
+ * its rows; range bounds are then checked on the timestamp columns. Sorted
+ * pages select their rows with a bounded heap of row numbers, and only the
+ * rows of the page are turned into users.
+ * <p>
+ * Reads share a read lock and updates take the write lock.
+ *
+ * @author Mateus Pfeffer
+ * @see UserSnapshot
+ * @since 1.0
+ */
+public class UserColumns {
+
+    private static final long NULL = Long.MIN_VALUE;
+
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    /**
+     * The rank of each status by name, since statuses are stored as text and
+     * sort by name in the database.
+     */
+    private static final int[] STATUS_RANKS = statusRanks();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final StringDictionary firstNames;
+
+    private final StringDictionary lastNames;
+
+    private final StringDictionary usernames;
+
+    private final StringDictionary emails;
+
+    private final BitSet[] statusRows = new BitSet[STATUSES.length];
+
+    private final BitSet liveRows = new BitSet();
+
+    private int size;
+
+    private long[] ids;
+
+    private int[] firstName;
+
+    private int[] lastName;
+
+    private int[] username;
+
+    private int[] email;
+
+    private byte[] status;
+
+    private long[] createdAt;
+
+    private long[] updatedAt;
+
+    private long[] deletedAt;
+
+    private long[] disabledAt;
+
+    private long[] lastLoginAt;
+
+    public UserColumns(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+
+        this.firstNames = new StringDictionary(Math.min(capacity, 1_024));
+        this.lastNames = new StringDictionary(Math.min(capacity, 1_024));
+        this.usernames = new StringDictionary(capacity);
+        this.emails = new StringDictionary(capacity);
+
+        for (int i = 0; i < statusRows.length; i++) {
+            statusRows[i] = new BitSet();
+        }
+
+        this.ids = new long[capacity];
+        this.firstName = new int[capacity];
+        this.lastName = new int[capacity];
+        this.username = new int[capacity];
+        this.email = new int[capacity];
+        this.status = new byte[capacity];
+        this.createdAt = new long[capacity];
+        this.updatedAt = new long[capacity];
+        this.deletedAt = new long[capacity];
+        this.disabledAt = new long[capacity];
+        this.lastLoginAt = new long[capacity];
+    }
+
+    /**
+     * Replaces the row of each user, or appends it if its identifier is
+     * greater than every other.
+     *
+     * @return {@code false} if a user is new but its identifier is not the
+     * greatest, so it could not be placed without shifting every row after
+     * it; the other users are still applied.
+     */
+    public boolean upsertAll(List<UserBO> users) {
+        InternalValidation.notNull(users, "Users must not be null");
+
+        boolean placed = true;
+
+        lock.writeLock().lock();
+
+        try {
+            for (UserBO user : users) {
+                placed &= upsert(user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return placed;
+    }
+
+    /**
+     * Removes the row of the user with the given identifier, if any.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+
+            if (row >= 0 && liveRows.get(row)) {
+                liveRows.clear(row);
+                markStatus(row, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the greatest identifier in the table, or {@link Long#MIN_VALUE}
+     * if it is empty.
+     */
+    public long maxId() {
+        lock.readLock().lock();
+
+        try {
+            return size == 0 ? Long.MIN_VALUE : ids[size - 1];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of users in the table.
+     */
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return liveRows.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds a page of the users matching the filter, with the semantics of
+     * {@code UserGateway#findAll(UserFilterDTO, Pagination)}: nulls sort last
+     * in ascending order and first in descending order, and ties are broken
+     * by identifier.
+     *
+     * @throws LocalizedException if a sort property is not an attribute of
+     *                            users.
+     */
+    public PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination) {
+        InternalValidation.notNull(filter, "Filter must not be null");
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        RowComparator order = comparator(SpringPageableAdapter.toSort(pagination.getSort()).toList());
+
+        lock.readLock().lock();
+
+        try {
+            IntList matches = filter(filter);
+
+            if (pagination.isUnpaged()) {
+                return new SimplePageContent<>(toUsers(first(matches, matches.size(), order), 0));
+            }
+
+            long end = pagination.getOffset() + pagination.getPageSize();
+            int offset = (int) Math.min(pagination.getOffset(), Integer.MAX_VALUE);
+            int[] first = first(matches, (int) Math.min(end, Integer.MAX_VALUE), order);
+
+            return new SimplePageContent<>(toUsers(first, offset), pagination, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean upsert(UserBO user) {
+        InternalValidation.notNull(user.getId(), "User ID must not be null");
+
+        long id = user.getId();
+        int row = Arrays.binarySearch(ids, 0, size, id);
+
+        if (row < 0) {
+            if (size > 0 && id < ids[size - 1]) {
+                return false;
+            }
+
+            row = size++;
+
+            if (row == ids.length) {
+                grow();
+            }
+
+            ids[row] = id;
+        } else {
+            markStatus(row, false);
+        }
+
+        firstName[row] = firstNames.encode(user.getFirstName());
+        lastName[row] = lastNames.encode(user.getLastName());
+        username[row] = usernames.encode(user.getUsername());
+        email[row] = emails.encode(user.getEmail());
+        status[row] = (byte) (user.getStatus() == null ? -1 : user.getStatus().ordinal());
+        createdAt[row] = micros(user.getCreatedAt() == null ? null : user.getCreatedAt().value());
+        updatedAt[row] = micros(user.getUpdatedAt());
+        deletedAt[row] = micros(user.getDeletedAt());
+        disabledAt[row] = micros(user.getDisabledAt());
+        lastLoginAt[row] = micros(user.getLastLoginAt());
+
+        liveRows.set(row);
+        markStatus(row, true);
+
+        return true;
+    }
+
+    private void markStatus(int row, boolean present) {
+        if (status[row] >= 0) {
+            statusRows[status[row]].set(row, present);
+        }
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+
+        ids = Arrays.copyOf(ids, capacity);
+        firstName = Arrays.copyOf(firstName, capacity);
+        lastName = Arrays.copyOf(lastName, capacity);
+        username = Arrays.copyOf(username, capacity);
+        email = Arrays.copyOf(email, capacity);
+        status = Arrays.copyOf(status, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        deletedAt = Arrays.copyOf(deletedAt, capacity);
+        disabledAt = Arrays.copyOf(disabledAt, capacity);
+        lastLoginAt = Arrays.copyOf(lastLoginAt, capacity);
+    }
+
+    private IntList filter(UserFilterDTO filter) {
+        BitSet rows = filter.getStatus() == null ? liveRows : statusRows[filter.getStatus().ordinal()];
+
+        long createdFrom = micros(filter.getCreatedFrom());
+        long createdTo = micros(filter.getCreatedTo());
+        long lastLoginFrom = micros(filter.getLastLoginFrom());
+        long lastLoginTo = micros(filter.getLastLoginTo());
+
+        boolean createdRange = createdFrom != NULL || createdTo != NULL;
+        boolean lastLoginRange = lastLoginFrom != NULL || lastLoginTo != NULL;
+
+        IntList matches = new IntList(Math.min(rows.cardinality(), 1 << 20));
+
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if ((!createdRange || inRange(createdAt[row], createdFrom, createdTo))
+                    && (!lastLoginRange || inRange(lastLoginAt[row], lastLoginFrom, lastLoginTo))) {
+                matches.add(row);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Selects the first {@code count} rows of the given order, keeping at
+     * most {@code count} rows in a max-heap whose root is the last of them,
+     * then sorts them.
+     */
+    private static int[] first(IntList rows, int count, RowComparator order) {
+        int capacity = Math.min(count, rows.size());
+        int[] heap = new int[capacity];
+        int heapSize = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            int row = rows.get(i);
+
+            if (heapSize < capacity) {
+                heap[heapSize] = row;
+                siftUp(heap, heapSize++, order);
+            } else if (capacity > 0 && order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(heap, heapSize, order);
+            }
+        }
+
+        // Popping the root repeatedly leaves the rows in ascending order
+        for (int last = heapSize - 1; last > 0; last--) {
+            int root = heap[0];
+
+            heap[0] = heap[last];
+            heap[last] = root;
+            siftDown(heap, last, order);
+        }
+
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int index, RowComparator order) {
+        int row = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+
+            if (order.compare(heap[parent], row) >= 0) {
+                break;
+            }
+
+            heap[index] = heap[parent];
+            index = parent;
+        }
+
+        heap[index] = row;
+    }
+
+    private static void siftDown(int[] heap, int size, RowComparator order) {
+        int row = heap[0];
+        int index = 0;
+
+        for (int child; (child = 2 * index + 1) < size; index = child) {
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+
+            if (order.compare(row, heap[child]) >= 0) {
+                break;
+            }
+
+            heap[index] = heap[child];
+        }
+
+        heap[index] = row;
+    }
+
+    private List<UserBO> toUsers(int[] rows, int from) {
+        List<UserBO> users = new ArrayList<>(Math.max(0, rows.length - from));
+
+        for (int i = from; i < rows.length; i++) {
+            users.add(toUser(rows[i]));
+        }
+
+        return users;
+    }
+
+    private UserBO toUser(int row) {
+        LocalDateTime created = timestamp(createdAt[row]);
+
+        return new UserBO.Builder()
+                .id(ids[row])
+                .firstName(firstNames.decode(firstName[row]))
+                .lastName(lastNames.decode(lastName[row]))
+                .username(usernames.decode(username[row]))
+                .email(emails.decode(email[row]))
+                .status(status[row] < 0 ? null : STATUSES[status[row]])
+                .createdAt(created == null ? null : new CreatedAtVO(created))
+                .updatedAt(timestamp(updatedAt[row]))
+                .deletedAt(timestamp(deletedAt[row]))
+                .disabledAt(timestamp(disabledAt[row]))
+                .lastLoginAt(timestamp(lastLoginAt[row]))
+                .build();
+    }
+
+    private RowComparator comparator(List<Sort.Order> orders) {
+        RowComparator comparator = (left, right) -> 0;
+
+        for (Sort.Order order : orders) {
+            RowComparator byProperty = property(order.getProperty());
+            RowComparator directed = order.isAscending() ? byProperty : (left, right) -> byProperty.compare(right, left);
+            RowComparator previous = comparator;
+
+            comparator = (left, right) -> {
+                int comparison = previous.compare(left, right);
+
+                return comparison != 0 ? comparison : directed.compare(left, right);
+            };
+        }
+
+        RowComparator ordered = comparator;
+
+        return (left, right) -> {
+            int comparison = ordered.compare(left, right);
+
+            return comparison != 0 ? comparison : Long.compare(ids[left], ids[right]);
+        };
+    }
+
+    private RowComparator property(String property) {
+        return switch (property) {
+            case "id" -> (left, right) -> Long.compare(ids[left], ids[right]);
+            case "firstName" -> (left, right) -> firstNames.compare(firstName[left], firstName[right]);
+            case "lastName" -> (left, right) -> lastNames.compare(lastName[left], lastName[right]);
+            case "username" -> (left, right) -> usernames.compare(username[left], username[right]);
+            case "email" -> (left, right) -> emails.compare(email[left], email[right]);
+            case "status" -> (left, right) -> compareStatus(status[left], status[right]);
+            case "createdAt" -> (left, right) -> compareTimestamps(createdAt[left], createdAt[right]);
+            case "updatedAt" -> (left, right) -> compareTimestamps(updatedAt[left], updatedAt[right]);
+            case "deletedAt" -> (left, right) -> compareTimestamps(deletedAt[left], deletedAt[right]);
+            case "disabledAt" -> (left, right) -> compareTimestamps(disabledAt[left], disabledAt[right]);
+            case "lastLoginAt" -> (left, right) -> compareTimestamps(lastLoginAt[left], lastLoginAt[right]);
+            default -> throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "sort");
+        };
+    }
+
+    private static int compareStatus(byte left, byte right) {
+        if (left == right) {
+            return 0;
+        }
+
+        if (left < 0 || right < 0) {
+            return left < 0 ? 1 : -1;
+        }
+
+        return Integer.compare(STATUS_RANKS[left], STATUS_RANKS[right]);
+    }
+
+    private static int compareTimestamps(long left, long right) {
+        if (left == right) {
+            return 0;
+        }
+
+        if (left == NULL || right == NULL) {
+            return left == NULL ? 1 : -1;
+        }
+
+        return Long.compare(left, right);
+    }
+
+    private static boolean inRange(long value, long from, long to) {
+        return value != NULL && (from == NULL || value >= from) && (to == NULL || value < to);
+    }
+
+    private static long micros(LocalDateTime value) {
+        if (value == null) {
+            return NULL;
+        }
+
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime timestamp(long micros) {
+        if (micros == NULL) {
+            return null;
+        }
+
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int[] statusRanks() {
+        UserStatus[] byName = STATUSES.clone();
+        int[] ranks = new int[STATUSES.length];
+
+        Arrays.sort(byName, Comparator.comparing(UserStatus::name));
+
+        for (int rank = 0; rank < byName.length; rank++) {
+            ranks[byName[rank].ordinal()] = rank;
+        }
+
+        return ranks;
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+
+        int compare(int left, int right);
+
+    }
+
+    /**
+     * A growable list of row numbers, without boxing.
+     */
+    private static final class IntList {
+
+        private int[] values;
+
+        private int size;
+
+        IntList(int capacity) {
+            this.values = new int[Math.max(16, capacity)];
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a {@link UserColumns} copy of every user of a source gateway, for
+ * filtered listings answered without a database round trip.
+ * <p>
+ * The snapshot is loaded in identifier order with
+ * {@link UserGateway#findRange(long, long, int)}, then kept current by a
+ * background refresh: users reported through {@link #markChanged(long)} are
+ * reloaded with {@link UserGateway#findByIds(Iterable)}, and users inserted
+ * after the greatest known identifier are appended. Users written by other
+ * nodes are only seen once appended or at the next periodic rebuild, so
+ * listings may lag the database by up to the rebuild interval for those
+ * users, and by up to the refresh interval for users written on this node.
+ * <p>
+ * Until the first load completes, {@link #findAll(UserFilterDTO, Pagination)}
+ * returns empty and callers are expected to query the source instead.
+ *
+ * @author Mateus Pfeffer
+ * @see UserColumns
+ * @since 1.0
+ */
+public class UserSnapshot implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSnapshot.class);
+
+    private final UserGateway source;
+
+    private final int batchSize;
+
+    private final long rebuildIntervalNanos;
+
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService refresher;
+
+    private volatile UserColumns columns;
+
+    private volatile boolean stale;
+
+    private long rebuiltAt;
+
+    private UserSnapshot(UserGateway source, int batchSize, Duration rebuildInterval) {
+        this.source = source;
+        this.batchSize = batchSize;
+        this.rebuildIntervalNanos = rebuildInterval.toNanos();
+        this.refresher = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("user-snapshot-refresh").daemon().factory());
+    }
+
+    /**
+     * Creates a snapshot of the users of the source gateway and starts
+     * refreshing it in the background, beginning with a full load.
+     *
+     * @param source          the gateway the users are loaded from. Must not
+     *                        be {@code null}.
+     * @param batchSize       the number of users loaded per query.
+     * @param refreshInterval the delay between two refreshes.
+     * @param rebuildInterval the maximum age of the snapshot before it is
+     *                        rebuilt.
+     * @return the snapshot, to be closed on shutdown.
+     */
+    public static UserSnapshot start(UserGateway source, int batchSize, Duration refreshInterval,
+                                     Duration rebuildInterval) {
+        InternalValidation.notNull(source, "Source gateway must not be null");
+        InternalValidation.isTrue(batchSize > 0, "Batch size must be greater than zero");
+        InternalValidation.isTrue(refreshInterval != null && refreshInterval.isPositive(),
+                "Refresh interval must be positive");
+        InternalValidation.isTrue(rebuildInterval != null && rebuildInterval.isPositive(),
+                "Rebuild interval must be positive");
+
+        UserSnapshot snapshot = new UserSnapshot(source, batchSize, rebuildInterval);
+
+        snapshot.refresher.scheduleWithFixedDelay(snapshot::refreshQuietly, 0, refreshInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        return snapshot;
+    }
+
+    /**
+     * Finds a page of the users matching the filter in the snapshot.
+     *
+     * @return the page, or empty if the snapshot is not loaded yet.
+     */
+    public Optional<PageContent<UserBO>> findAll(UserFilterDTO filter, Pagination pagination) {
+        UserColumns current = columns;
+
+        return current == null ? Optional.empty() : Optional.of(current.findAll(filter, pagination));
+    }
+
+    /**
+     * Reports that the user with the given identifier was written, so that
+     * the next refresh reloads it.
+     */
+    public void markChanged(long id) {
+        changed.add(id);
+    }
+
+    /**
+     * Reports that users were written without knowing which, so that the
+     * next refresh rebuilds the whole snapshot.
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Brings the snapshot up to date: rebuilds it if it was never loaded,
+     * was marked stale or is older than the rebuild interval, and otherwise
+     * reloads the changed users and appends the new ones. Runs on the
+     * refresh thread; only public to be called directly by tests and
+     * benchmarks.
+     */
+    public void refresh() {
+        UserColumns current = columns;
+
+        if (current == null || stale || System.nanoTime() - rebuiltAt > rebuildIntervalNanos) {
+            rebuild();
+            return;
+        }
+
+        if (!reloadChanged(current) || !current.upsertAll(loadAfter(current.maxId()))) {
+            stale = true;
+        }
+    }
+
+    /**
+     * Stops the refresh and releases the snapshot. If interrupted while
+     * waiting for a running refresh, the snapshot is released anyway and the
+     * interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+
+        try {
+            refresher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            columns = null;
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh the user snapshot", e);
+        }
+    }
+
+    private void rebuild() {
+        // Cleared first, so writes made during the load are applied again
+        // by the next refresh rather than lost
+        stale = false;
+        changed.clear();
+
+        long startedAt = System.nanoTime();
+        Optional<IdRange> range = source.findIdRange();
+        UserColumns rebuilt = new UserColumns(range.map(r -> (int) Math.min(r.max() - r.min() + 1, 1 << 20))
+                .orElse(0));
+
+        if (range.isPresent()) {
+            long after = range.get().min() - 1;
+
+            for (List<UserBO> batch = source.findRange(after, Long.MAX_VALUE, batchSize); !batch.isEmpty();
+                 batch = source.findRange(after, Long.MAX_VALUE, batchSize)) {
+                rebuilt.upsertAll(batch);
+                after = batch.getLast().getId();
+            }
+        }
+
+        columns = rebuilt;
+        rebuiltAt = System.nanoTime();
+
+        log.info("Loaded {} user(s) into the snapshot in {} ms", rebuilt.size(),
+                TimeUnit.NANOSECONDS.toMillis(rebuiltAt - startedAt));
+    }
+
+    /**
+     * Reloads the changed users, removing the ones no longer found.
+     *
+     * @return {@code false} if a reloaded user could not be placed.
+     */
+    private boolean reloadChanged(UserColumns current) {
+        boolean placed = true;
+        Iterator<Long> iterator = changed.iterator();
+
+        while (iterator.hasNext()) {
+            List<Long> ids = new ArrayList<>(batchSize);
+
+            while (iterator.hasNext() && ids.size() < batchSize) {
+                ids.add(iterator.next());
+                iterator.remove();
+            }
+
+            List<UserBO> users = source.findByIds(ids);
+            Set<Long> missing = new HashSet<>(ids);
+
+            users.forEach(user -> missing.remove(user.getId()));
+            missing.forEach(current::remove);
+            placed &= current.upsertAll(users);
+        }
+
+        return placed;
+    }
+
+    private List<UserBO> loadAfter(long maxId) {
+        List<UserBO> users = new ArrayList<>();
+        long after = maxId;
+
+        for (List<UserBO> batch = source.findRange(after, Long.MAX_VALUE, batchSize); !batch.isEmpty();
+             batch = source.findRange(after, Long.MAX_VALUE, batchSize)) {
+            users.addAll(batch);
+            after = batch.getLast().getId();
+        }
+
+        return users;
+    }
+
+}
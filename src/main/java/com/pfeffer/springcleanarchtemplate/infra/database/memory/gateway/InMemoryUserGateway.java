@@ -0,0 +1,102 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.ConcurrentLongMap;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link LocalUserGateway} keeping every user on the heap, for benchmarks,
+ * tests and as a hot tier in front of the database.
+ * <p>
+ * Users are stored by identifier in a {@link ConcurrentLongMap}, so
+ * identifiers are never boxed, and indexed by username and email in
+ * concurrent maps pointing to the same instances. Reads never take the write
+ * lock, except when an index entry disagrees with the primary map because a
+ * write is in progress; the read is then repeated once the write completes,
+ * so readers never observe a write half-applied.
+ *
+ * @author Mateus Pfeffer
+ * @see ConcurrentLongMap
+ * @since 1.0
+ */
+@Component
+public class InMemoryUserGateway extends LocalUserGateway {
+
+    private final ConcurrentLongMap<UserBO> users;
+
+    private final ConcurrentHashMap<String, UserBO> byUsername;
+
+    private final ConcurrentHashMap<String, UserBO> byEmail;
+
+    public InMemoryUserGateway(GatewayProperties properties) {
+        InternalValidation.notNull(properties, "GatewayProperties must not be null");
+
+        int expectedSize = properties.getMemory().getExpectedSize();
+        int concurrency = Runtime.getRuntime().availableProcessors() * 4;
+
+        this.users = new ConcurrentLongMap<>(expectedSize, concurrency);
+        this.byUsername = new ConcurrentHashMap<>(expectedSize, 0.75f, concurrency);
+        this.byEmail = new ConcurrentHashMap<>(expectedSize, 0.75f, concurrency);
+    }
+
+    @Override
+    protected UserBO load(long id) {
+        return users.get(id);
+    }
+
+    @Override
+    protected UserBO loadByUsername(String username) {
+        return lookup(byUsername, username);
+    }
+
+    @Override
+    protected UserBO loadByEmail(String email) {
+        return lookup(byEmail, email);
+    }
+
+    @Override
+    protected void forEachUser(Consumer<UserBO> action) {
+        users.forEachValue(action);
+    }
+
+    @Override
+    protected int userCount() {
+        return users.size();
+    }
+
+    /**
+     * New index entries are added before the primary map changes and stale
+     * ones removed after, so a reader whose index entry disagrees with the
+     * primary map knows a write is in progress.
+     */
+    @Override
+    protected void write(UserBO existing, UserBO user) {
+        byUsername.put(user.getUsername(), user);
+        byEmail.put(user.getEmail(), user);
+
+        users.put(user.getId(), user);
+
+        if (existing != null) {
+            byUsername.remove(existing.getUsername(), existing);
+            byEmail.remove(existing.getEmail(), existing);
+        }
+    }
+
+    private UserBO lookup(ConcurrentHashMap<String, UserBO> index, String key) {
+        InternalValidation.notNull(key, "Key must not be null");
+
+        UserBO user = index.get(key);
+
+        if (user == null || users.get(user.getId()) == user) {
+            return user;
+        }
+
+        return readExclusively(() -> index.get(key));
+    }
+
+}
@@ -0,0 +1,1009 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimplePageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimpleSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageableAdapter;
+import org.springframework.data.domain.Sort;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Base {@link UserGateway} for stores local to the application, implementing
+ * every operation on top of a few primitives: loading a user by identifier,
+ * username or email, visiting every user, and writing a user.
+ * <p>
+ * Writes are serialized by a single lock, which enforces the uniqueness of
+ * usernames and emails and lets subclasses update their indexes without
+ * racing other writers. Sorted and paginated reads select the first entries
+ * of the requested order with a bounded heap over all users, so their cost
+ * grows with the number of users and the depth of the page, not with a full
+ * sort. Like {@code PgUserGateway}, users are never deleted: the delete
+ * operations soft delete them, and soft-deleted users are still returned by
+ * reads.
+ *
+ * @author Mateus Pfeffer
+ * @see InMemoryUserGateway
+ * @see MappedUserGateway
+ * @since 1.0
+ */
+public abstract class LocalUserGateway implements UserGateway {
+
+    private static final String ID = "id";
+
+    private static final Map<String, Function<UserBO, Object>> PROPERTIES = Map.ofEntries(
+            Map.entry(ID, UserBO::getId),
+            Map.entry("firstName", UserBO::getFirstName),
+            Map.entry("lastName", UserBO::getLastName),
+            Map.entry("username", UserBO::getUsername),
+            Map.entry("email", UserBO::getEmail),
+            // Statuses are stored as text, so they sort by name
+            Map.entry("status", user -> user.getStatus() == null ? null : user.getStatus().name()),
+            Map.entry("createdAt", user -> user.getCreatedAt() == null ? null : user.getCreatedAt().value()),
+            Map.entry("updatedAt", UserBO::getUpdatedAt),
+            Map.entry("deletedAt", UserBO::getDeletedAt),
+            Map.entry("disabledAt", UserBO::getDisabledAt),
+            Map.entry("lastLoginAt", UserBO::getLastLoginAt)
+    );
+
+    private static final Set<String> TEMPORAL_PROPERTIES = Set.of("createdAt", "updatedAt", "deletedAt",
+            "disabledAt", "lastLoginAt");
+
+    private static final Map<String, BiFunction<UserBO.Builder, Object, UserBO.Builder>> SETTERS = Map.of(
+            "firstName", (builder, value) -> builder.firstName((String) value),
+            "lastName", (builder, value) -> builder.lastName((String) value),
+            "username", (builder, value) -> builder.username((String) value),
+            "email", (builder, value) -> builder.email((String) value),
+            "status", (builder, value) -> builder.status((UserStatus) value),
+            "createdAt", (builder, value) -> builder.createdAt(new CreatedAtVO((LocalDateTime) value)),
+            "disabledAt", (builder, value) -> builder.disabledAt((LocalDateTime) value),
+            "lastLoginAt", (builder, value) -> builder.lastLoginAt((LocalDateTime) value)
+    );
+
+    private static final DateTimeFormatter EXPORT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    private static final String EXPORT_CSV_HEADER = "id,firstName,lastName,username,email,status,createdAt,updatedAt,"
+            + "deletedAt,disabledAt,lastLoginAt";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Loads a user by identifier.
+     *
+     * @return the user, or {@code null} if there is none
+     */
+    protected abstract UserBO load(long id);
+
+    /**
+     * Loads a user by username, consistently with {@link #load(long)}: a
+     * user returned here is the one currently stored under its identifier.
+     *
+     * @return the user, or {@code null} if there is none
+     */
+    protected abstract UserBO loadByUsername(String username);
+
+    /**
+     * Loads a user by email, with the guarantees of
+     * {@link #loadByUsername(String)}.
+     *
+     * @return the user, or {@code null} if there is none
+     */
+    protected abstract UserBO loadByEmail(String email);
+
+    /**
+     * Visits every user once, in no particular order.
+     */
+    protected abstract void forEachUser(Consumer<UserBO> action);
+
+    protected abstract int userCount();
+
+    /**
+     * Stores a new version of a user, replacing {@code existing} and the
+     * index entries of its username and email. Always called while holding
+     * the write lock, with a user whose identifier is set and whose username
+     * and email are unique.
+     *
+     * @param existing the version being replaced, or {@code null} for a new
+     *                 user
+     * @param user     the version to store
+     */
+    protected abstract void write(UserBO existing, UserBO user);
+
+    /**
+     * Runs a read while no write is in progress, for subclasses whose
+     * lock-free reads detected a concurrent write.
+     */
+    protected final <T> T readExclusively(Supplier<T> read) {
+        writeLock.lock();
+
+        try {
+            return read.get();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Makes sure new identifiers are greater than the given one, for
+     * subclasses loading users stored by a previous run.
+     */
+    protected final void advanceSequence(long id) {
+        sequence.accumulateAndGet(id, Math::max);
+    }
+
+    @Override
+    public Optional<UserBO> findById(Long id) {
+        InternalValidation.notNull(id, "ID must not be null");
+
+        return Optional.ofNullable(load(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        InternalValidation.notNull(id, "ID must not be null");
+
+        return load(id) != null;
+    }
+
+    @Override
+    public List<UserBO> findByIds(Iterable<Long> ids) {
+        InternalValidation.notNull(ids, "IDs must not be null");
+
+        List<UserBO> found = new ArrayList<>();
+        Set<UserBO> seen = new HashSet<>();
+
+        for (Long id : ids) {
+            UserBO user = load(id);
+
+            if (user != null && seen.add(user)) {
+                found.add(user);
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public Optional<UserBO> findByUsername(String username) {
+        return Optional.ofNullable(loadByUsername(username));
+    }
+
+    @Override
+    public Optional<UserBO> findByEmail(String email) {
+        return Optional.ofNullable(loadByEmail(email));
+    }
+
+    @Override
+    public List<UserBO> findByUsernames(Collection<String> usernames) {
+        return lookupAll(this::loadByUsername, usernames);
+    }
+
+    @Override
+    public List<UserBO> findByEmails(Collection<String> emails) {
+        return lookupAll(this::loadByEmail, emails);
+    }
+
+    @Override
+    public long count() {
+        return userCount();
+    }
+
+    @Override
+    public List<UserBO> findAll() {
+        List<UserBO> all = new ArrayList<>(userCount());
+
+        forEachUser(all::add);
+
+        return all;
+    }
+
+    @Override
+    public List<UserBO> findAll(String... sort) {
+        List<UserBO> all = findAll();
+
+        all.sort(comparator(sort));
+
+        return all;
+    }
+
+    @Override
+    public Stream<UserBO> streamAll(String... sort) {
+        return findAll(sort).stream();
+    }
+
+    @Override
+    public PageContent<UserBO> findAll(Pagination pagination) {
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        if (pagination.isUnpaged()) {
+            return new SimplePageContent<>(findAll(pagination.getSort()));
+        }
+
+        long total = userCount();
+        List<UserBO> content = findPage(pagination, pagination.getPageSize());
+
+        return new SimplePageContent<>(content, pagination, Math.max(total, pagination.getOffset() + content.size()));
+    }
+
+    @Override
+    public PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination) {
+        InternalValidation.notNull(filter, "Filter must not be null");
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        Predicate<UserBO> matches = user -> matches(filter, user);
+
+        if (pagination.isUnpaged()) {
+            return new SimplePageContent<>(first(Integer.MAX_VALUE, comparator(pagination.getSort()), matches));
+        }
+
+        LongAdder total = new LongAdder();
+        long end = pagination.getOffset() + pagination.getPageSize();
+        int offset = (int) Math.min(pagination.getOffset(), Integer.MAX_VALUE);
+
+        List<UserBO> first = first((int) Math.min(end, Integer.MAX_VALUE), comparator(pagination.getSort()),
+                user -> {
+                    if (!matches.test(user)) {
+                        return false;
+                    }
+
+                    total.increment();
+
+                    return true;
+                });
+
+        return new SimplePageContent<>(offset >= first.size() ? List.of() : first.subList(offset, first.size()),
+                pagination, total.sum());
+    }
+
+    @Override
+    public SliceContent<UserBO> findSlice(Pagination pagination) {
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        if (pagination.isUnpaged()) {
+            return new SimpleSliceContent<>(findAll(pagination.getSort()), pagination, false);
+        }
+
+        List<UserBO> content = findPage(pagination, pagination.getPageSize() + 1);
+        boolean hasNext = content.size() > pagination.getPageSize();
+
+        return new SimpleSliceContent<>(hasNext ? content.subList(0, pagination.getPageSize()) : content,
+                pagination, hasNext);
+    }
+
+    /**
+     * Finds a slice after the cursor keys, comparing every user with the
+     * keys in the order of the cursor and then by identifier, as the keyset
+     * predicate of {@code PgGateway} does.
+     */
+    @Override
+    public CursorSliceContent<UserBO> scroll(CursorPaginationRequest pagination) {
+        InternalValidation.notNull(pagination, "CursorPaginationRequest must not be null");
+
+        List<Sort.Order> orders = orders(pagination.getSort());
+        Predicate<UserBO> after = after(orders, pagination.getKeys());
+
+        List<UserBO> content = first(pagination.getPageSize() + 1, comparator(orders), after);
+        CursorPaginationRequest next = null;
+
+        if (content.size() > pagination.getPageSize()) {
+            content = content.subList(0, pagination.getPageSize());
+            next = pagination.after(keysOf(orders, content.getLast()));
+        }
+
+        return new CursorSliceContent<>(content, pagination, next);
+    }
+
+    @Override
+    public Optional<IdRange> findIdRange() {
+        LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        forEachUser(user -> {
+            min.accumulate(user.getId());
+            max.accumulate(user.getId());
+        });
+
+        return min.get() > max.get() ? Optional.empty() : Optional.of(new IdRange(min.get(), max.get()));
+    }
+
+    /**
+     * Probes the identifiers of the range one by one, which is the fastest
+     * path for the dense identifiers of a sequence. Once the misses outgrow
+     * four times the limit, the range is assumed sparse and the users are
+     * scanned instead.
+     */
+    @Override
+    public List<UserBO> findRange(long afterId, long toId, int limit) {
+        InternalValidation.isTrue(limit > 0, "Limit must be greater than zero");
+
+        List<UserBO> found = new ArrayList<>(Math.min(limit, 1_024));
+        long misses = 0;
+
+        for (long id = afterId + 1; id <= toId && id > afterId && found.size() < limit; id++) {
+            UserBO user = load(id);
+
+            if (user != null) {
+                found.add(user);
+            } else if (++misses > 4L * limit) {
+                return first(limit, Comparator.comparing(UserBO::getId),
+                        candidate -> candidate.getId() > afterId && candidate.getId() <= toId);
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public UserBO save(UserBO bo) {
+        InternalValidation.notNull(bo, "User must not be null");
+
+        writeLock.lock();
+
+        try {
+            UserBO existing = bo.getId() == null ? null : load(bo.getId());
+
+            verifyUnique(bo, bo.getId());
+
+            UserBO.Builder builder = copy(bo)
+                    .id(bo.getId() == null ? nextId() : bo.getId());
+
+            if (existing != null) {
+                builder.updatedAt(LocalDateTime.now());
+            }
+
+            return store(existing, builder.build());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<UserBO> saveAll(Iterable<? extends UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        List<UserBO> saved = new ArrayList<>();
+
+        writeLock.lock();
+
+        try {
+            for (UserBO bo : bos) {
+                saved.add(save(bo));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return saved;
+    }
+
+    @Override
+    public InsertResult<UserBO> create(UserBO bo) {
+        InternalValidation.notNull(bo, "User must not be null");
+
+        writeLock.lock();
+
+        try {
+            String conflict = conflictOf(bo, null);
+
+            if (conflict != null) {
+                return InsertResult.conflict(conflict);
+            }
+
+            return InsertResult.inserted(store(null, copy(bo).id(nextId()).build()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<InsertResult<UserBO>> createAll(List<UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        List<InsertResult<UserBO>> results = new ArrayList<>(bos.size());
+
+        writeLock.lock();
+
+        try {
+            for (UserBO bo : bos) {
+                results.add(create(bo));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * Inserts the users one by one under the write lock, so a user
+     * conflicting with one inserted earlier in the same list is rejected as
+     * well. Users without a status are imported as {@link UserStatus#ACTIVE}.
+     */
+    @Override
+    public Map<Integer, String> insertAllIfAbsent(List<UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        Map<Integer, String> conflicts = new LinkedHashMap<>();
+
+        writeLock.lock();
+
+        try {
+            for (int position = 0; position < bos.size(); position++) {
+                UserBO bo = bos.get(position);
+                String conflict = conflictOf(bo, null);
+
+                if (conflict != null) {
+                    conflicts.put(position, conflict);
+                    continue;
+                }
+
+                store(null, copy(bo)
+                        .id(nextId())
+                        .status(bo.getStatus() == null ? UserStatus.ACTIVE : bo.getStatus())
+                        .build());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return conflicts;
+    }
+
+    /**
+     * Applies the changes unless the user is missing or soft-deleted.
+     *
+     * @throws LocalizedException if the new username or email belongs to
+     *                            another user.
+     */
+    @Override
+    public boolean updateById(Long id, Map<String, ?> changes) {
+        InternalValidation.notNull(id, "ID must not be null");
+        InternalValidation.notNull(changes, "Changes must not be null");
+
+        writeLock.lock();
+
+        try {
+            UserBO existing = load(id);
+
+            if (existing == null || existing.getDeletedAt() != null) {
+                return false;
+            }
+
+            UserBO.Builder builder = copy(existing);
+
+            changes.forEach((attribute, value) -> {
+                BiFunction<UserBO.Builder, Object, UserBO.Builder> setter = SETTERS.get(attribute);
+
+                InternalValidation.notNull(setter, "Unknown user attribute " + attribute);
+                setter.apply(builder, value);
+            });
+
+            UserBO updated = builder.updatedAt(LocalDateTime.now()).build();
+
+            verifyUnique(updated, id);
+            store(existing, updated);
+
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean softDeleteById(Long id) {
+        InternalValidation.notNull(id, "ID must not be null");
+
+        writeLock.lock();
+
+        try {
+            UserBO existing = load(id);
+
+            if (existing == null || existing.getDeletedAt() != null) {
+                return false;
+            }
+
+            store(existing, copy(existing).deletedAt(LocalDateTime.now()).build());
+
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        InternalValidation.notNull(id, "ID must not be null");
+        InternalValidation.notNull(lastLoginAt, "Last login time must not be null");
+
+        updateLastLogins(Map.of(id, lastLoginAt));
+    }
+
+    @Override
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        InternalValidation.notNull(lastLogins, "Last logins must not be null");
+
+        int updated = 0;
+
+        writeLock.lock();
+
+        try {
+            for (Map.Entry<Long, LocalDateTime> lastLogin : lastLogins.entrySet()) {
+                UserBO existing = load(lastLogin.getKey());
+
+                if (existing == null || existing.getDeletedAt() != null
+                        || existing.getLastLoginAt() != null && !existing.getLastLoginAt().isBefore(lastLogin.getValue())) {
+                    continue;
+                }
+
+                store(existing, copy(existing).lastLoginAt(lastLogin.getValue()).build());
+                updated++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return updated;
+    }
+
+    @Override
+    public int softDeleteAllById(Iterable<? extends Long> ids) {
+        InternalValidation.notNull(ids, "IDs must not be null");
+
+        int deleted = 0;
+
+        writeLock.lock();
+
+        try {
+            for (Long id : new HashSet<>(toList(ids))) {
+                if (softDeleteById(id)) {
+                    deleted++;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        softDeleteById(id);
+    }
+
+    @Override
+    public void delete(UserBO bo) {
+        InternalValidation.notNull(bo, "User must not be null");
+
+        if (bo.getId() != null) {
+            softDeleteById(bo.getId());
+        }
+    }
+
+    @Override
+    public long deleteAllById(Iterable<? extends Long> ids) {
+        return softDeleteAllById(ids);
+    }
+
+    @Override
+    public long deleteAll(Iterable<? extends UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        List<Long> ids = new ArrayList<>();
+
+        for (UserBO bo : bos) {
+            if (bo.getId() != null) {
+                ids.add(bo.getId());
+            }
+        }
+
+        return softDeleteAllById(ids);
+    }
+
+    @Override
+    public long deleteAll() {
+        writeLock.lock();
+
+        try {
+            List<Long> ids = new ArrayList<>();
+            forEachUser(user -> ids.add(user.getId()));
+
+            return softDeleteAllById(ids);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the users with the same columns and value formats as the
+     * {@code COPY} export of {@code PgUserGateway}, in no particular order.
+     */
+    @Override
+    public long export(UserExportFilterDTO filter, ExportFormat format, OutputStream out) {
+        InternalValidation.notNull(filter, "Filter must not be null");
+        InternalValidation.notNull(format, "Format must not be null");
+        InternalValidation.notNull(out, "OutputStream must not be null");
+
+        List<UserBO> exported = findAll().stream()
+                .filter(user -> matches(filter, user))
+                .toList();
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            switch (format) {
+                case CSV -> writeCsv(writer, exported);
+                case NDJSON -> writeNdjson(writer, exported);
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return exported.size();
+    }
+
+    private long nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    private UserBO store(UserBO existing, UserBO user) {
+        write(existing, user);
+        advanceSequence(user.getId());
+
+        return user;
+    }
+
+    private static List<UserBO> lookupAll(Function<String, UserBO> lookup, Collection<String> keys) {
+        InternalValidation.notNull(keys, "Keys must not be null");
+
+        List<UserBO> found = new ArrayList<>();
+        Set<UserBO> seen = new HashSet<>();
+
+        for (String key : keys) {
+            UserBO user = lookup.apply(key);
+
+            if (user != null && seen.add(user)) {
+                found.add(user);
+            }
+        }
+
+        return found;
+    }
+
+    private void verifyUnique(UserBO user, Long id) {
+        String conflict = conflictOf(user, id);
+
+        if (conflict != null) {
+            throw new LocalizedException(SimpleErrorCode.ALREADY_EXISTS, "user", conflict);
+        }
+    }
+
+    private String conflictOf(UserBO user, Long id) {
+        UserBO sameUsername = loadByUsername(user.getUsername());
+
+        if (sameUsername != null && !sameUsername.getId().equals(id)) {
+            return "username";
+        }
+
+        UserBO sameEmail = loadByEmail(user.getEmail());
+
+        if (sameEmail != null && !sameEmail.getId().equals(id)) {
+            return "email";
+        }
+
+        return null;
+    }
+
+    private List<UserBO> findPage(Pagination pagination, int size) {
+        long end = pagination.getOffset() + size;
+        int offset = Math.toIntExact(Math.min(pagination.getOffset(), Integer.MAX_VALUE));
+
+        List<UserBO> first = first((int) Math.min(end, Integer.MAX_VALUE), comparator(pagination.getSort()), user -> true);
+
+        return offset >= first.size() ? List.of() : first.subList(offset, first.size());
+    }
+
+    /**
+     * Selects the first {@code count} users of the given order among those
+     * matching the filter, keeping only {@code count} users in a heap whose
+     * head is the last of them.
+     */
+    private List<UserBO> first(int count, Comparator<UserBO> order, Predicate<UserBO> filter) {
+        PriorityQueue<UserBO> heap = new PriorityQueue<>(Math.min(count, 1_024) + 1, order.reversed());
+
+        forEachUser(user -> {
+            if (!filter.test(user)) {
+                return;
+            }
+
+            if (heap.size() < count) {
+                heap.add(user);
+            } else if (order.compare(user, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(user);
+            }
+        });
+
+        List<UserBO> first = new ArrayList<>(heap);
+
+        first.sort(order);
+
+        return first;
+    }
+
+    private static List<Sort.Order> orders(String[] sort) {
+        List<Sort.Order> orders = SpringPageableAdapter.toSort(sort).toList();
+
+        for (Sort.Order order : orders) {
+            if (!PROPERTIES.containsKey(order.getProperty())) {
+                throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "sort");
+            }
+        }
+
+        return orders;
+    }
+
+    private static Comparator<UserBO> comparator(String[] sort) {
+        return comparator(orders(sort));
+    }
+
+    /**
+     * Sorts nulls last in ascending order and first in descending order, as
+     * PostgreSQL does by default, and breaks ties by identifier.
+     */
+    private static Comparator<UserBO> comparator(List<Sort.Order> orders) {
+        Comparator<UserBO> comparator = (left, right) -> 0;
+
+        for (Sort.Order order : orders) {
+            Comparator<UserBO> byProperty = Comparator.comparing(PROPERTIES.get(order.getProperty()),
+                    LocalUserGateway::compareValues);
+
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+
+        return comparator.thenComparing(UserBO::getId);
+    }
+
+    private static Predicate<UserBO> after(List<Sort.Order> orders, Map<String, String> keys) {
+        if (keys.isEmpty()) {
+            return user -> true;
+        }
+
+        List<Sort.Order> keyOrders = new ArrayList<>(orders);
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        if (keyOrders.stream().noneMatch(order -> order.getProperty().equals(ID))) {
+            keyOrders.add(Sort.Order.asc(ID));
+        }
+
+        try {
+            for (Sort.Order order : keyOrders) {
+                if (!keys.containsKey(order.getProperty())) {
+                    throw new IllegalArgumentException("Missing cursor key " + order.getProperty());
+                }
+
+                values.put(order.getProperty(), parseKey(order.getProperty(), keys.get(order.getProperty())));
+            }
+        } catch (RuntimeException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "cursor");
+        }
+
+        return user -> {
+            for (Sort.Order order : keyOrders) {
+                int comparison = compareValues(PROPERTIES.get(order.getProperty()).apply(user),
+                        values.get(order.getProperty()));
+
+                if (comparison != 0) {
+                    return order.isAscending() ? comparison > 0 : comparison < 0;
+                }
+            }
+
+            return false;
+        };
+    }
+
+    private static Map<String, String> keysOf(List<Sort.Order> orders, UserBO user) {
+        Map<String, String> keys = new LinkedHashMap<>();
+
+        for (Sort.Order order : orders) {
+            Object value = PROPERTIES.get(order.getProperty()).apply(user);
+
+            keys.put(order.getProperty(), value == null ? null : value.toString());
+        }
+
+        keys.putIfAbsent(ID, user.getId().toString());
+
+        return keys;
+    }
+
+    private static Object parseKey(String property, String key) {
+        if (key == null) {
+            return null;
+        }
+
+        if (property.equals(ID)) {
+            return Long.valueOf(key);
+        }
+
+        return TEMPORAL_PROPERTIES.contains(property) ? LocalDateTime.parse(key) : key;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == right ? 0 : left == null ? 1 : -1;
+        }
+
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static boolean matches(UserFilterDTO filter, UserBO user) {
+        LocalDateTime createdAt = user.getCreatedAt() == null ? null : user.getCreatedAt().value();
+
+        return (filter.getStatus() == null || filter.getStatus() == user.getStatus())
+                && inRange(createdAt, filter.getCreatedFrom(), filter.getCreatedTo())
+                && inRange(user.getLastLoginAt(), filter.getLastLoginFrom(), filter.getLastLoginTo());
+    }
+
+    private static boolean inRange(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        return (from == null || value != null && !value.isBefore(from))
+                && (to == null || value != null && value.isBefore(to));
+    }
+
+    private static boolean matches(UserExportFilterDTO filter, UserBO user) {
+        LocalDateTime createdAt = user.getCreatedAt() == null ? null : user.getCreatedAt().value();
+
+        return (filter.getStatus() == null || filter.getStatus() == user.getStatus())
+                && (filter.getCreatedFrom() == null || createdAt != null && !createdAt.isBefore(filter.getCreatedFrom()))
+                && (filter.getCreatedTo() == null || createdAt != null && createdAt.isBefore(filter.getCreatedTo()));
+    }
+
+    private static void writeCsv(Writer writer, List<UserBO> users) throws IOException {
+        writer.write(EXPORT_CSV_HEADER);
+        writer.write('\n');
+
+        for (UserBO user : users) {
+            Object[] row = {user.getId(), user.getFirstName(), user.getLastName(), user.getUsername(),
+                    user.getEmail(), user.getStatus() == null ? null : user.getStatus().name(),
+                    formatTimestamp(user.getCreatedAt() == null ? null : user.getCreatedAt().value()),
+                    formatTimestamp(user.getUpdatedAt()), formatTimestamp(user.getDeletedAt()),
+                    formatTimestamp(user.getDisabledAt()), formatTimestamp(user.getLastLoginAt())};
+
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+
+                writeCsvValue(writer, row[i]);
+            }
+
+            writer.write('\n');
+        }
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+
+        if (text.isEmpty() || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private static void writeNdjson(Writer writer, List<UserBO> users) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+
+        generator.setRootValueSeparator(null);
+
+        for (UserBO user : users) {
+            generator.writeStartObject();
+            generator.writeStringField("id", user.getId().toString());
+            generator.writeStringField("firstName", user.getFirstName());
+            generator.writeStringField("lastName", user.getLastName());
+            generator.writeStringField("username", user.getUsername());
+            generator.writeStringField("email", user.getEmail());
+            generator.writeStringField("status", user.getStatus() == null ? null : user.getStatus().name());
+            writeTimestampField(generator, "createdAt", user.getCreatedAt() == null ? null : user.getCreatedAt().value());
+            writeTimestampField(generator, "updatedAt", user.getUpdatedAt());
+            writeTimestampField(generator, "deletedAt", user.getDeletedAt());
+            writeTimestampField(generator, "disabledAt", user.getDisabledAt());
+            writeTimestampField(generator, "lastLoginAt", user.getLastLoginAt());
+            generator.writeEndObject();
+            generator.flush();
+
+            writer.write('\n');
+        }
+    }
+
+    private static void writeTimestampField(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        generator.writeStringField(name, value == null ? null : value.toString());
+    }
+
+    private static String formatTimestamp(LocalDateTime value) {
+        return value == null ? null : EXPORT_TIMESTAMP.format(value);
+    }
+
+    private static UserBO.Builder copy(UserBO user) {
+        return new UserBO.Builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .status(user.getStatus())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .deletedAt(user.getDeletedAt())
+                .disabledAt(user.getDisabledAt())
+                .lastLoginAt(user.getLastLoginAt());
+    }
+
+    private static <T> List<T> toList(Iterable<? extends T> items) {
+        List<T> list = new ArrayList<>();
+
+        items.forEach(list::add);
+
+        return list;
+    }
+
+}
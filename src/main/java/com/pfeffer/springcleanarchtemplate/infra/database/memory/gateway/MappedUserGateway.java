@@ -0,0 +1,136 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped.MappedUserStore;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@link LocalUserGateway} keeping users off-heap in a
+ * {@link MappedUserStore}, for read-mostly nodes holding more users than the
+ * heap comfortably can, and that must restart without reloading them.
+ * <p>
+ * Every read decodes the user from the mapped files, trading some latency
+ * against the heap-based {@link InMemoryUserGateway} for a heap footprint
+ * that does not grow with the number of users. Sparse log segments are
+ * compacted in the background at the configured interval.
+ * <p>
+ * It is not a component: {@code UserGatewayConfiguration} creates it only
+ * when {@code clean-arch.gateway.store} is {@code mapped}, so its files are
+ * never created otherwise.
+ *
+ * @author Mateus Pfeffer
+ * @see MappedUserStore
+ * @since 1.0
+ */
+public class MappedUserGateway extends LocalUserGateway implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedUserGateway.class);
+
+    private final MappedUserStore store;
+
+    private final ScheduledExecutorService compactor;
+
+    private MappedUserGateway(MappedUserStore store) {
+        this.store = store;
+        this.compactor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("mapped-user-compaction").daemon().factory());
+    }
+
+    /**
+     * Opens the store under {@link GatewayProperties.Mapped#getDirectory()},
+     * creating it if needed, and starts compacting it in the background.
+     *
+     * @param properties the gateway properties. Must not be {@code null}.
+     * @return the opened gateway, to be closed on shutdown.
+     */
+    public static MappedUserGateway open(GatewayProperties properties) {
+        InternalValidation.notNull(properties, "GatewayProperties must not be null");
+
+        GatewayProperties.Mapped mapped = properties.getMapped();
+
+        InternalValidation.isTrue(mapped.getCompactionThreshold() > 0 && mapped.getCompactionThreshold() <= 1,
+                "Compaction threshold must be between 0 and 1");
+
+        MappedUserGateway gateway = new MappedUserGateway(new MappedUserStore(mapped.getDirectory(),
+                Math.toIntExact(mapped.getSegmentSize().toBytes()), mapped.getExpectedSize()));
+
+        gateway.advanceSequence(gateway.store.maxId());
+
+        long interval = mapped.getCompactionInterval().toMillis();
+
+        gateway.compactor.scheduleWithFixedDelay(() -> gateway.compact(mapped.getCompactionThreshold()),
+                interval, interval, TimeUnit.MILLISECONDS);
+
+        return gateway;
+    }
+
+    @Override
+    protected UserBO load(long id) {
+        return store.get(id);
+    }
+
+    @Override
+    protected UserBO loadByUsername(String username) {
+        return store.getByUsername(username);
+    }
+
+    @Override
+    protected UserBO loadByEmail(String email) {
+        return store.getByEmail(email);
+    }
+
+    @Override
+    protected void forEachUser(Consumer<UserBO> action) {
+        store.forEach(action);
+    }
+
+    @Override
+    protected int userCount() {
+        return store.size();
+    }
+
+    @Override
+    protected void write(UserBO existing, UserBO user) {
+        store.put(user);
+    }
+
+    /**
+     * Stops the compaction and closes the store, so the next start maps the
+     * indexes again instead of rebuilding them. If interrupted while waiting
+     * for a running compaction, the store is closed anyway and the interrupt
+     * status is restored.
+     */
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            store.close();
+        }
+    }
+
+    private void compact(double threshold) {
+        try {
+            int deleted = store.compact(threshold);
+
+            if (deleted > 0) {
+                log.info("Compacted {} user log segment(s)", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to compact the user log", e);
+        }
+    }
+
+}
@@ -0,0 +1,367 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongPredicate;
+
+/**
+ * An open-addressing hash table of {@code long} keys and values stored in a
+ * memory-mapped file, so it lives outside the heap and survives restarts.
+ * <p>
+ * Slots are pairs of a key and a value probed linearly; a zero key marks an
+ * empty slot, so zero cannot be used as a key. The table either maps each
+ * key to a single value, through {@link #put(long, long)}, or to several
+ * values, through {@link #add(long, long)}, which is how hash indexes keep
+ * entries whose keys collide. The file doubles once it is three quarters
+ * full: the new table is written next to the old one and moved over it, so
+ * a crash leaves either table intact.
+ * <p>
+ * This class is not thread-safe; callers serialize writes against reads.
+ *
+ * @author Mateus Pfeffer
+ * @see MappedUserStore
+ * @since 1.0
+ */
+public class MappedLongTable implements AutoCloseable {
+
+    /**
+     * Returned by {@link #get(long)} when the key is absent.
+     */
+    public static final long NO_VALUE = -1;
+
+    private static final long MAGIC = 0x4C4F4E475441424CL;
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int SLOT_SIZE = 16;
+
+    /**
+     * The largest table that fits in a single mapping.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 26;
+
+    private final Path file;
+
+    private MappedByteBuffer buffer;
+
+    private int mask;
+
+    private int size;
+
+    /**
+     * Opens the table stored in the given file, creating it with room for
+     * {@code expectedSize} entries if it does not exist.
+     *
+     * @throws UncheckedIOException if the file cannot be read or created.
+     * @throws IllegalStateException if the file is not a table.
+     */
+    public MappedLongTable(Path file, int expectedSize) {
+        InternalValidation.notNull(file, "File must not be null");
+        InternalValidation.isTrue(expectedSize >= 0, "Expected size must not be negative");
+
+        this.file = file;
+
+        if (Files.exists(file)) {
+            this.buffer = map(file, -1);
+
+            if (buffer.getLong(0) != MAGIC) {
+                throw new IllegalStateException("Not a mapped table: " + file);
+            }
+
+            this.mask = (int) buffer.getLong(8) - 1;
+            this.size = (int) buffer.getLong(16);
+        } else {
+            int capacity = Integer.highestOneBit(Math.max(16, (int) Math.min(MAXIMUM_CAPACITY, expectedSize * 4L / 3 + 1)) - 1) << 1;
+
+            this.buffer = create(file, capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+    /**
+     * Returns the value of the key, or the first value added for it.
+     *
+     * @return the value, or {@link #NO_VALUE} if the key is absent.
+     */
+    public long get(long key) {
+        return find(key, value -> true);
+    }
+
+    /**
+     * Returns the first value of the key accepted by the predicate, which
+     * hash indexes use to tell apart the entries of colliding keys.
+     *
+     * @return the value, or {@link #NO_VALUE} if none is accepted.
+     */
+    public long find(long key, LongPredicate predicate) {
+        checkKey(key);
+
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keyAt(slot);
+
+            if (current == 0) {
+                return NO_VALUE;
+            }
+
+            if (current == key && predicate.test(valueAt(slot))) {
+                return valueAt(slot);
+            }
+        }
+    }
+
+    /**
+     * Maps the key to the value, replacing its previous value.
+     *
+     * @return the previous value, or {@link #NO_VALUE} if the key was absent.
+     */
+    public long put(long key, long value) {
+        checkKey(key);
+
+        int slot = slot(key);
+
+        for (long current; (current = keyAt(slot)) != 0; slot = (slot + 1) & mask) {
+            if (current == key) {
+                long previous = valueAt(slot);
+
+                setValue(slot, value);
+
+                return previous;
+            }
+        }
+
+        insert(slot, key, value);
+
+        return NO_VALUE;
+    }
+
+    /**
+     * Adds the value to those of the key, unless it is already one of them.
+     */
+    public void add(long key, long value) {
+        checkKey(key);
+
+        int slot = slot(key);
+
+        for (long current; (current = keyAt(slot)) != 0; slot = (slot + 1) & mask) {
+            if (current == key && valueAt(slot) == value) {
+                return;
+            }
+        }
+
+        insert(slot, key, value);
+    }
+
+    /**
+     * Removes the given value of the key, shifting the following entries of
+     * the probe sequence back so no tombstone is left behind.
+     *
+     * @return whether the value was found.
+     */
+    public boolean remove(long key, long value) {
+        checkKey(key);
+
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keyAt(slot);
+
+            if (current == 0) {
+                return false;
+            }
+
+            if (current == key && valueAt(slot) == value) {
+                shiftBack(slot);
+                setSize(size - 1);
+
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Visits every entry, in no particular order.
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot <= mask; slot++) {
+            long key = keyAt(slot);
+
+            if (key != 0) {
+                consumer.accept(key, valueAt(slot));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the table to the storage device.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    private void insert(int slot, long key, long value) {
+        setKey(slot, key);
+        setValue(slot, value);
+        setSize(size + 1);
+
+        if (size > (mask + 1) / 4 * 3) {
+            resize();
+        }
+    }
+
+    private void shiftBack(int hole) {
+        for (int slot = (hole + 1) & mask; ; slot = (slot + 1) & mask) {
+            long key = keyAt(slot);
+
+            if (key == 0) {
+                break;
+            }
+
+            int home = slot(key);
+
+            // Moves the entry into the hole unless its home lies cyclically between the hole and its slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                setKey(hole, key);
+                setValue(hole, valueAt(slot));
+                hole = slot;
+            }
+        }
+
+        setKey(hole, 0);
+        setValue(hole, 0);
+    }
+
+    private void resize() {
+        int capacity = (mask + 1) << 1;
+
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Mapped table " + file + " is full");
+        }
+
+        Path resized = file.resolveSibling(file.getFileName() + ".resize");
+
+        try {
+            // Left behind by a resize interrupted by a crash
+            Files.deleteIfExists(resized);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        MappedLongTable target = new MappedLongTable(resized, create(resized, capacity), capacity - 1);
+
+        forEach((key, value) -> {
+            int slot = target.slot(key);
+
+            while (target.keyAt(slot) != 0) {
+                slot = (slot + 1) & target.mask;
+            }
+
+            target.setKey(slot, key);
+            target.setValue(slot, value);
+        });
+
+        target.setSize(size);
+        target.force();
+
+        try {
+            Files.move(resized, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.buffer = target.buffer;
+        this.mask = target.mask;
+    }
+
+    private MappedLongTable(Path file, MappedByteBuffer buffer, int mask) {
+        this.file = file;
+        this.buffer = buffer;
+        this.mask = mask;
+    }
+
+    private int slot(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    private long keyAt(int slot) {
+        return buffer.getLong(HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    private long valueAt(int slot) {
+        return buffer.getLong(HEADER_SIZE + slot * SLOT_SIZE + 8);
+    }
+
+    private void setKey(int slot, long key) {
+        buffer.putLong(HEADER_SIZE + slot * SLOT_SIZE, key);
+    }
+
+    private void setValue(int slot, long value) {
+        buffer.putLong(HEADER_SIZE + slot * SLOT_SIZE + 8, value);
+    }
+
+    private void setSize(int size) {
+        this.size = size;
+        buffer.putLong(16, size);
+    }
+
+    private static void checkKey(long key) {
+        InternalValidation.isTrue(key != 0, "Key must not be zero");
+    }
+
+    /**
+     * The murmur3 64-bit finalizer, spreading sequential keys over the table.
+     */
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        key *= 0xC4CEB9FE1A85EC53L;
+        key ^= key >>> 33;
+
+        return key;
+    }
+
+    private static MappedByteBuffer create(Path file, int capacity) {
+        MappedByteBuffer buffer = map(file, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+
+        buffer.putLong(0, MAGIC);
+        buffer.putLong(8, capacity);
+        buffer.putLong(16, 0);
+
+        return buffer;
+    }
+
+    private static MappedByteBuffer map(Path file, long length) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length < 0 ? channel.size() : length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Receives the entries of a {@link MappedLongTable}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        void accept(long key, long value);
+
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * An append-only log of records stored in memory-mapped segment files of a
+ * fixed size.
+ * <p>
+ * Each record is written as its length followed by its bytes, and is
+ * addressed by the number of its segment in the upper half of a
+ * {@code long} and its offset in the lower half. Segment files are created
+ * zero-filled, so the first zero length of the last segment marks the end of
+ * the log, and a record is only visible once its length, written last, is.
+ * Segments are numbered in the order they are created and never reused, so
+ * a record copied by compaction always comes after the version it replaces.
+ * <p>
+ * This class is not thread-safe; callers serialize writes against reads.
+ *
+ * @author Mateus Pfeffer
+ * @see MappedUserStore
+ * @since 1.0
+ */
+public class MappedRecordLog implements AutoCloseable {
+
+    private static final int MAGIC = 0x55534C47;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 8;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final TreeMap<Integer, MappedByteBuffer> segments = new TreeMap<>();
+
+    private int current;
+
+    private int position;
+
+    /**
+     * Opens the log stored in the given directory, creating it if needed.
+     *
+     * @throws UncheckedIOException if the directory cannot be read or
+     *                              created.
+     * @throws IllegalStateException if a segment file is not part of a log.
+     */
+    public MappedRecordLog(Path directory, int segmentSize) {
+        InternalValidation.notNull(directory, "Directory must not be null");
+        InternalValidation.isTrue(segmentSize > HEADER_SIZE + 4, "Segment size is too small");
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(MappedRecordLog::isSegment).toList()) {
+                int segment = Integer.parseInt(file.getFileName().toString().substring(8, 16));
+                MappedByteBuffer buffer = map(file);
+
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IllegalStateException("Not a record log segment: " + file);
+                }
+
+                segments.put(segment, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (segments.isEmpty()) {
+            roll(0);
+        } else {
+            this.current = segments.lastKey();
+            this.position = end(segments.lastEntry().getValue());
+        }
+    }
+
+    /**
+     * Appends a record, moving to a new segment if it does not fit in the
+     * current one.
+     *
+     * @return the address of the record.
+     */
+    public long append(byte[] record) {
+        InternalValidation.isTrue(record.length > 0, "Record must not be empty");
+        InternalValidation.isTrue(HEADER_SIZE + 4 + record.length <= segmentSize, "Record does not fit in a segment");
+
+        MappedByteBuffer buffer = segments.get(current);
+
+        // Segments written with an earlier segment size keep their own
+        if (position + 4 + record.length > buffer.capacity()) {
+            roll(current + 1);
+            buffer = segments.get(current);
+        }
+
+        long address = address(current, position);
+
+        buffer.put(position + 4, record);
+        buffer.putInt(position, record.length);
+
+        position += 4 + record.length;
+
+        return address;
+    }
+
+    /**
+     * Returns the bytes of the record at the given address, as a read-only
+     * view of the segment.
+     */
+    public ByteBuffer read(long address) {
+        MappedByteBuffer buffer = segments.get(segmentOf(address));
+        int offset = (int) address;
+
+        return buffer.slice(offset + 4, buffer.getInt(offset)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the space taken by the record at the given address, including
+     * its length.
+     */
+    public int sizeOf(long address) {
+        return 4 + segments.get(segmentOf(address)).getInt((int) address);
+    }
+
+    /**
+     * Visits the records of a segment in the order they were appended.
+     */
+    public void forEach(int segment, RecordConsumer consumer) {
+        MappedByteBuffer buffer = segments.get(segment);
+        int limit = segment == current ? position : buffer.capacity();
+
+        for (int offset = HEADER_SIZE; offset + 4 <= limit; ) {
+            int length = buffer.getInt(offset);
+
+            if (length == 0) {
+                break;
+            }
+
+            consumer.accept(address(segment, offset), buffer.slice(offset + 4, length).asReadOnlyBuffer());
+
+            offset += 4 + length;
+        }
+    }
+
+    /**
+     * Returns the segment numbers in the order they were created.
+     */
+    public List<Integer> segments() {
+        return new ArrayList<>(segments.keySet());
+    }
+
+    /**
+     * Returns the segment being appended to, which is never compacted.
+     */
+    public int currentSegment() {
+        return current;
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Deletes a segment whose records have all been copied or replaced.
+     * <p>
+     * The mapping itself is released once the buffer is garbage collected,
+     * since mapped buffers cannot be unmapped explicitly.
+     */
+    public void delete(int segment) {
+        InternalValidation.isTrue(segment != current, "The current segment cannot be deleted");
+
+        segments.remove(segment);
+
+        try {
+            Files.deleteIfExists(file(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes every segment to the storage device.
+     */
+    public void force() {
+        segments.values().forEach(MappedByteBuffer::force);
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    public static int segmentOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private void roll(int segment) {
+        Path file = file(segment);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+
+            segments.put(segment, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.current = segment;
+        this.position = HEADER_SIZE;
+    }
+
+    private int end(MappedByteBuffer buffer) {
+        int offset = HEADER_SIZE;
+
+        for (int length; offset + 4 <= buffer.capacity() && (length = buffer.getInt(offset)) != 0; ) {
+            offset += 4 + length;
+        }
+
+        return offset;
+    }
+
+    private Path file(int segment) {
+        return directory.resolve(String.format("segment-%08d.log", segment));
+    }
+
+    private static boolean isSegment(Path file) {
+        return file.getFileName().toString().matches("segment-\\d{8}\\.log");
+    }
+
+    private static long address(int segment, int offset) {
+        return (long) segment << 32 | offset;
+    }
+
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Receives the records of a {@link MappedRecordLog}.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+
+        void accept(long address, ByteBuffer record);
+
+    }
+
+}
@@ -0,0 +1,424 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A persistent, off-heap store of users: a {@link MappedRecordLog} of
+ * serialized users and three {@link MappedLongTable} indexes, from
+ * identifier to record address and from the hashes of usernames and emails
+ * to identifiers.
+ * <p>
+ * Every write appends a new version of the user and points the indexes to
+ * it, leaving the previous version behind as garbage that
+ * {@link #compact(double)} reclaims by copying the live records of sparse
+ * segments to the end of the log and deleting the segments. Since the
+ * indexes are files too, reopening the store after a clean shutdown only
+ * maps them again, whatever the number of users. A marker file is kept while
+ * the store is open; if it is still there on opening, the previous run
+ * crashed and the indexes are rebuilt from the log, where the last version
+ * of each user wins.
+ * <p>
+ * Reads share a read lock and writes take the write lock, so reads always
+ * observe complete writes. {@link #forEach(Consumer)} holds the read lock for
+ * the whole scan, which suits the read-mostly workloads this store is meant
+ * for.
+ *
+ * @author Mateus Pfeffer
+ * @see MappedRecordLog
+ * @see MappedLongTable
+ * @since 1.0
+ */
+public class MappedUserStore implements AutoCloseable {
+
+    private static final String OPEN_MARKER = "open";
+
+    private final Path directory;
+
+    private final MappedRecordLog log;
+
+    private final MappedLongTable ids;
+
+    private final MappedLongTable usernames;
+
+    private final MappedLongTable emails;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Bytes of live records by segment, which drives compaction.
+     */
+    private final Map<Integer, Long> liveBytes = new HashMap<>();
+
+    private long maxId;
+
+    private boolean closed;
+
+    /**
+     * Opens the store kept in the given directory, creating it if needed.
+     *
+     * @param directory    the directory of the log and index files
+     * @param segmentSize  the size of new log segments, in bytes
+     * @param expectedSize the number of users the indexes are created for
+     * @throws UncheckedIOException if the files cannot be read or created.
+     */
+    public MappedUserStore(Path directory, int segmentSize, int expectedSize) {
+        InternalValidation.notNull(directory, "Directory must not be null");
+
+        this.directory = directory;
+
+        boolean crashed;
+
+        try {
+            Files.createDirectories(directory);
+
+            crashed = Files.exists(directory.resolve(OPEN_MARKER));
+
+            if (crashed) {
+                for (String index : List.of("ids.idx", "usernames.idx", "emails.idx")) {
+                    Files.deleteIfExists(directory.resolve(index));
+                }
+            } else {
+                Files.createFile(directory.resolve(OPEN_MARKER));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.log = new MappedRecordLog(directory, segmentSize);
+        this.ids = new MappedLongTable(directory.resolve("ids.idx"), expectedSize);
+        this.usernames = new MappedLongTable(directory.resolve("usernames.idx"), expectedSize);
+        this.emails = new MappedLongTable(directory.resolve("emails.idx"), expectedSize);
+
+        if (crashed) {
+            rebuild();
+        }
+
+        ids.forEach((id, address) -> {
+            liveBytes.merge(MappedRecordLog.segmentOf(address), (long) log.sizeOf(address), Long::sum);
+            maxId = Math.max(maxId, id);
+        });
+    }
+
+    /**
+     * Returns the user with the given identifier, or {@code null}.
+     */
+    public UserBO get(long id) {
+        lock.readLock().lock();
+
+        try {
+            return read(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the user with the given username, or {@code null}.
+     */
+    public UserBO getByUsername(String username) {
+        return getByKey(usernames, username, UserBO::getUsername);
+    }
+
+    /**
+     * Returns the user with the given email, or {@code null}.
+     */
+    public UserBO getByEmail(String email) {
+        return getByKey(emails, email, UserBO::getEmail);
+    }
+
+    /**
+     * Appends a new version of the user and points the indexes to it. The
+     * caller guarantees the username and email are not taken by another
+     * user.
+     */
+    public void put(UserBO user) {
+        InternalValidation.notNull(user, "User must not be null");
+        InternalValidation.notNull(user.getId(), "User ID must not be null");
+
+        byte[] record = UserRecordCodec.encode(user);
+
+        lock.writeLock().lock();
+
+        try {
+            long id = user.getId();
+            long previous = ids.get(id);
+            UserBO existing = previous == MappedLongTable.NO_VALUE ? null : decode(previous);
+            long address = log.append(record);
+
+            ids.put(id, address);
+            track(address, 1);
+
+            if (existing != null) {
+                track(previous, -1);
+            }
+
+            reindex(usernames, existing == null ? null : existing.getUsername(), user.getUsername(), id);
+            reindex(emails, existing == null ? null : existing.getEmail(), user.getEmail(), id);
+
+            maxId = Math.max(maxId, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every user once, in no particular order, blocking writes for
+     * the duration of the scan.
+     */
+    public void forEach(Consumer<UserBO> action) {
+        lock.readLock().lock();
+
+        try {
+            ids.forEach((id, address) -> action.accept(decode(address)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the greatest identifier ever stored, or zero.
+     */
+    public long maxId() {
+        lock.readLock().lock();
+
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reclaims the space of the segments whose live records fill less than
+     * the given fraction of them, by copying those records to the end of the
+     * log and deleting the segments. Records are copied in small batches,
+     * each under the write lock, so reads and writes go on in between.
+     *
+     * @param threshold the fraction of live bytes under which a segment is
+     *                  compacted, between 0 and 1
+     * @return the number of segments deleted.
+     */
+    public int compact(double threshold) {
+        InternalValidation.isTrue(threshold > 0 && threshold <= 1, "Threshold must be between 0 and 1");
+
+        int deleted = 0;
+
+        for (int segment : sparseSegments(threshold)) {
+            List<Long> addresses = new ArrayList<>();
+
+            lock.readLock().lock();
+
+            try {
+                log.forEach(segment, (address, record) -> addresses.add(address));
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            for (int from = 0; from < addresses.size(); from += 1_024) {
+                copyLive(addresses.subList(from, Math.min(addresses.size(), from + 1_024)));
+            }
+
+            lock.writeLock().lock();
+
+            try {
+                if (liveBytes.getOrDefault(segment, 0L) == 0) {
+                    liveBytes.remove(segment);
+                    log.delete(segment);
+                    deleted++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Writes the log and indexes to the storage device and marks the store
+     * as cleanly closed.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            log.close();
+            ids.close();
+            usernames.close();
+            emails.close();
+
+            Files.deleteIfExists(directory.resolve(OPEN_MARKER));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private UserBO getByKey(MappedLongTable index, String key, Function<UserBO, String> attribute) {
+        InternalValidation.notNull(key, "Key must not be null");
+
+        UserBO[] found = new UserBO[1];
+
+        lock.readLock().lock();
+
+        try {
+            index.find(hash(key), id -> {
+                UserBO user = read(id);
+
+                if (user != null && key.equals(attribute.apply(user))) {
+                    found[0] = user;
+
+                    return true;
+                }
+
+                return false;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return found[0];
+    }
+
+    private UserBO read(long id) {
+        long address = ids.get(id);
+
+        return address == MappedLongTable.NO_VALUE ? null : decode(address);
+    }
+
+    private UserBO decode(long address) {
+        return UserRecordCodec.decode(log.read(address));
+    }
+
+    private void reindex(MappedLongTable index, String previous, String current, long id) {
+        if (current != null && current.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            index.remove(hash(previous), id);
+        }
+
+        if (current != null) {
+            index.add(hash(current), id);
+        }
+    }
+
+    private void track(long address, int sign) {
+        liveBytes.merge(MappedRecordLog.segmentOf(address), (long) sign * log.sizeOf(address), Long::sum);
+    }
+
+    private List<Integer> sparseSegments(double threshold) {
+        lock.readLock().lock();
+
+        try {
+            return log.segments().stream()
+                    .filter(segment -> segment != log.currentSegment())
+                    .filter(segment -> liveBytes.getOrDefault(segment, 0L) < threshold * log.segmentSize())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void copyLive(List<Long> addresses) {
+        lock.writeLock().lock();
+
+        try {
+            for (long address : addresses) {
+                ByteBuffer record = log.read(address);
+                long id = UserRecordCodec.id(record);
+
+                if (ids.get(id) != address) {
+                    continue;
+                }
+
+                byte[] bytes = new byte[record.remaining()];
+
+                record.get(bytes);
+
+                long copy = log.append(bytes);
+
+                ids.put(id, copy);
+                track(copy, 1);
+                track(address, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from the log after a crash: later versions of a
+     * user replace earlier ones, then usernames and emails are indexed from
+     * the last versions only.
+     */
+    private void rebuild() {
+        for (int segment : log.segments()) {
+            log.forEach(segment, (address, record) -> ids.put(UserRecordCodec.id(record), address));
+        }
+
+        ids.forEach((id, address) -> {
+            UserBO user = decode(address);
+
+            if (user.getUsername() != null) {
+                usernames.add(hash(user.getUsername()), id);
+            }
+
+            if (user.getEmail() != null) {
+                emails.add(hash(user.getEmail()), id);
+            }
+        });
+    }
+
+    /**
+     * A 64-bit FNV-1a hash of the characters, mixed and never zero. Unlike
+     * {@link String#hashCode()} it rarely collides, and unlike a seeded hash
+     * it is stable across runs, as the persistent indexes require.
+     */
+    static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+
+        hash = MappedLongTable.mix(hash);
+
+        return hash == 0 ? 1 : hash;
+    }
+
+}
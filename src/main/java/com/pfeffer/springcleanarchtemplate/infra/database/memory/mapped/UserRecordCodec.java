@@ -0,0 +1,133 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Serializes users to the records of a {@link MappedUserStore}.
+ * <p>
+ * A record starts with the identifier, so it can be read without decoding
+ * the rest, followed by the strings as a length and UTF-8 bytes (a length of
+ * -1 standing for {@code null}), the status by name, so reordering
+ * {@link UserStatus} does not corrupt stored records, and the timestamps as
+ * seconds and nanoseconds preceded by a presence flag.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+final class UserRecordCodec {
+
+    private UserRecordCodec() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    static byte[] encode(UserBO user) {
+        byte[][] strings = {
+                bytes(user.getFirstName()),
+                bytes(user.getLastName()),
+                bytes(user.getUsername()),
+                bytes(user.getEmail()),
+                bytes(user.getStatus() == null ? null : user.getStatus().name())
+        };
+        LocalDateTime[] timestamps = {
+                user.getCreatedAt() == null ? null : user.getCreatedAt().value(),
+                user.getUpdatedAt(),
+                user.getDeletedAt(),
+                user.getDisabledAt(),
+                user.getLastLoginAt()
+        };
+
+        int size = Long.BYTES;
+
+        for (byte[] string : strings) {
+            size += Integer.BYTES + (string == null ? 0 : string.length);
+        }
+
+        for (LocalDateTime timestamp : timestamps) {
+            size += 1 + (timestamp == null ? 0 : Long.BYTES + Integer.BYTES);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+
+        buffer.putLong(user.getId());
+
+        for (byte[] string : strings) {
+            buffer.putInt(string == null ? -1 : string.length);
+
+            if (string != null) {
+                buffer.put(string);
+            }
+        }
+
+        for (LocalDateTime timestamp : timestamps) {
+            buffer.put((byte) (timestamp == null ? 0 : 1));
+
+            if (timestamp != null) {
+                buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(timestamp.getNano());
+            }
+        }
+
+        return buffer.array();
+    }
+
+    static UserBO decode(ByteBuffer record) {
+        ByteBuffer buffer = record.duplicate();
+
+        UserBO.Builder builder = new UserBO.Builder()
+                .id(buffer.getLong())
+                .firstName(string(buffer))
+                .lastName(string(buffer))
+                .username(string(buffer))
+                .email(string(buffer));
+
+        String status = string(buffer);
+        LocalDateTime createdAt = timestamp(buffer);
+
+        return builder
+                .status(status == null ? null : UserStatus.valueOf(status))
+                .createdAt(createdAt == null ? null : new CreatedAtVO(createdAt))
+                .updatedAt(timestamp(buffer))
+                .deletedAt(timestamp(buffer))
+                .disabledAt(timestamp(buffer))
+                .lastLoginAt(timestamp(buffer))
+                .build();
+    }
+
+    static long id(ByteBuffer record) {
+        return record.getLong(record.position());
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime timestamp(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+}
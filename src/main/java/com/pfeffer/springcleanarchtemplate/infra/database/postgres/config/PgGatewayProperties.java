@@ -0,0 +1,107 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the PostgreSQL gateways, bound from the
+ * {@code clean-arch.postgres} prefix.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "clean-arch.postgres")
+public class PgGatewayProperties {
+
+    /**
+     * Number of entities written per JDBC batch by the bulk operations. The
+     * persistence context is flushed and cleared after every batch, so this
+     * also bounds the number of managed entities kept in memory.
+     * <p>
+     * Should match {@code hibernate.jdbc.batch_size}.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Number of rows fetched per round trip by the streaming reads. The
+     * PostgreSQL driver only honors it inside a transaction; otherwise the
+     * whole result set is loaded at once.
+     */
+    private int fetchSize = 500;
+
+    /**
+     * How long an exact count is reused by listings requested with
+     * {@code CountMode.CACHED}. Writes through the gateway evict it earlier.
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * Below this number of estimated rows, listings requested with
+     * {@code CountMode.ESTIMATED} are counted exactly, since counting small
+     * tables is cheap and the planner statistics are least accurate for them.
+     */
+    private long estimatedCountThreshold = 100_000;
+
+    /**
+     * Maximum number of IDs bound, as a single array parameter, to each query
+     * issued by the multi-gets ({@code findByIds} and the like).
+     */
+    private int idChunkSize = 1_000;
+
+    /**
+     * Maximum number of multi-get chunks queried concurrently, each on its own
+     * connection. Chunks are queried sequentially inside a transaction, so
+     * they all see the same snapshot.
+     */
+    private int idChunkParallelism = 4;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public Duration getCountCacheTtl() {
+        return countCacheTtl;
+    }
+
+    public void setCountCacheTtl(Duration countCacheTtl) {
+        this.countCacheTtl = countCacheTtl;
+    }
+
+    public int getIdChunkSize() {
+        return idChunkSize;
+    }
+
+    public void setIdChunkSize(int idChunkSize) {
+        this.idChunkSize = idChunkSize;
+    }
+
+    public int getIdChunkParallelism() {
+        return idChunkParallelism;
+    }
+
+    public void setIdChunkParallelism(int idChunkParallelism) {
+        this.idChunkParallelism = idChunkParallelism;
+    }
+
+    public long getEstimatedCountThreshold() {
+        return estimatedCountThreshold;
+    }
+
+    public void setEstimatedCountThreshold(long estimatedCountThreshold) {
+        this.estimatedCountThreshold = estimatedCountThreshold;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.copy;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/**
+ * Helpers for PostgreSQL's {@code COPY} protocol, run on the connection of
+ * the current persistence context so that it joins the surrounding
+ * transaction.
+ * <p>
+ * Rows are exchanged in {@code FORMAT csv}: every non-null value is quoted
+ * and {@code null} is written as an empty, unquoted field.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public final class PgCopy {
+
+    private PgCopy() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Runs a {@code COPY ... FROM STDIN} statement, reading the rows from the
+     * given reader.
+     *
+     * @param entityManager the transaction-bound entity manager
+     * @param sql           the {@code COPY ... FROM STDIN} statement
+     * @param rows          the rows, in the format declared by the statement
+     * @return the number of rows copied
+     */
+    public static long copyIn(EntityManager entityManager, String sql, Reader rows) {
+        InternalValidation.notNull(entityManager, "EntityManager must not be null");
+        InternalValidation.notNull(sql, "SQL must not be null");
+        InternalValidation.notNull(rows, "Rows must not be null");
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Runs a {@code COPY ... TO STDOUT} statement, writing the rows to the
+     * given stream as the server sends them.
+     *
+     * @param entityManager the transaction-bound entity manager
+     * @param sql           the {@code COPY ... TO STDOUT} statement
+     * @param out           the stream to write to; it is not closed
+     * @return the number of rows copied
+     */
+    public static long copyOut(EntityManager entityManager, String sql, OutputStream out) {
+        InternalValidation.notNull(entityManager, "EntityManager must not be null");
+        InternalValidation.notNull(sql, "SQL must not be null");
+        InternalValidation.notNull(out, "OutputStream must not be null");
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Appends a row in {@code FORMAT csv} to the given buffer.
+     *
+     * @param buffer the buffer to append to
+     * @param values the values of the row; {@code null} values are written as
+     *               SQL {@code NULL} and any other value as its quoted
+     *               {@link String#valueOf(Object) string form}
+     */
+    public static void appendCsvRow(StringBuilder buffer, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+
+            if (values[i] != null) {
+                buffer.append('"')
+                        .append(String.valueOf(values[i]).replace("\"", "\"\""))
+                        .append('"');
+            }
+        }
+
+        buffer.append('\n');
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.config.PgGatewayProperties;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Computes the total number of rows of an entity table according to a
+ * {@link CountMode}.
+ * <ul>
+ *     <li>{@link CountMode#EXACT}: runs the given count query.</li>
+ *     <li>{@link CountMode#CACHED}: reuses the last exact count of the entity
+ *     for {@link PgGatewayProperties#getCountCacheTtl()}.</li>
+ *     <li>{@link CountMode#ESTIMATED}: reads {@code pg_class.reltuples},
+ *     maintained by {@code ANALYZE} and autovacuum. Tables that were never
+ *     analyzed or are estimated below
+ *     {@link PgGatewayProperties#getEstimatedCountThreshold()} rows fall back
+ *     to the cached exact count.</li>
+ * </ul>
+ * Cached counts are evicted by the {@link PgGateway} write operations, once
+ * when they run and again after their transaction completes, so a count
+ * computed while the write was not yet committed is not kept. A count that
+ * overlaps an eviction is returned but not cached.
+ *
+ * @author Mateus Pfeffer
+ * @see PgGateway
+ * @since 1.0
+ */
+@Component
+public class PgCountProvider {
+
+    private static final String ESTIMATE_QUERY =
+            "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST(to_regclass(:table) AS oid)";
+
+    private final EntityManager entityManager;
+
+    private final PgGatewayProperties properties;
+
+    private final Map<Class<?>, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, String> tableNames = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every eviction, so counts computed concurrently with a
+     * write are not cached.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PgCountProvider(EntityManager entityManager, PgGatewayProperties properties) {
+        InternalValidation.notNull(entityManager, "EntityManager must not be null");
+        InternalValidation.notNull(properties, "PgGatewayProperties must not be null");
+
+        this.entityManager = entityManager;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the number of rows of the given entity.
+     *
+     * @param entityClass the JPA entity class, must not be {@code null}
+     * @param mode        how the total is computed, must not be {@code null}
+     * @param exactCount  runs the exact count query, must not be {@code null}
+     * @return the exact, cached or estimated number of rows
+     */
+    public long count(Class<?> entityClass, CountMode mode, LongSupplier exactCount) {
+        InternalValidation.notNull(entityClass, "Entity class must not be null");
+        InternalValidation.notNull(mode, "CountMode must not be null");
+        InternalValidation.notNull(exactCount, "LongSupplier exactCount must not be null");
+
+        return switch (mode) {
+            case EXACT -> refresh(entityClass, exactCount);
+            case CACHED -> cached(entityClass, exactCount);
+            case ESTIMATED -> estimated(entityClass, exactCount);
+        };
+    }
+
+    /**
+     * Discards the cached count of the given entity, so the next cached count
+     * hits the database.
+     * <p>
+     * Inside a transaction, the count is discarded again once it completes,
+     * since a count read before the commit misses the pending write.
+     *
+     * @param entityClass the JPA entity class, must not be {@code null}
+     */
+    public void evict(Class<?> entityClass) {
+        InternalValidation.notNull(entityClass, "Entity class must not be null");
+
+        discard(entityClass);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    discard(entityClass);
+                }
+
+            });
+        }
+    }
+
+    private void discard(Class<?> entityClass) {
+        evictions.incrementAndGet();
+        cache.remove(entityClass);
+    }
+
+    private long refresh(Class<?> entityClass, LongSupplier exactCount) {
+        long generation = evictions.get();
+        long count = exactCount.getAsLong();
+
+        if (evictions.get() == generation) {
+            cache.put(entityClass, new CachedCount(count, System.nanoTime() + properties.getCountCacheTtl().toNanos()));
+        }
+
+        return count;
+    }
+
+    private long cached(Class<?> entityClass, LongSupplier exactCount) {
+        CachedCount cached = cache.get(entityClass);
+
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+            return cached.count();
+        }
+
+        return refresh(entityClass, exactCount);
+    }
+
+    private long estimated(Class<?> entityClass, LongSupplier exactCount) {
+        Object estimate = entityManager.createNativeQuery(ESTIMATE_QUERY)
+                .setParameter("table", tableName(entityClass))
+                .getSingleResult();
+
+        if (estimate instanceof Number number && number.longValue() >= properties.getEstimatedCountThreshold()) {
+            return number.longValue();
+        }
+
+        return cached(entityClass, exactCount);
+    }
+
+    private String tableName(Class<?> entityClass) {
+        return tableNames.computeIfAbsent(entityClass, type -> {
+            EntityPersister persister = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(type);
+
+            return ((AbstractEntityPersister) persister).getTableName();
+        });
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+
+}
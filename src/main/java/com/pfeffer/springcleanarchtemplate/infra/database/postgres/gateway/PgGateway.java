@@ -1,24 +1,64 @@
 package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
 
+import com.pfeffer.springcleanarchtemplate.domain.entity.Auditable;
 import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
 import com.pfeffer.springcleanarchtemplate.domain.exception.InternalValidationException;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimplePageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimpleSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
 import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
 import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageAdapter;
 import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageableAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringScrollPositionAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.config.PgGatewayProperties;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository.PgRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.lang.reflect.Array;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 /**
  * The {@code PgGateway} class provides a generic implementation of the
@@ -26,6 +66,13 @@ import java.util.function.Function;
  * <p>
  * It delegates database operations to a JPA repository and supports CRUD
  * operations for business objects ({@code BO}) extending {@link EntityBO}.
+ * <p>
+ * {@link #saveAll(Iterable)} is split into chunks of
+ * {@link PgGatewayProperties#getBatchSize()} entities. Each chunk is flushed
+ * as a single JDBC batch and the persistence context is cleared afterwards,
+ * keeping memory bounded regardless of the number of entities written.
+ * Deletes by ID bind chunks of {@link PgGatewayProperties#getIdChunkSize()}
+ * IDs as a single array parameter instead.
  *
  * @param <BO> the type of the business object that extends {@link EntityBO}.
  *             This represents the entity used within the domain layer.
@@ -52,31 +99,55 @@ public class PgGateway<BO extends EntityBO, T, ID>
      */
     protected final Function<BO, T> toEntityMapper;
 
+    private volatile String findByIdsSql;
+
+    private volatile String deleteByIdsSql;
+
     /**
-     * The Spring {@link JpaRepository} that will be used for data access.
+     * The {@link PgRepository} that will be used for data access.
      */
-    private final JpaRepository<T, ID> repository;
+    private final PgRepository<T, ID> repository;
+
+    /**
+     * The JPA entity class managed by the repository.
+     */
+    protected final Class<T> entityClass;
+
+    /**
+     * The shared PostgreSQL gateway infrastructure.
+     */
+    protected final PgGatewaySupport support;
 
     /**
      * Constructs a new {@link PgGateway} with the specified JPA repository.
      *
+     * @param support        the shared gateway infrastructure. Must not be
+     *                       {@code null}.
      * @param repository     the JPA repository used for data access. Must not
      *                       be {@code null}.
+     * @param entityClass    the JPA entity class managed by the repository.
+     *                       Must not be {@code null}.
      * @param toDomainMapper a function that converts the entity to a business
      *                       object. Must not be {@code null}
      * @param toEntityMapper a function that converts the business object to an
      *                       entity. Must not be {@code null}
      * @throws InternalValidationException if any of the arguments is {@code null}
      */
-    public PgGateway(JpaRepository<T, ID> repository,
+    public PgGateway(PgGatewaySupport support,
+                     PgRepository<T, ID> repository,
+                     Class<T> entityClass,
                      Function<T, BO> toDomainMapper,
                      Function<BO, T> toEntityMapper) {
 
-        InternalValidation.notNull(repository, "JpaRepository must not be null");
+        InternalValidation.notNull(support, "PgGatewaySupport must not be null");
+        InternalValidation.notNull(repository, "PgRepository must not be null");
+        InternalValidation.notNull(entityClass, "Entity class must not be null");
         InternalValidation.notNull(toDomainMapper, "Function toDomainMapper must not be null");
         InternalValidation.notNull(toEntityMapper, "Function toEntityMapper must not be null");
 
+        this.support = support;
         this.repository = repository;
+        this.entityClass = entityClass;
         this.toDomainMapper = toDomainMapper;
         this.toEntityMapper = toEntityMapper;
     }
@@ -95,12 +166,28 @@ public class PgGateway<BO extends EntityBO, T, ID>
 
     /**
      * Returns the count of all entities.
+     * <p>
+     * The count is always exact; it also refreshes the count reused by
+     * listings requested with {@link CountMode#CACHED}.
      *
      * @return the total number of entities.
      */
     @Override
     public long count() {
-        return repository.count();
+        return count(CountMode.EXACT);
+    }
+
+    /**
+     * Returns the count of all entities, computed according to the given
+     * mode.
+     *
+     * @param mode how the total is computed. Must not be {@code null}.
+     * @return the exact, cached or estimated number of entities.
+     * @see PgCountProvider
+     */
+    @Override
+    public long count(CountMode mode) {
+        return support.getCountProvider().count(entityClass, mode, repository::count);
     }
 
     /**
@@ -119,6 +206,11 @@ public class PgGateway<BO extends EntityBO, T, ID>
 
     /**
      * Returns all entities matching the given IDs.
+     * <p>
+     * The IDs are bound as a single array parameter to {@code SELECT ...
+     * WHERE id = ANY(?)}, so the statement text does not depend on the
+     * number of IDs. See {@link #findInChunks(Collection, Function)} for how
+     * large ID lists are split.
      *
      * @param ids the IDs of the entities to retrieve. Must not be {@code null}.
      * @return a list of entities corresponding to the given IDs, will never be
@@ -126,13 +218,173 @@ public class PgGateway<BO extends EntityBO, T, ID>
      */
     @Override
     public List<BO> findByIds(Iterable<ID> ids) {
-        List<T> entities = repository.findAllById(ids);
+        InternalValidation.notNull(ids, "IDs must not be null");
 
-        return entities.stream()
+        Set<ID> distinct = new LinkedHashSet<>();
+        ids.forEach(distinct::add);
+
+        return findInChunks(distinct, this::findAllByIdArray);
+    }
+
+    /**
+     * Returns the smallest and the largest identifier of the table, read
+     * from the primary key index.
+     *
+     * @return the range of identifiers, or empty if the table is empty.
+     * @implNote Range scans require a numeric identifier.
+     */
+    public Optional<IdRange> findIdRange() {
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Path<Long> id = root.get(getIdAttribute());
+
+        query.multiselect(builder.min(id), builder.max(id));
+
+        Tuple bounds = entityManager.createQuery(query).getSingleResult();
+
+        if (bounds.get(0) == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new IdRange(bounds.get(0, Number.class).longValue(), bounds.get(1, Number.class).longValue()));
+    }
+
+    /**
+     * Returns a batch of a range scan with a keyset query on the primary
+     * key, as read-only entities.
+     * <p>
+     * Outside a transaction, each call borrows a connection only for the
+     * duration of its query, so concurrent range scans run on separate
+     * connections.
+     *
+     * @param afterId the identifier after which to start, exclusive.
+     * @param toId    the identifier at which to stop, inclusive.
+     * @param limit   the maximum number of entities.
+     * @return the entities found, in identifier order.
+     * @implNote Range scans require a numeric identifier.
+     */
+    public List<BO> findRange(long afterId, long toId, int limit) {
+        InternalValidation.isTrue(limit > 0, "Limit must be greater than zero");
+
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<T> query = builder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        Path<Long> id = root.get(getIdAttribute());
+
+        query.where(builder.greaterThan(id, afterId), builder.lessThanOrEqualTo(id, toId))
+                .orderBy(builder.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
                 .map(toDomainMapper)
                 .toList();
     }
 
+    /**
+     * Runs a multi-get query for each chunk of at most
+     * {@link PgGatewayProperties#getIdChunkSize()} keys and maps the rows
+     * found.
+     * <p>
+     * Outside a transaction, the chunks are queried concurrently, up to
+     * {@link PgGatewayProperties#getIdChunkParallelism()} at a time, each on
+     * its own connection. Inside a transaction, they are queried sequentially
+     * on the transaction's connection.
+     *
+     * @param keys  the keys to look up. Must not be {@code null}.
+     * @param query the query for a chunk of keys.
+     * @param <K>   the type of the keys.
+     * @return the entities found, never {@code null}.
+     */
+    protected <K> List<BO> findInChunks(Collection<K> keys, Function<List<K>, List<T>> query) {
+        InternalValidation.notNull(keys, "Keys must not be null");
+
+        int chunkSize = support.getProperties().getIdChunkSize();
+        List<K> all = List.copyOf(keys);
+        List<List<K>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < all.size(); from += chunkSize) {
+            chunks.add(all.subList(from, Math.min(from + chunkSize, all.size())));
+        }
+
+        if (chunks.size() <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return chunks.stream()
+                    .flatMap(chunk -> query.apply(chunk).stream())
+                    .map(toDomainMapper)
+                    .toList();
+        }
+
+        List<CompletableFuture<List<T>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> query.apply(chunk), support.getChunkExecutor()))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .map(toDomainMapper)
+                    .toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> findAllByIdArray(List<ID> ids) {
+        return support.getEntityManager()
+                .createNativeQuery(getFindByIdsSql(), entityClass)
+                .setParameter("ids", toIdArray(ids))
+                .getResultList();
+    }
+
+    private String getFindByIdsSql() {
+        if (findByIdsSql == null) {
+            AbstractEntityPersister persister = getPersister();
+
+            findByIdsSql = "SELECT * FROM " + persister.getTableName()
+                    + " WHERE " + persister.getIdentifierColumnNames()[0] + " = ANY(:ids)";
+        }
+
+        return findByIdsSql;
+    }
+
+    private String getDeleteByIdsSql() {
+        if (deleteByIdsSql == null) {
+            AbstractEntityPersister persister = getPersister();
+
+            deleteByIdsSql = "DELETE FROM " + persister.getTableName()
+                    + " WHERE " + persister.getIdentifierColumnNames()[0] + " = ANY(:ids)";
+        }
+
+        return deleteByIdsSql;
+    }
+
+    /**
+     * Returns the Hibernate persister of the entity, e.g. to resolve its
+     * table and column names for native statements.
+     *
+     * @return the entity persister.
+     */
+    protected AbstractEntityPersister getPersister() {
+        return (AbstractEntityPersister) support.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+    }
+
     /**
      * Returns all entities.
      *
@@ -155,7 +407,7 @@ public class PgGateway<BO extends EntityBO, T, ID>
      */
     @Override
     public List<BO> findAll(String... sort) {
-        Sort sortRequest = Sort.by(sort);
+        Sort sortRequest = SpringPageableAdapter.toSort(sort);
 
         List<T> entities = repository.findAll(sortRequest);
 
@@ -164,11 +416,55 @@ public class PgGateway<BO extends EntityBO, T, ID>
                 .toList();
     }
 
+    /**
+     * Streams all entities with optional sorting parameters.
+     * <p>
+     * The rows are read through a forward-only cursor, fetching
+     * {@link PgGatewayProperties#getFetchSize()} rows per round trip, and
+     * each entity is detached as soon as it is mapped, so memory stays bounded
+     * regardless of the table size. The entities are loaded read-only, without
+     * dirty-checking snapshots.
+     * <p>
+     * The caller must consume the stream inside a transaction, otherwise the
+     * PostgreSQL driver ignores the fetch size and loads the whole result at
+     * once.
+     *
+     * @param sort optional sorting parameters.
+     * @return a stream of all sorted entities, must be closed by the caller.
+     */
+    @Override
+    public Stream<BO> streamAll(String... sort) {
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<T> query = builder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        query.select(root)
+                .orderBy(QueryUtils.toOrders(SpringPageableAdapter.toSort(sort), root, builder));
+
+        Stream<T> entities = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, support.getProperties().getFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+
+        return entities.map(entity -> {
+            BO bo = toDomainMapper.apply(entity);
+            entityManager.detach(entity);
+            return bo;
+        });
+    }
+
     /**
      * Finds all entities with pagination and optional sorting.
      * <p>
      * If there's no entities for the given pagination, the {@code content} of
      * {@link PageContent} will be an empty list.
+     * <p>
+     * The total number of entities is computed according to
+     * {@link Pagination#getCountMode()}, and only when it cannot be inferred
+     * from the page itself (e.g. on the first page holding fewer entities
+     * than the page size).
      *
      * @param pagination The pagination parameters that define the page number,
      *                   the size of the page, and optional sorting criteria.
@@ -176,11 +472,106 @@ public class PgGateway<BO extends EntityBO, T, ID>
      */
     @Override
     public PageContent<BO> findAll(Pagination pagination) {
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        if (pagination.isUnpaged()) {
+            return new SimplePageContent<>(findAll(pagination.getSort()));
+        }
+
         Pageable pageRequest = SpringPageableAdapter.toPageable(pagination);
 
-        Page<T> entities = repository.findAll(pageRequest);
+        List<T> entities = findContent(pagination, pagination.getPageSize());
+
+        Page<T> page = PageableExecutionUtils.getPage(entities, pageRequest,
+                () -> count(pagination.getCountMode()));
 
-        return new SpringPageAdapter<>(entities.map(toDomainMapper));
+        return new SpringPageAdapter<>(page.map(toDomainMapper));
+    }
+
+    /**
+     * Finds a slice of entities with pagination and optional sorting, without
+     * issuing a count query.
+     * <p>
+     * The query fetches one row more than the page size; the extra row is only
+     * used to tell whether there is a following slice and is not returned.
+     *
+     * @param pagination The pagination parameters that define the page number,
+     *                   the size of the page, and optional sorting criteria.
+     * @return a slice of entities.
+     */
+    @Override
+    public SliceContent<BO> findSlice(Pagination pagination) {
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        if (pagination.isUnpaged()) {
+            return new SimpleSliceContent<>(findAll(pagination.getSort()), pagination, false);
+        }
+
+        List<T> entities = findContent(pagination, pagination.getPageSize() + 1);
+
+        boolean hasNext = entities.size() > pagination.getPageSize();
+
+        if (hasNext) {
+            entities = entities.subList(0, pagination.getPageSize());
+        }
+
+        return new SimpleSliceContent<>(entities, pagination, hasNext)
+                .map(toDomainMapper);
+    }
+
+    /**
+     * Fetches the entities of the given page, sorted by its sort criteria.
+     *
+     * @param pagination the page to fetch.
+     * @param maxResults the maximum number of entities to fetch, starting at
+     *                   the offset of the page.
+     * @return the entities found, never {@code null}.
+     */
+    private List<T> findContent(Pagination pagination, int maxResults) {
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<T> query = builder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+
+        query.select(root)
+                .orderBy(QueryUtils.toOrders(SpringPageableAdapter.toSort(pagination.getSort()), root, builder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(pagination.getOffset()))
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    /**
+     * Finds a slice of entities using keyset pagination.
+     * <p>
+     * The cursor keys are translated into a seek predicate on the sort
+     * properties followed by the identifier, so no rows are skipped with an
+     * offset and no count query is issued.
+     *
+     * @param pagination the cursor that defines the page size, the sort
+     *                   criteria and the position to continue from.
+     * @return a slice of entities and the cursor of the next slice.
+     */
+    @Override
+    public CursorSliceContent<BO> scroll(CursorPaginationRequest pagination) {
+        InternalValidation.notNull(pagination, "CursorPaginationRequest must not be null");
+
+        EntityType<T> entityType = support.getEntityManager().getMetamodel().entity(entityClass);
+
+        Sort sort = SpringPageableAdapter.toSort(pagination.getSort());
+        KeysetScrollPosition position = SpringScrollPositionAdapter.toScrollPosition(pagination,
+                property -> entityType.getAttribute(property).getJavaType());
+
+        Specification<T> all = (root, query, builder) -> null;
+
+        Window<T> window = repository.findBy(all, query -> query.sortBy(sort)
+                .limit(pagination.getPageSize())
+                .scroll(position));
+
+        return SpringScrollPositionAdapter.toSliceContent(window, pagination)
+                .map(toDomainMapper);
     }
 
     /**
@@ -195,12 +586,86 @@ public class PgGateway<BO extends EntityBO, T, ID>
         T entity = toEntityMapper.apply(bo);
 
         entity = repository.save(entity);
+        support.getCountProvider().evict(entityClass);
 
         return toDomainMapper.apply(entity);
     }
 
+    /**
+     * Updates the given attributes of the entity with the given ID.
+     * <p>
+     * A single {@code UPDATE} statement sets only the given columns, plus
+     * {@code updatedAt} for {@link Auditable} entities, without loading the
+     * entity first. Pending changes are flushed before the statement and the
+     * persistence context is cleared afterwards, as it bypasses managed
+     * entities. Without changes, nothing is written, but the row must still
+     * match {@link #isWritable(CriteriaBuilder, Root)}.
+     *
+     * @param id      the ID of the entity to update. Must not be {@code null}.
+     * @param changes the new attribute values by attribute name. Must not be
+     *                {@code null}.
+     * @return {@code true} if a row was updated.
+     * @throws IllegalArgumentException if a key is not an attribute of the
+     *                                  entity.
+     */
+    @Override
+    @Transactional
+    public boolean updateById(ID id, Map<String, ?> changes) {
+        InternalValidation.notNull(id, "ID must not be null");
+        InternalValidation.notNull(changes, "Changes must not be null");
+
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        if (changes.isEmpty()) {
+            CriteriaQuery<Object> query = builder.createQuery();
+            Root<T> root = query.from(entityClass);
+
+            query.select(root.get(getIdAttribute()))
+                    .where(builder.equal(root.get(getIdAttribute()), id), isWritable(builder, root));
+
+            return !entityManager.createQuery(query).setMaxResults(1).getResultList().isEmpty();
+        }
+
+        CriteriaUpdate<T> update = builder.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+
+        if (Auditable.class.isAssignableFrom(entityClass)) {
+            update.set(root.get("updatedAt"), LocalDateTime.now());
+        }
+
+        update.where(builder.equal(root.get(getIdAttribute()), id), isWritable(builder, root));
+
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+
+        support.getCountProvider().evict(entityClass);
+
+        return updated > 0;
+    }
+
+    /**
+     * Returns the predicate restricting which rows partial updates may
+     * change.
+     *
+     * @param builder the criteria builder.
+     * @param root    the root of the update statement.
+     * @return a predicate that matches every row by default.
+     */
+    protected Predicate isWritable(CriteriaBuilder builder, Root<T> root) {
+        return builder.conjunction();
+    }
+
     /**
      * Saves all given entities.
+     * <p>
+     * The entities are written in JDBC batches of
+     * {@link PgGatewayProperties#getBatchSize()} rows. The persistence context
+     * is flushed and cleared after each batch, so entities managed by an
+     * enclosing transaction are detached as well.
      *
      * @param bos the entities to save. Must not be {@code null}.
      * @return the list of saved entities, will never be {@code null}.
@@ -208,17 +673,49 @@ public class PgGateway<BO extends EntityBO, T, ID>
     @Override
     @Transactional
     public List<BO> saveAll(Iterable<? extends BO> bos) {
-        List<T> entities = new ArrayList<>();
+        int batchSize = support.getProperties().getBatchSize();
+
+        List<BO> saved = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
 
         for (BO bo : bos) {
-            entities.add(toEntityMapper.apply(bo));
+            batch.add(toEntityMapper.apply(bo));
+
+            if (batch.size() == batchSize) {
+                saved.addAll(saveBatch(batch));
+                batch.clear();
+            }
         }
 
-        entities = repository.saveAll(entities);
+        if (!batch.isEmpty()) {
+            saved.addAll(saveBatch(batch));
+        }
 
-        return entities.stream()
+        support.getCountProvider().evict(entityClass);
+
+        return Collections.unmodifiableList(saved);
+    }
+
+    /**
+     * Saves a single batch of entities, flushing it as one JDBC batch and
+     * clearing the persistence context afterwards.
+     *
+     * @param batch the entities to save.
+     * @return the saved entities mapped to business objects.
+     */
+    private List<BO> saveBatch(List<T> batch) {
+        EntityManager entityManager = support.getEntityManager();
+
+        List<T> entities = repository.saveAll(batch);
+        entityManager.flush();
+
+        List<BO> saved = entities.stream()
                 .map(toDomainMapper)
                 .toList();
+
+        entityManager.clear();
+
+        return saved;
     }
 
     /**
@@ -230,6 +727,7 @@ public class PgGateway<BO extends EntityBO, T, ID>
     @Transactional
     public void deleteById(ID id) {
         repository.deleteById(id);
+        support.getCountProvider().evict(entityClass);
     }
 
     /**
@@ -243,43 +741,151 @@ public class PgGateway<BO extends EntityBO, T, ID>
         T entity = toEntityMapper.apply(bo);
 
         repository.delete(entity);
+        support.getCountProvider().evict(entityClass);
     }
 
     /**
      * Deletes entities by their IDs.
+     * <p>
+     * The entities are removed with set-based {@code DELETE ... WHERE id =
+     * ANY(?)} statements, without loading them first, binding at most
+     * {@link PgGatewayProperties#getIdChunkSize()} IDs as a single array
+     * parameter to each. Lifecycle callbacks are therefore not invoked.
      *
      * @param ids the IDs of the entities to delete. Must not be {@code null}.
+     * @return the number of rows deleted.
      */
     @Override
     @Transactional
-    public void deleteAllById(Iterable<? extends ID> ids) {
-        repository.deleteAllById(ids);
+    public long deleteAllById(Iterable<? extends ID> ids) {
+        InternalValidation.notNull(ids, "IDs must not be null");
+
+        long deleted = executeByIdArray(getDeleteByIdsSql(), ids);
+        support.getCountProvider().evict(entityClass);
+
+        return deleted;
     }
 
     /**
-     * Deletes all given entities.
+     * Deletes all given entities, by their IDs.
      *
      * @param bos the entities to delete. Must not be {@code null}.
+     * @return the number of rows deleted.
+     * @see #deleteAllById(Iterable)
      */
     @Override
     @Transactional
-    public void deleteAll(Iterable<? extends BO> bos) {
-        Collection<T> entities = new ArrayList<>();
+    public long deleteAll(Iterable<? extends BO> bos) {
+        InternalValidation.notNull(bos, "Entities must not be null");
+
+        PersistenceUnitUtil util = support.getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        List<ID> ids = new ArrayList<>();
 
         for (BO bo : bos) {
-            entities.add(toEntityMapper.apply(bo));
+            @SuppressWarnings("unchecked")
+            ID id = (ID) util.getIdentifier(toEntityMapper.apply(bo));
+
+            if (id != null) {
+                ids.add(id);
+            }
         }
 
-        repository.deleteAll(entities);
+        return deleteAllById(ids);
     }
 
     /**
-     * Deletes all entities managed by the repository.
+     * Deletes all entities managed by the repository, with a single
+     * {@code DELETE} statement.
+     *
+     * @return the number of rows deleted.
      */
     @Override
     @Transactional
-    public void deleteAll() {
-        repository.deleteAll();
+    public long deleteAll() {
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaDelete<T> delete = entityManager.getCriteriaBuilder().createCriteriaDelete(entityClass);
+        delete.from(entityClass);
+
+        entityManager.flush();
+        long deleted = entityManager.createQuery(delete).executeUpdate();
+        entityManager.clear();
+
+        support.getCountProvider().evict(entityClass);
+
+        return deleted;
+    }
+
+    /**
+     * Returns the name of the identifier attribute of the entity.
+     *
+     * @return the identifier attribute name.
+     */
+    protected String getIdAttribute() {
+        EntityType<T> entityType = support.getEntityManager().getMetamodel().entity(entityClass);
+
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+
+    /**
+     * Runs a native statement binding its {@code :ids} parameter to each chunk
+     * of IDs as a single array, so the statement text does not depend on the
+     * number of IDs. Pending changes are flushed before and the persistence
+     * context is cleared after, as the statement bypasses managed entities.
+     *
+     * @param sql the statement, with an {@code = ANY(:ids)} predicate.
+     * @param ids the IDs to bind. Must not contain {@code null} elements.
+     * @return the total number of affected rows.
+     */
+    protected long executeByIdArray(String sql, Iterable<? extends ID> ids) {
+        EntityManager entityManager = support.getEntityManager();
+
+        entityManager.flush();
+
+        long affected = inChunks(ids, chunk -> entityManager.createNativeQuery(sql)
+                .setParameter("ids", toIdArray(chunk))
+                .executeUpdate());
+
+        entityManager.clear();
+
+        return affected;
+    }
+
+    /**
+     * Runs a set-based statement for each chunk of at most
+     * {@link PgGatewayProperties#getIdChunkSize()} IDs.
+     *
+     * @param ids       the IDs to split.
+     * @param statement the statement to run for each chunk, returning the
+     *                  number of affected rows.
+     * @return the total number of affected rows.
+     */
+    protected long inChunks(Iterable<? extends ID> ids, ToIntFunction<List<ID>> statement) {
+        int chunkSize = support.getProperties().getIdChunkSize();
+        long affected = 0;
+        List<ID> chunk = new ArrayList<>(chunkSize);
+
+        for (ID id : ids) {
+            InternalValidation.notNull(id, "IDs must not contain null elements");
+            chunk.add(id);
+
+            if (chunk.size() == chunkSize) {
+                affected += statement.applyAsInt(chunk);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            affected += statement.applyAsInt(chunk);
+        }
+
+        return affected;
+    }
+
+    private Object[] toIdArray(List<ID> ids) {
+        EntityType<T> entityType = support.getEntityManager().getMetamodel().entity(entityClass);
+        Object[] array = (Object[]) Array.newInstance(entityType.getIdType().getJavaType(), ids.size());
+
+        return ids.toArray(array);
     }
 
 }
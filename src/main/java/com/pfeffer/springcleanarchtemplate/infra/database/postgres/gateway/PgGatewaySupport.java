@@ -0,0 +1,88 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.ThreadFactories;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.config.PgGatewayProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the infrastructure shared by every {@link PgGateway}, so concrete
+ * gateways only need to inject this single component and pass it to the
+ * {@link PgGateway} constructor.
+ *
+ * @author Mateus Pfeffer
+ * @see PgGateway
+ * @since 1.0
+ */
+@Component
+public class PgGatewaySupport {
+
+    private final EntityManager entityManager;
+
+    private final PgGatewayProperties properties;
+
+    private final PgCountProvider countProvider;
+
+    private final ExecutorService chunkExecutor;
+
+    public PgGatewaySupport(EntityManager entityManager,
+                            PgGatewayProperties properties,
+                            PgCountProvider countProvider,
+                            Environment environment) {
+        InternalValidation.notNull(entityManager, "EntityManager must not be null");
+        InternalValidation.notNull(properties, "PgGatewayProperties must not be null");
+        InternalValidation.notNull(countProvider, "PgCountProvider must not be null");
+        InternalValidation.notNull(environment, "Environment must not be null");
+        InternalValidation.isTrue(properties.getBatchSize() > 0, "Batch size must be greater than zero");
+        InternalValidation.isTrue(properties.getFetchSize() > 0, "Fetch size must be greater than zero");
+        InternalValidation.isTrue(properties.getIdChunkSize() > 0, "ID chunk size must be greater than zero");
+        InternalValidation.isTrue(properties.getIdChunkParallelism() > 0, "ID chunk parallelism must be greater than zero");
+
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.countProvider = countProvider;
+        this.chunkExecutor = Executors.newFixedThreadPool(properties.getIdChunkParallelism(),
+                ThreadFactories.named("pg-multi-get-", environment));
+    }
+
+    /**
+     * Returns the shared, transaction-bound {@link EntityManager}.
+     *
+     * @return the entity manager, never {@code null}
+     */
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    public PgGatewayProperties getProperties() {
+        return properties;
+    }
+
+    public PgCountProvider getCountProvider() {
+        return countProvider;
+    }
+
+    /**
+     * Returns the executor running multi-get chunks concurrently, sized by
+     * {@link PgGatewayProperties#getIdChunkParallelism()}. The pool stays
+     * fixed in the virtual-thread mode, since its size is what bounds the
+     * connections used by a single multi-get.
+     *
+     * @return the executor, never {@code null}
+     */
+    public ExecutorService getChunkExecutor() {
+        return chunkExecutor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        chunkExecutor.shutdown();
+    }
+
+}
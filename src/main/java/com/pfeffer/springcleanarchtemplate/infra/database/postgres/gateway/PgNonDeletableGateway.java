@@ -0,0 +1,185 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.NonDeletable;
+import com.pfeffer.springcleanarchtemplate.domain.exception.InternalValidationException;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.SoftDeleteGateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.config.PgGatewayProperties;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.model.PgEntity;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository.PgNonDeletableRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link PgGateway} for entities that are soft deleted, flagging them with
+ * a single {@code UPDATE ... SET deleted_at = ... WHERE id = ? AND deleted_at
+ * IS NULL} statement instead of loading and merging them.
+ * <p>
+ * The {@code delete} operations inherited from {@link PgGateway} soft delete
+ * as well, so rows of a {@link NonDeletable} entity are never removed.
+ *
+ * @param <BO> the type of the business object that this gateway manages.
+ * @param <T>  the type of the JPA entity.
+ * @param <ID> the type of the entity's identifier.
+ * @author Mateus Pfeffer
+ * @see PgNonDeletableRepository
+ * @since 1.0
+ */
+public class PgNonDeletableGateway<BO extends EntityBO & NonDeletable<?>, T extends PgEntity & NonDeletable<?>, ID>
+        extends PgGateway<BO, T, ID>
+        implements SoftDeleteGateway<BO, ID> {
+
+    private final PgNonDeletableRepository<T, ID> repository;
+
+    private volatile String softDeleteByIdsSql;
+
+    /**
+     * Constructs a new {@link PgNonDeletableGateway}.
+     *
+     * @param support        the shared gateway infrastructure. Must not be
+     *                       {@code null}.
+     * @param repository     the repository used for data access. Must not be
+     *                       {@code null}.
+     * @param entityClass    the JPA entity class managed by the repository.
+     *                       Must not be {@code null}.
+     * @param toDomainMapper a function that converts the entity to a business
+     *                       object. Must not be {@code null}
+     * @param toEntityMapper a function that converts the business object to an
+     *                       entity. Must not be {@code null}
+     * @throws InternalValidationException if any of the arguments is {@code null}
+     */
+    public PgNonDeletableGateway(PgGatewaySupport support,
+                                 PgNonDeletableRepository<T, ID> repository,
+                                 Class<T> entityClass,
+                                 Function<T, BO> toDomainMapper,
+                                 Function<BO, T> toEntityMapper) {
+        super(support, repository, entityClass, toDomainMapper, toEntityMapper);
+
+        this.repository = repository;
+    }
+
+    /**
+     * Soft deleted entities are left untouched by partial updates.
+     *
+     * @param builder the criteria builder.
+     * @param root    the root of the update statement.
+     * @return a predicate matching rows that are not deleted.
+     */
+    @Override
+    protected Predicate isWritable(CriteriaBuilder builder, Root<T> root) {
+        return builder.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * Flags the entity with the given ID as deleted, in a single statement.
+     *
+     * @param id the ID of the entity to delete. Must not be {@code null}.
+     * @return {@code true} if a row was flagged.
+     */
+    @Override
+    @Transactional
+    public boolean softDeleteById(ID id) {
+        InternalValidation.notNull(id, "ID must not be null");
+
+        int deleted = repository.softDeleteById(id);
+        support.getCountProvider().evict(entityClass);
+
+        return deleted > 0;
+    }
+
+    /**
+     * Flags the entities with the given IDs as deleted, with {@code UPDATE
+     * ... WHERE id = ANY(?)} statements binding at most
+     * {@link PgGatewayProperties#getIdChunkSize()} IDs as a single array
+     * parameter to each.
+     *
+     * @param ids the IDs of the entities to delete. Must not be {@code null}.
+     * @return the number of rows flagged.
+     */
+    @Override
+    @Transactional
+    public int softDeleteAllById(Iterable<? extends ID> ids) {
+        InternalValidation.notNull(ids, "IDs must not be null");
+
+        long deleted = executeByIdArray(getSoftDeleteByIdsSql(), ids);
+        support.getCountProvider().evict(entityClass);
+
+        return Math.toIntExact(deleted);
+    }
+
+    /**
+     * Soft deletes the entity with the given ID.
+     *
+     * @param id the ID of the entity to delete. Must not be {@code null}.
+     * @see #softDeleteById(Object)
+     */
+    @Override
+    @Transactional
+    public void deleteById(ID id) {
+        softDeleteById(id);
+    }
+
+    /**
+     * Soft deletes the given entity, by its ID.
+     *
+     * @param bo the entity to delete. Must not be {@code null}.
+     * @see #softDeleteAllById(Iterable)
+     */
+    @Override
+    @Transactional
+    public void delete(BO bo) {
+        InternalValidation.notNull(bo, "Entity must not be null");
+
+        deleteAll(List.of(bo));
+    }
+
+    /**
+     * Soft deletes the entities with the given IDs.
+     *
+     * @param ids the IDs of the entities to delete. Must not be {@code null}.
+     * @return the number of rows flagged.
+     * @see #softDeleteAllById(Iterable)
+     */
+    @Override
+    @Transactional
+    public long deleteAllById(Iterable<? extends ID> ids) {
+        return softDeleteAllById(ids);
+    }
+
+    /**
+     * Soft deletes every entity that is not deleted yet, with a single
+     * statement.
+     *
+     * @return the number of rows flagged.
+     */
+    @Override
+    @Transactional
+    public long deleteAll() {
+        int deleted = repository.softDeleteAll();
+        support.getCountProvider().evict(entityClass);
+
+        return deleted;
+    }
+
+    private String getSoftDeleteByIdsSql() {
+        if (softDeleteByIdsSql == null) {
+            AbstractEntityPersister persister = getPersister();
+            String deletedAt = persister.getPropertyColumnNames("deletedAt")[0];
+
+            softDeleteByIdsSql = "UPDATE " + persister.getTableName()
+                    + " SET " + deletedAt + " = LOCALTIMESTAMP"
+                    + " WHERE " + persister.getIdentifierColumnNames()[0] + " = ANY(:ids)"
+                    + " AND " + deletedAt + " IS NULL";
+        }
+
+        return softDeleteByIdsSql;
+    }
+
+}
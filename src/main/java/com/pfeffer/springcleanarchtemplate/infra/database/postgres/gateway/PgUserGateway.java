@@ -1,24 +1,82 @@
 package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SimplePageContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageableAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.copy.PgCopy;
 import com.pfeffer.springcleanarchtemplate.infra.database.postgres.mapper.PgUserMapper;
 import com.pfeffer.springcleanarchtemplate.infra.database.postgres.model.PgUserEntity;
 import com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository.PgUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 
 @Component
 public class PgUserGateway
-        extends PgGateway<UserBO, PgUserEntity, Long>
+        extends PgNonDeletableGateway<UserBO, PgUserEntity, Long>
         implements UserGateway {
 
+    private static final String COPY_IMPORT_SQL = """
+            COPY sc_user_import (position, id, first_name, last_name, username, email, status, created_at,
+                                 disabled_at, last_login_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String EXPORT_CSV_COLUMNS = """
+            id, first_name AS "firstName", last_name AS "lastName", username, email, status,
+            to_char(created_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "createdAt",
+            to_char(updated_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "updatedAt",
+            to_char(deleted_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "deletedAt",
+            to_char(disabled_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "disabledAt",
+            to_char(last_login_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "lastLoginAt"
+            """;
+
+    private static final String EXPORT_JSON_OBJECT = """
+            json_build_object('id', id::text, 'firstName', first_name, 'lastName', last_name, 'username', username,
+                              'email', email, 'status', status, 'createdAt', created_at, 'updatedAt', updated_at,
+                              'deletedAt', deleted_at, 'disabledAt', disabled_at, 'lastLoginAt', last_login_at)
+            """;
+
     private final PgUserRepository repository;
 
-    public PgUserGateway(PgUserRepository repository, PgUserRepository repository1) {
-        super(repository, PgUserMapper::toDomain, PgUserMapper::toEntity);
-        this.repository = repository1;
+    public PgUserGateway(PgGatewaySupport support, PgUserRepository repository) {
+        super(support, repository, PgUserEntity.class, PgUserMapper::toDomain, PgUserMapper::toEntity);
+        this.repository = repository;
     }
 
     @Override
@@ -35,4 +93,325 @@ public class PgUserGateway
         return user.map(PgUserMapper::toDomain);
     }
 
+    @Override
+    public List<UserBO> findByUsernames(Collection<String> usernames) {
+        return findInChunks(new LinkedHashSet<>(usernames),
+                chunk -> repository.findAllByUsernames(chunk.toArray(String[]::new)));
+    }
+
+    @Override
+    public List<UserBO> findByEmails(Collection<String> emails) {
+        return findInChunks(new LinkedHashSet<>(emails),
+                chunk -> repository.findAllByEmails(chunk.toArray(String[]::new)));
+    }
+
+    /**
+     * Finds a page of the users matching the filter with a single query, plus
+     * a count query with the same predicates when the total cannot be
+     * inferred from the page itself.
+     *
+     * @param filter     the users to find.
+     * @param pagination the page to find.
+     * @return the page of users.
+     */
+    @Override
+    public PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination) {
+        InternalValidation.notNull(filter, "Filter must not be null");
+        InternalValidation.notNull(pagination, "Pagination must not be null");
+
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<PgUserEntity> query = builder.createQuery(PgUserEntity.class);
+        Root<PgUserEntity> root = query.from(PgUserEntity.class);
+
+        query.select(root)
+                .where(filterPredicates(filter, builder, root))
+                .orderBy(QueryUtils.toOrders(SpringPageableAdapter.toSort(pagination.getSort()), root, builder));
+
+        TypedQuery<PgUserEntity> typedQuery = entityManager.createQuery(query);
+
+        if (pagination.isUnpaged()) {
+            return new SimplePageContent<>(typedQuery.getResultList().stream().map(PgUserMapper::toDomain).toList());
+        }
+
+        List<PgUserEntity> entities = typedQuery
+                .setFirstResult(Math.toIntExact(pagination.getOffset()))
+                .setMaxResults(pagination.getPageSize())
+                .getResultList();
+
+        Page<PgUserEntity> page = PageableExecutionUtils.getPage(entities, SpringPageableAdapter.toPageable(pagination),
+                () -> countFiltered(filter));
+
+        return new SpringPageAdapter<>(page.map(PgUserMapper::toDomain));
+    }
+
+    private long countFiltered(UserFilterDTO filter) {
+        EntityManager entityManager = support.getEntityManager();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<PgUserEntity> root = query.from(PgUserEntity.class);
+
+        query.select(builder.count(root))
+                .where(filterPredicates(filter, builder, root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] filterPredicates(UserFilterDTO filter, CriteriaBuilder builder, Root<PgUserEntity> root) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getStatus() != null) {
+            predicates.add(builder.equal(root.get("status"), filter.getStatus()));
+        }
+
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+        }
+
+        if (filter.getCreatedTo() != null) {
+            predicates.add(builder.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+        }
+
+        if (filter.getLastLoginFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(root.get("lastLoginAt"), filter.getLastLoginFrom()));
+        }
+
+        if (filter.getLastLoginTo() != null) {
+            predicates.add(builder.lessThan(root.get("lastLoginAt"), filter.getLastLoginTo()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    /**
+     * Streams the users straight from {@code COPY (SELECT ...) TO STDOUT},
+     * without creating any entity, in no particular order.
+     * <p>
+     * CSV output has a header line with the property names, so an export can
+     * be imported back as is. NDJSON rows are built by PostgreSQL with
+     * {@code json_build_object} and copied as single-column CSV whose quote
+     * and delimiter characters never occur in JSON text, so they are written
+     * unescaped.
+     *
+     * @param filter the users to export.
+     * @param format the output format.
+     * @param out    the stream to write to.
+     * @return the number of users written.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long export(UserExportFilterDTO filter, ExportFormat format, OutputStream out) {
+        InternalValidation.notNull(filter, "Filter must not be null");
+        InternalValidation.notNull(format, "Format must not be null");
+
+        String sql = switch (format) {
+            case CSV -> "COPY (SELECT " + EXPORT_CSV_COLUMNS + " FROM sc_user" + exportWhere(filter) + ")"
+                    + " TO STDOUT WITH (FORMAT csv, HEADER)";
+            case NDJSON -> "COPY (SELECT " + EXPORT_JSON_OBJECT + "::text FROM sc_user" + exportWhere(filter) + ")"
+                    + " TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')";
+        };
+
+        return PgCopy.copyOut(support.getEntityManager(), sql, out);
+    }
+
+    /**
+     * {@code COPY} does not accept bind parameters, so the filter values are
+     * inlined. Only typed values are inlined: the name of an enum constant
+     * and the ISO form of a {@link LocalDateTime}, neither of which can hold
+     * a quote.
+     */
+    private static String exportWhere(UserExportFilterDTO filter) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+
+        if (filter.getStatus() != null) {
+            where.add("status = '" + filter.getStatus().name() + "'");
+        }
+
+        if (filter.getCreatedFrom() != null) {
+            where.add("created_at >= '" + filter.getCreatedFrom() + "'::timestamp");
+        }
+
+        if (filter.getCreatedTo() != null) {
+            where.add("created_at < '" + filter.getCreatedTo() + "'::timestamp");
+        }
+
+        return where.toString();
+    }
+
+    /**
+     * Imports the users through a staging table: the rows are streamed with
+     * {@code COPY ... FROM STDIN} and then moved into {@code sc_user} with a
+     * single {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING}, so the
+     * cost per user is a fraction of a round trip.
+     * <p>
+     * Users without a status are imported as {@link UserStatus#ACTIVE}.
+     * Identifiers are assigned as the rows are written, see
+     * {@link #nextId(PgUserEntity)}.
+     *
+     * @param bos the users to insert, in order; their identifiers are
+     *            ignored.
+     * @return the conflicting field by the position of each user that was
+     * not inserted.
+     */
+    @Override
+    @Transactional
+    public Map<Integer, String> insertAllIfAbsent(List<UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        if (bos.isEmpty()) {
+            return Map.of();
+        }
+
+        StringBuilder rows = new StringBuilder(bos.size() * 128);
+        PgUserEntity owner = new PgUserEntity();
+
+        for (int position = 0; position < bos.size(); position++) {
+            UserBO bo = bos.get(position);
+
+            PgCopy.appendCsvRow(rows, position, nextId(owner), bo.getFirstName(), bo.getLastName(), bo.getUsername(),
+                    bo.getEmail(), bo.getStatus() == null ? null : bo.getStatus().name(),
+                    bo.getCreatedAt().value(), bo.getDisabledAt(), bo.getLastLoginAt());
+        }
+
+        repository.createImportTable();
+        PgCopy.copyIn(support.getEntityManager(), COPY_IMPORT_SQL, new StringReader(rows.toString()));
+
+        Map<Integer, String> conflicts = new LinkedHashMap<>();
+
+        for (Object[] rejected : repository.insertFromImportTable()) {
+            conflicts.put(((Number) rejected[0]).intValue(), (String) rejected[1]);
+        }
+
+        if (conflicts.size() < bos.size()) {
+            support.getCountProvider().evict(entityClass);
+        }
+
+        return conflicts;
+    }
+
+    /**
+     * Inserts the user with {@code INSERT ... ON CONFLICT DO NOTHING
+     * RETURNING *}, so a new user costs a single round trip. Only when the
+     * insert conflicts is a second query issued to tell which field is
+     * taken.
+     * <p>
+     * If the conflicting user is deleted between both queries, the insert is
+     * retried once.
+     *
+     * @param bo the user to insert; its identifier is ignored.
+     * @return the inserted user, or the conflicting field.
+     * @throws LocalizedException with {@link SimpleErrorCode#UNAVAILABLE} if
+     *                            the retried insert conflicts again with a
+     *                            user that is gone by the time it is looked
+     *                            up.
+     */
+    @Override
+    @Transactional
+    public InsertResult<UserBO> create(UserBO bo) {
+        InsertResult<UserBO> result = insert(bo);
+
+        if (result.isInserted()) {
+            support.getCountProvider().evict(entityClass);
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts the users one statement at a time, as {@link #create(UserBO)}
+     * does, but in a single transaction, so the cost of the commit is paid
+     * once for the whole list. Conflicting inserts do nothing rather than
+     * fail, so one conflicting user does not roll back the others.
+     */
+    @Override
+    @Transactional
+    public List<InsertResult<UserBO>> createAll(List<UserBO> bos) {
+        InternalValidation.notNull(bos, "Users must not be null");
+
+        List<InsertResult<UserBO>> results = new ArrayList<>(bos.size());
+
+        for (UserBO bo : bos) {
+            results.add(insert(bo));
+        }
+
+        if (results.stream().anyMatch(InsertResult::isInserted)) {
+            support.getCountProvider().evict(entityClass);
+        }
+
+        return results;
+    }
+
+    private InsertResult<UserBO> insert(UserBO bo) {
+        PgUserEntity entity = PgUserMapper.toEntity(bo);
+        entity.setId(nextId(entity));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Optional<PgUserEntity> inserted = repository.insertIfAbsent(entity);
+
+            if (inserted.isPresent()) {
+                return InsertResult.inserted(PgUserMapper.toDomain(inserted.get()));
+            }
+
+            Optional<String> conflict = repository.findConflictingField(entity.getUsername(), entity.getEmail());
+
+            if (conflict.isPresent()) {
+                return InsertResult.conflict(conflict.get());
+            }
+        }
+
+        throw new LocalizedException(SimpleErrorCode.UNAVAILABLE);
+    }
+
+    /**
+     * Draws an identifier from the generator Hibernate uses for
+     * {@link PgUserEntity}, so rows inserted with native SQL share its pooled
+     * blocks: one {@code nextval} per block of identifiers rather than per
+     * row, and no identifier handed out twice.
+     */
+    private Long nextId(PgUserEntity entity) {
+        SharedSessionContractImplementor session = support.getEntityManager()
+                .unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(PgUserEntity.class)
+                .getGenerator();
+
+        return (Long) generator.generate(session, entity, null, EventType.INSERT);
+    }
+
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        InternalValidation.notNull(id, "ID must not be null");
+        InternalValidation.notNull(lastLoginAt, "Last login time must not be null");
+
+        updateLastLogins(Map.of(id, lastLoginAt));
+    }
+
+    /**
+     * Updates the users with a single {@code UPDATE ... FROM unnest(...)}
+     * statement, whatever their number, instead of one read and one write
+     * per user. The cached counts are kept, as no row is added or removed.
+     */
+    @Override
+    @Transactional
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        InternalValidation.notNull(lastLogins, "Last logins must not be null");
+
+        if (lastLogins.isEmpty()) {
+            return 0;
+        }
+
+        Long[] ids = new Long[lastLogins.size()];
+        LocalDateTime[] times = new LocalDateTime[lastLogins.size()];
+        int index = 0;
+
+        for (Map.Entry<Long, LocalDateTime> lastLogin : lastLogins.entrySet()) {
+            ids[index] = lastLogin.getKey();
+            times[index++] = lastLogin.getValue();
+        }
+
+        return repository.updateLastLogins(ids, times);
+    }
+
 }
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
 
+@MappedSuperclass
 public abstract class PgAuditableEntity
         implements PgEntity, Auditable<LocalDateTime> {
 
@@ -2,12 +2,14 @@ package com.pfeffer.springcleanarchtemplate.infra.database.postgres.model;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.NonDeletable;
 import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PreRemove;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 
 import java.time.LocalDateTime;
 
+@MappedSuperclass
 public abstract class PgNonDeletableEntity
         implements PgEntity, NonDeletable<LocalDateTime> {
 
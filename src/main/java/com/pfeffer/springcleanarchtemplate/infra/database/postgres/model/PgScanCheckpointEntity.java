@@ -0,0 +1,111 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Entity
+@IdClass(PgScanCheckpointEntity.Key.class)
+@Table(name = "sc_scan_checkpoint")
+public class PgScanCheckpointEntity {
+
+    @Id
+    @Column(name = "job", length = 100, nullable = false)
+    private String job;
+
+    @Id
+    @Column(name = "range_index", nullable = false)
+    private Integer rangeIndex;
+
+    @Column(name = "after_id", nullable = false)
+    private Long afterId;
+
+    @Column(name = "to_id", nullable = false)
+    private Long toId;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    public String getJob() {
+        return job;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    public Integer getRangeIndex() {
+        return rangeIndex;
+    }
+
+    public void setRangeIndex(Integer rangeIndex) {
+        this.rangeIndex = rangeIndex;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    public Long getToId() {
+        return toId;
+    }
+
+    public void setToId(Long toId) {
+        this.toId = toId;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public static class Key implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 4212337310921436825L;
+
+        private String job;
+
+        private Integer rangeIndex;
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof Key that)) {
+                return false;
+            }
+
+            return Objects.equals(job, that.job) && Objects.equals(rangeIndex, that.rangeIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(job, rangeIndex);
+        }
+
+    }
+
+}
@@ -2,16 +2,19 @@ package com.pfeffer.springcleanarchtemplate.infra.database.postgres.model;
 
 import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "sc_user")
 public class PgUserEntity extends PgAuditableNonDeletableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", nullable = false, insertable = false, updatable = false, unique = true)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sc_user_id_seq")
+    @SequenceGenerator(name = "sc_user_id_seq", sequenceName = "sc_user_id_seq", allocationSize = 50)
+    @Column(name = "id", nullable = false, updatable = false, unique = true)
     private Long id;
 
     @Column(name = "first_name", length = 60, nullable = false)
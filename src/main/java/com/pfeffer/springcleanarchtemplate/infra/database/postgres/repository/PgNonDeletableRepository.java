@@ -0,0 +1,36 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository;
+
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.PgNonDeletableGateway;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Base repository for every entity exposed through a
+ * {@link PgNonDeletableGateway}, adding single-statement soft deletes.
+ * <p>
+ * The updates bypass the persistence context, so pending changes are flushed
+ * before and managed entities are cleared after each of them.
+ *
+ * @param <T>  the type of the entity.
+ * @param <ID> the type of the entity's identifier.
+ * @author Mateus Pfeffer
+ * @see PgNonDeletableGateway
+ * @since 1.0
+ */
+@NoRepositoryBean
+public interface PgNonDeletableRepository<T, ID> extends PgRepository<T, ID> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deletedAt = LOCAL DATETIME WHERE e.id = :id AND e.deletedAt IS NULL")
+    int softDeleteById(@Param("id") ID id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deletedAt = LOCAL DATETIME WHERE e.deletedAt IS NULL")
+    int softDeleteAll();
+
+}
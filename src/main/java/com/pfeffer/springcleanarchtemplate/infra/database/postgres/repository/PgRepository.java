@@ -0,0 +1,25 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository;
+
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.PgGateway;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Base repository for every entity exposed through a {@link PgGateway}.
+ * <p>
+ * Besides the standard {@link JpaRepository} operations, it provides the
+ * {@link JpaSpecificationExecutor} fluent API, which the gateway uses for
+ * keyset scrolling.
+ *
+ * @param <T>  the type of the entity.
+ * @param <ID> the type of the entity's identifier.
+ * @author Mateus Pfeffer
+ * @see PgGateway
+ * @since 1.0
+ */
+@NoRepositoryBean
+public interface PgRepository<T, ID>
+        extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+}
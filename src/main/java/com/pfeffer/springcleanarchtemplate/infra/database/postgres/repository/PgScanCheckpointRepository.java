@@ -0,0 +1,63 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository;
+
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.model.PgScanCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PgScanCheckpointRepository extends JpaRepository<PgScanCheckpointEntity, PgScanCheckpointEntity.Key> {
+
+    List<PgScanCheckpointEntity> findByJobOrderByRangeIndex(String job);
+
+    /**
+     * Creates the checkpoint table, unless it already exists.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            CREATE TABLE IF NOT EXISTS sc_scan_checkpoint (
+                job         varchar(100) NOT NULL,
+                range_index integer      NOT NULL,
+                after_id    bigint       NOT NULL,
+                to_id       bigint       NOT NULL,
+                last_id     bigint       NOT NULL,
+                completed   boolean      NOT NULL,
+                PRIMARY KEY (job, range_index)
+            )
+            """, nativeQuery = true)
+    void createTable();
+
+    /**
+     * Stores how far a range got in a single statement, without reading the
+     * previous checkpoint first.
+     *
+     * @param job        the name of the job.
+     * @param rangeIndex the position of the range within the job.
+     * @param lastId     the last identifier processed.
+     * @param completed  whether the range is completed.
+     * @return the number of updated rows.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE sc_scan_checkpoint
+            SET last_id = :lastId, completed = :completed
+            WHERE job = :job AND range_index = :rangeIndex
+            """, nativeQuery = true)
+    int updateProgress(@Param("job") String job,
+                       @Param("rangeIndex") int rangeIndex,
+                       @Param("lastId") long lastId,
+                       @Param("completed") boolean completed);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM sc_scan_checkpoint WHERE job = :job", nativeQuery = true)
+    int deleteByJob(@Param("job") String job);
+
+}
@@ -1,16 +1,143 @@
 package com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository;
 
 import com.pfeffer.springcleanarchtemplate.infra.database.postgres.model.PgUserEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PgUserRepository extends JpaRepository<PgUserEntity, Long> {
+public interface PgUserRepository extends PgNonDeletableRepository<PgUserEntity, Long> {
 
     Optional<PgUserEntity> findByUsername(String username);
 
     Optional<PgUserEntity> findByEmail(String email);
 
+    @Query(value = "SELECT * FROM sc_user WHERE username = ANY(:usernames)", nativeQuery = true)
+    List<PgUserEntity> findAllByUsernames(@Param("usernames") String[] usernames);
+
+    @Query(value = "SELECT * FROM sc_user WHERE email = ANY(:emails)", nativeQuery = true)
+    List<PgUserEntity> findAllByEmails(@Param("emails") String[] emails);
+
+    /**
+     * Inserts the user in a single statement, unless it conflicts with a
+     * unique constraint.
+     *
+     * @param user the user to insert, with its identifier already assigned.
+     * @return the inserted row, or empty if the insert conflicted.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO sc_user (id, first_name, last_name, username, email, status, created_at, disabled_at,
+                                 last_login_at)
+            VALUES (:#{#user.id}, :#{#user.firstName}, :#{#user.lastName}, :#{#user.username},
+                    :#{#user.email}, :#{#user.status?.name()}, :#{#user.createdAt}, :#{#user.disabledAt},
+                    :#{#user.lastLoginAt})
+            ON CONFLICT DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<PgUserEntity> insertIfAbsent(@Param("user") PgUserEntity user);
+
+    /**
+     * Returns the name of the unique field that is already taken by another
+     * user.
+     *
+     * @param username the username to check.
+     * @param email    the email to check.
+     * @return {@code "username"} or {@code "email"}, or empty if neither is
+     * taken.
+     */
+    @Query(value = """
+            SELECT CASE
+                       WHEN EXISTS (SELECT 1 FROM sc_user WHERE username = :username) THEN 'username'
+                       WHEN EXISTS (SELECT 1 FROM sc_user WHERE email = :email) THEN 'email'
+                   END
+            """, nativeQuery = true)
+    Optional<String> findConflictingField(@Param("username") String username, @Param("email") String email);
+
+    /**
+     * Creates the session-local staging table filled by {@code COPY} during
+     * bulk imports, unless it already exists on this connection. Its rows
+     * are discarded when the transaction ends.
+     * <p>
+     * Text columns are unconstrained, so no row can make the {@code COPY}
+     * itself fail. Identifiers are copied along with the rows, as
+     * {@code sc_user_id_seq} is incremented by a whole block per call.
+     */
+    @Modifying
+    @Query(value = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS sc_user_import (
+                position      integer   NOT NULL,
+                id            bigint    NOT NULL,
+                first_name    text,
+                last_name     text,
+                username      text,
+                email         text,
+                status        text,
+                created_at    timestamp,
+                disabled_at   timestamp,
+                last_login_at timestamp
+            ) ON COMMIT DELETE ROWS
+            """, nativeQuery = true)
+    void createImportTable();
+
+    /**
+     * Moves the staged rows into {@code sc_user} in a single statement,
+     * skipping rows whose username or email is already taken, either by an
+     * existing user or by an earlier staged row.
+     *
+     * @return the position and the conflicting field ({@code "username"} or
+     * {@code "email"}) of every staged row that was not inserted.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO sc_user (id, first_name, last_name, username, email, status, created_at, disabled_at,
+                                     last_login_at)
+                SELECT id, first_name, last_name, username, email, COALESCE(status, 'ACTIVE'), created_at,
+                       disabled_at, last_login_at
+                FROM sc_user_import
+                ORDER BY position
+                ON CONFLICT DO NOTHING
+                RETURNING id
+            )
+            SELECT s.position,
+                   CASE
+                       WHEN EXISTS (SELECT 1 FROM sc_user u WHERE u.username = s.username)
+                           OR EXISTS (SELECT 1 FROM sc_user_import p
+                                      WHERE p.username = s.username AND p.position < s.position) THEN 'username'
+                       ELSE 'email'
+                   END
+            FROM sc_user_import s
+            WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i.id = s.id)
+            ORDER BY s.position
+            """, nativeQuery = true)
+    List<Object[]> insertFromImportTable();
+
+    /**
+     * Sets the last login time of many users in a single statement, joining
+     * {@code sc_user} with the pairs of both arrays. A user is only updated
+     * if it is not soft-deleted and its last login time is not already
+     * later, so logins flushed out of order never move it backwards.
+     *
+     * @param ids        the user identifiers.
+     * @param lastLogins the last login time of each user, at the same
+     *                   position.
+     * @return the number of users updated.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE sc_user u
+            SET last_login_at = v.last_login_at
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:lastLogins AS timestamp[])) AS v (id, last_login_at)
+            WHERE u.id = v.id
+              AND u.deleted_at IS NULL
+              AND (u.last_login_at IS NULL OR u.last_login_at < v.last_login_at)
+            """, nativeQuery = true)
+    int updateLastLogins(@Param("ids") Long[] ids, @Param("lastLogins") LocalDateTime[] lastLogins);
+
 }
@@ -0,0 +1,86 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.scan;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.model.PgScanCheckpointEntity;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.repository.PgScanCheckpointRepository;
+import com.pfeffer.springcleanarchtemplate.infra.scan.ScanCheckpointStore;
+import com.pfeffer.springcleanarchtemplate.infra.scan.ScanRange;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link ScanCheckpointStore} keeping the checkpoints in the
+ * {@code sc_scan_checkpoint} table, one row per range.
+ * <p>
+ * The table is created the first time a job touches it rather than at
+ * startup, so the application does not need the database to start. Every
+ * checkpoint is written in its own transaction, so progress survives a
+ * failure of the job.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+@Component
+public class PgScanCheckpointStore implements ScanCheckpointStore {
+
+    private final PgScanCheckpointRepository repository;
+
+    private volatile boolean tableCreated;
+
+    public PgScanCheckpointStore(PgScanCheckpointRepository repository) {
+        InternalValidation.notNull(repository, "PgScanCheckpointRepository must not be null");
+
+        this.repository = repository;
+    }
+
+    @Override
+    public List<ScanRange> load(String job) {
+        ensureTable();
+
+        return repository.findByJobOrderByRangeIndex(job).stream()
+                .map(entity -> new ScanRange(entity.getRangeIndex(), entity.getAfterId(), entity.getToId(),
+                        entity.getLastId(), entity.getCompleted()))
+                .toList();
+    }
+
+    @Override
+    public void create(String job, List<ScanRange> ranges) {
+        ensureTable();
+
+        repository.saveAll(ranges.stream()
+                .map(range -> toEntity(job, range))
+                .toList());
+    }
+
+    @Override
+    public void save(String job, ScanRange range) {
+        repository.updateProgress(job, range.index(), range.lastId(), range.completed());
+    }
+
+    @Override
+    public void delete(String job) {
+        repository.deleteByJob(job);
+    }
+
+    private void ensureTable() {
+        if (!tableCreated) {
+            repository.createTable();
+            tableCreated = true;
+        }
+    }
+
+    private static PgScanCheckpointEntity toEntity(String job, ScanRange range) {
+        PgScanCheckpointEntity entity = new PgScanCheckpointEntity();
+
+        entity.setJob(job);
+        entity.setRangeIndex(range.index());
+        entity.setAfterId(range.afterId());
+        entity.setToId(range.toId());
+        entity.setLastId(range.lastId());
+        entity.setCompleted(range.completed());
+
+        return entity;
+    }
+
+}
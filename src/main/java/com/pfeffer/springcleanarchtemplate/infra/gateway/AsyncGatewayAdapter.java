@@ -0,0 +1,235 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.AsyncGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncGateway} running the operations of a synchronous
+ * {@link Gateway} on a dedicated executor.
+ * <p>
+ * The executor should be bounded, both in threads and in queued calls, since
+ * its size is what limits the connections used by asynchronous callers. A
+ * call rejected by the executor completes with
+ * {@link SimpleErrorCode#UNAVAILABLE}; a call still running after the
+ * timeout completes with {@link SimpleErrorCode#TIMEOUT}. In both cases, as
+ * when the future is cancelled, the call is cancelled and its thread is
+ * interrupted.
+ * <p>
+ * Calls run outside the caller's thread, and therefore outside its
+ * transaction.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class AsyncGatewayAdapter<BO extends EntityBO, ID> implements AsyncGateway<BO, ID>, AutoCloseable {
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private final Gateway<BO, ID> delegate;
+
+    private final ExecutorService executor;
+
+    private final long timeoutNanos;
+
+    /**
+     * Constructs a new {@link AsyncGatewayAdapter}.
+     *
+     * @param delegate the gateway whose operations are run, must not be
+     *                 {@code null}
+     * @param executor runs the operations and is shut down by
+     *                 {@link #close()}, must not be {@code null}
+     * @param timeout  how long each operation may run, must be positive
+     */
+    public AsyncGatewayAdapter(Gateway<BO, ID> delegate, ExecutorService executor, Duration timeout) {
+        InternalValidation.notNull(delegate, "Gateway delegate must not be null");
+        InternalValidation.notNull(executor, "ExecutorService must not be null");
+        InternalValidation.notNull(timeout, "Timeout must not be null");
+        InternalValidation.isTrue(timeout.isPositive(), "Timeout must be positive");
+
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public CompletableFuture<Optional<BO>> findById(ID id) {
+        return call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<BO>> findByIds(Iterable<ID> ids) {
+        return call(() -> delegate.findByIds(ids));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsById(ID id) {
+        return call(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<BO>> findAll() {
+        return call(delegate::findAll);
+    }
+
+    @Override
+    public CompletableFuture<List<BO>> findAll(String... sort) {
+        return call(() -> delegate.findAll(sort));
+    }
+
+    @Override
+    public CompletableFuture<PageContent<BO>> findAll(Pagination pagination) {
+        return call(() -> delegate.findAll(pagination));
+    }
+
+    @Override
+    public CompletableFuture<SliceContent<BO>> findSlice(Pagination pagination) {
+        return call(() -> delegate.findSlice(pagination));
+    }
+
+    @Override
+    public CompletableFuture<CursorSliceContent<BO>> scroll(CursorPaginationRequest pagination) {
+        return call(() -> delegate.scroll(pagination));
+    }
+
+    @Override
+    public CompletableFuture<Long> count() {
+        return call(delegate::count);
+    }
+
+    @Override
+    public CompletableFuture<Long> count(CountMode mode) {
+        return call(() -> delegate.count(mode));
+    }
+
+    @Override
+    public CompletableFuture<BO> save(BO bo) {
+        return call(() -> delegate.save(bo));
+    }
+
+    @Override
+    public CompletableFuture<List<BO>> saveAll(Iterable<? extends BO> bos) {
+        return call(() -> delegate.saveAll(bos));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateById(ID id, Map<String, ?> changes) {
+        return call(() -> delegate.updateById(id, changes));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(ID id) {
+        return call(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(BO bo) {
+        return call(() -> {
+            delegate.delete(bo);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> deleteAllById(Iterable<? extends ID> ids) {
+        return call(() -> delegate.deleteAllById(ids));
+    }
+
+    @Override
+    public CompletableFuture<Long> deleteAll(Iterable<? extends BO> bos) {
+        return call(() -> delegate.deleteAll(bos));
+    }
+
+    @Override
+    public CompletableFuture<Long> deleteAll() {
+        return call(delegate::deleteAll);
+    }
+
+    /**
+     * Shuts down the executor, interrupting the calls still running.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs an operation on the executor, bounded by the timeout.
+     *
+     * @param operation the operation to run
+     * @param <T>       the type of the result of the operation
+     * @return the future result of the operation
+     */
+    protected <T> CompletableFuture<T> call(Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(operation.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(new LocalizedException(SimpleErrorCode.UNAVAILABLE));
+
+            return result;
+        }
+
+        ScheduledFuture<?> timeout = TIMER.schedule(
+                () -> result.completeExceptionally(new LocalizedException(SimpleErrorCode.TIMEOUT)),
+                timeoutNanos, TimeUnit.NANOSECONDS);
+
+        result.whenComplete((value, failure) -> {
+            timeout.cancel(false);
+
+            if (failure != null) {
+                // Only interrupts calls still running, i.e. cancelled or timed out
+                task.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("async-gateway-timer").daemon().factory());
+
+        timer.setRemoveOnCancelPolicy(true);
+
+        return timer;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.MicroBatchLoader;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * A decorator for any {@link Gateway} that merges concurrent
+ * {@link #findById(Object)} calls into {@link Gateway#findByIds(Iterable)}
+ * calls.
+ * <p>
+ * Lookups arriving within a short window, or until a maximum number of
+ * distinct identifiers is reached, are resolved with a single query, and
+ * each caller receives its own entity. The batched query runs outside the
+ * caller's transaction, so it only sees committed rows.
+ * <p>
+ * Closing the gateway shuts down the executor running the batches, then
+ * closes the delegate if it is {@link AutoCloseable}.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @param <G>  the type of the decorated gateway.
+ * @author Mateus Pfeffer
+ * @see MicroBatchLoader
+ * @since 1.0
+ */
+public class BatchingGateway<BO extends EntityBO, ID, G extends Gateway<BO, ID>>
+        extends DelegatingGateway<BO, ID, G> implements AutoCloseable {
+
+    private final MicroBatchLoader<ID, BO> loader;
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new {@link BatchingGateway}.
+     *
+     * @param delegate     the decorated gateway. Must not be {@code null}.
+     * @param idExtractor  returns the identifier of an entity. Must not be
+     *                     {@code null}.
+     * @param window       how long lookups are collected before a batch is
+     *                     run. Must not be negative.
+     * @param maxBatchSize the maximum number of identifiers per batch. Must be
+     *                     greater than zero.
+     * @param executor     runs the batches triggered by the window and is
+     *                     shut down by {@link #close()}. Must not be
+     *                     {@code null}.
+     */
+    public BatchingGateway(G delegate,
+                           Function<BO, ID> idExtractor,
+                           Duration window,
+                           int maxBatchSize,
+                           ExecutorService executor) {
+        super(delegate);
+
+        InternalValidation.notNull(idExtractor, "Function idExtractor must not be null");
+
+        this.loader = new MicroBatchLoader<>(ids -> loadBatch(ids, idExtractor), window, maxBatchSize, executor);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the loader merging the lookups, e.g. to inspect its batch
+     * statistics.
+     *
+     * @return the loader, never {@code null}.
+     */
+    public MicroBatchLoader<ID, BO> getLoader() {
+        return loader;
+    }
+
+    @Override
+    public Optional<BO> findById(ID id) {
+        if (id == null) {
+            return delegate.findById(null);
+        }
+
+        return Optional.ofNullable(loader.load(id));
+    }
+
+    /**
+     * Shuts down the executor, letting the running batches finish, then
+     * closes the delegate.
+     */
+    @Override
+    public void close() {
+        try {
+            executor.shutdown();
+        } finally {
+            closeDelegate();
+        }
+    }
+
+    private Map<ID, BO> loadBatch(Set<ID> ids, Function<BO, ID> idExtractor) {
+        Map<ID, BO> found = new HashMap<>();
+
+        for (BO bo : delegate.findByIds(ids)) {
+            found.put(idExtractor.apply(bo), bo);
+        }
+
+        return found;
+    }
+
+}
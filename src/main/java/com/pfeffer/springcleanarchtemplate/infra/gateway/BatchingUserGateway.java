@@ -0,0 +1,24 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link BatchingGateway} for users. Lookups by username and email are
+ * delegated as is.
+ *
+ * @author Mateus Pfeffer
+ * @see BatchingGateway
+ * @since 1.0
+ */
+public class BatchingUserGateway extends BatchingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway {
+
+    public BatchingUserGateway(UserGateway delegate, Duration window, int maxBatchSize, ExecutorService executor) {
+        super(delegate, UserBO::getId, window, maxBatchSize, executor);
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.cache.LruCache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A read-through caching decorator for any {@link Gateway}.
+ * <p>
+ * Entities read by {@link #findById(Object)} and {@link #findByIds(Iterable)}
+ * are kept in a size-bounded {@link LruCache}. Every write through the gateway
+ * invalidates the affected entities, both immediately and again once the
+ * surrounding transaction completes, so readers cannot repopulate the cache
+ * with a value that is about to be replaced by a pending commit.
+ * <p>
+ * Loads that overlap a write are not cached: each load remembers the write
+ * generation it started at and only populates the cache if no write happened
+ * meanwhile.
+ * <p>
+ * Listings, pages and streams are always delegated, since they are neither
+ * cached nor able to serve single-entity lookups.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @param <G>  the type of the decorated gateway.
+ * @author Mateus Pfeffer
+ * @see LruCache
+ * @since 1.0
+ */
+public class CachingGateway<BO extends EntityBO, ID, G extends Gateway<BO, ID>>
+        extends DelegatingGateway<BO, ID, G> implements AutoCloseable {
+
+    /**
+     * The entities cached by identifier.
+     */
+    protected final LruCache<ID, BO> cache;
+
+    private final Function<BO, ID> idExtractor;
+
+    private final AtomicLong writes = new AtomicLong();
+
+    /**
+     * Constructs a new {@link CachingGateway}.
+     *
+     * @param delegate    the decorated gateway. Must not be {@code null}.
+     * @param cache       the cache used to keep the entities by identifier.
+     *                    Must not be {@code null}.
+     * @param idExtractor returns the identifier of an entity. Must not be
+     *                    {@code null}.
+     */
+    public CachingGateway(G delegate, LruCache<ID, BO> cache, Function<BO, ID> idExtractor) {
+        super(delegate);
+
+        InternalValidation.notNull(cache, "LruCache must not be null");
+        InternalValidation.notNull(idExtractor, "Function idExtractor must not be null");
+
+        this.cache = cache;
+        this.idExtractor = idExtractor;
+    }
+
+    @Override
+    public Optional<BO> findById(ID id) {
+        BO cached = cache.get(id);
+
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return load(() -> delegate.findById(id));
+    }
+
+    /**
+     * Returns the cached entities and loads only the missing ones from the
+     * delegate, with a single call.
+     *
+     * @param ids the identifiers of the entities to find.
+     * @return the entities found, never {@code null}.
+     */
+    @Override
+    public List<BO> findByIds(Iterable<ID> ids) {
+        List<BO> found = new ArrayList<>();
+        Set<ID> missing = new LinkedHashSet<>();
+
+        for (ID id : ids) {
+            BO cached = cache.get(id);
+
+            if (cached != null) {
+                found.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            found.addAll(loadAll(() -> delegate.findByIds(missing)));
+        }
+
+        return found;
+    }
+
+    @Override
+    public BO save(BO bo) {
+        try {
+            return delegate.save(bo);
+        } finally {
+            invalidate(bo);
+        }
+    }
+
+    @Override
+    public List<BO> saveAll(Iterable<? extends BO> bos) {
+        try {
+            return delegate.saveAll(bos);
+        } finally {
+            bos.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public boolean updateById(ID id, Map<String, ?> changes) {
+        try {
+            return delegate.updateById(id, changes);
+        } finally {
+            invalidateId(id);
+        }
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidateId(id);
+        }
+    }
+
+    @Override
+    public void delete(BO bo) {
+        try {
+            delegate.delete(bo);
+        } finally {
+            invalidate(bo);
+        }
+    }
+
+    @Override
+    public long deleteAllById(Iterable<? extends ID> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            ids.forEach(this::invalidateId);
+        }
+    }
+
+    @Override
+    public long deleteAll(Iterable<? extends BO> bos) {
+        try {
+            return delegate.deleteAll(bos);
+        } finally {
+            bos.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public long deleteAll() {
+        try {
+            return delegate.deleteAll();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Loads an entity from the delegate and caches it, unless a write
+     * happened while it was being loaded.
+     *
+     * @param loader the delegate call.
+     * @return the loaded entity.
+     */
+    protected Optional<BO> load(Supplier<Optional<BO>> loader) {
+        long generation = writes.get();
+        Optional<BO> loaded = loader.get();
+
+        loaded.ifPresent(bo -> cache(bo, generation));
+
+        return loaded;
+    }
+
+    /**
+     * Loads entities from the delegate and caches them, unless a write
+     * happened while they were being loaded.
+     *
+     * @param loader the delegate call.
+     * @return the loaded entities.
+     */
+    protected List<BO> loadAll(Supplier<List<BO>> loader) {
+        long generation = writes.get();
+        List<BO> loaded = loader.get();
+
+        loaded.forEach(bo -> cache(bo, generation));
+
+        return loaded;
+    }
+
+    /**
+     * Caches an entity loaded at the given write generation.
+     *
+     * @param bo         the entity to cache.
+     * @param generation the write generation when the load started.
+     */
+    protected void cache(BO bo, long generation) {
+        ID id = idExtractor.apply(bo);
+
+        if (id != null && writes.get() == generation) {
+            cache.put(id, bo);
+            onCached(bo);
+        }
+    }
+
+    /**
+     * Called after an entity has been cached, so subclasses can index it by
+     * secondary keys.
+     *
+     * @param bo the cached entity.
+     */
+    protected void onCached(BO bo) {
+    }
+
+    /**
+     * Called after an entity has been evicted, so subclasses can drop its
+     * secondary keys.
+     *
+     * @param bo the evicted entity.
+     */
+    protected void onEvicted(BO bo) {
+    }
+
+    /**
+     * Called after every entity has been evicted.
+     */
+    protected void onCleared() {
+    }
+
+    /**
+     * Evicts an entity now and once the surrounding transaction completes.
+     *
+     * @param bo the entity written through the gateway.
+     */
+    protected void invalidate(BO bo) {
+        ID id = bo == null ? null : idExtractor.apply(bo);
+
+        if (id != null) {
+            invalidateId(id);
+        }
+    }
+
+    /**
+     * Evicts the entity with the given identifier now and once the
+     * surrounding transaction completes.
+     *
+     * @param id the identifier of the entity written through the gateway.
+     */
+    protected void invalidateId(ID id) {
+        evict(id);
+
+        afterCompletion(() -> evict(id));
+    }
+
+    private void invalidateAll() {
+        clear();
+
+        afterCompletion(this::clear);
+    }
+
+    /**
+     * Closes the delegate if it is {@link AutoCloseable}, so closing the
+     * outermost decorator releases the whole chain.
+     */
+    @Override
+    public void close() {
+        closeDelegate();
+    }
+
+    private void evict(ID id) {
+        writes.incrementAndGet();
+
+        BO evicted = cache.remove(id);
+
+        if (evicted != null) {
+            onEvicted(evicted);
+        }
+    }
+
+    private void clear() {
+        writes.incrementAndGet();
+        cache.clear();
+        onCleared();
+    }
+
+}
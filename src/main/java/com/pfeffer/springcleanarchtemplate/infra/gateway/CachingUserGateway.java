@@ -0,0 +1,180 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.cache.LruCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link CachingGateway} for users that also serves
+ * {@link #findByUsername(String)} and {@link #findByEmail(String)} from the
+ * cache.
+ * <p>
+ * Usernames and emails are indexed to the identifier of the cached user, and
+ * the cached user is checked to still hold the requested key before it is
+ * returned. A renamed user is therefore never served by its previous
+ * username, even if the index entry outlived the user entry.
+ *
+ * @author Mateus Pfeffer
+ * @see CachingGateway
+ * @since 1.0
+ */
+public class CachingUserGateway extends CachingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway {
+
+    private final LruCache<String, Long> usernames;
+
+    private final LruCache<String, Long> emails;
+
+    public CachingUserGateway(UserGateway delegate, long maximumSize, Duration timeToLive) {
+        super(delegate, new LruCache<>(maximumSize, timeToLive), UserBO::getId);
+
+        this.usernames = new LruCache<>(maximumSize, timeToLive);
+        this.emails = new LruCache<>(maximumSize, timeToLive);
+    }
+
+    /**
+     * Returns the cache of users by identifier, e.g. to bind its metrics.
+     *
+     * @return the cache, never {@code null}.
+     */
+    public LruCache<Long, UserBO> getCache() {
+        return cache;
+    }
+
+    @Override
+    public Optional<UserBO> findByUsername(String username) {
+        return findByUsernameCached(username)
+                .or(() -> load(() -> delegate.findByUsername(username)));
+    }
+
+    @Override
+    public Optional<UserBO> findByEmail(String email) {
+        return findByEmailCached(email)
+                .or(() -> load(() -> delegate.findByEmail(email)));
+    }
+
+    @Override
+    public List<UserBO> findByUsernames(Collection<String> usernames) {
+        return findAllBySecondaryKeys(usernames, this::findByUsernameCached, delegate::findByUsernames);
+    }
+
+    @Override
+    public List<UserBO> findByEmails(Collection<String> emails) {
+        return findAllBySecondaryKeys(emails, this::findByEmailCached, delegate::findByEmails);
+    }
+
+    @Override
+    protected void onCached(UserBO bo) {
+        if (bo.getUsername() != null) {
+            usernames.put(bo.getUsername(), bo.getId());
+        }
+
+        if (bo.getEmail() != null) {
+            emails.put(bo.getEmail(), bo.getId());
+        }
+    }
+
+    @Override
+    protected void onEvicted(UserBO bo) {
+        if (bo.getUsername() != null) {
+            usernames.remove(bo.getUsername());
+        }
+
+        if (bo.getEmail() != null) {
+            emails.remove(bo.getEmail());
+        }
+    }
+
+    @Override
+    protected void onCleared() {
+        usernames.clear();
+        emails.clear();
+    }
+
+    private Optional<UserBO> findByUsernameCached(String username) {
+        return findBySecondaryKey(usernames, username, UserBO::getUsername);
+    }
+
+    private Optional<UserBO> findByEmailCached(String email) {
+        return findBySecondaryKey(emails, email, UserBO::getEmail);
+    }
+
+    private List<UserBO> findAllBySecondaryKeys(Collection<String> keys,
+                                                Function<String, Optional<UserBO>> cached,
+                                                Function<Collection<String>, List<UserBO>> loader) {
+        List<UserBO> found = new ArrayList<>();
+        Set<String> missing = new LinkedHashSet<>();
+
+        for (String key : keys) {
+            cached.apply(key).ifPresentOrElse(found::add, () -> missing.add(key));
+        }
+
+        if (!missing.isEmpty()) {
+            found.addAll(loadAll(() -> loader.apply(missing)));
+        }
+
+        return found;
+    }
+
+    private Optional<UserBO> findBySecondaryKey(LruCache<String, Long> index, String key,
+                                                Function<UserBO, String> keyExtractor) {
+        Long id = key == null ? null : index.getQuietly(key);
+
+        if (id == null) {
+            cache.recordMiss();
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(cache.get(id))
+                .filter(bo -> Objects.equals(keyExtractor.apply(bo), key));
+    }
+
+    @Override
+    public boolean softDeleteById(Long id) {
+        try {
+            return delegate.softDeleteById(id);
+        } finally {
+            invalidateId(id);
+        }
+    }
+
+    @Override
+    public int softDeleteAllById(Iterable<? extends Long> ids) {
+        try {
+            return delegate.softDeleteAllById(ids);
+        } finally {
+            ids.forEach(this::invalidateId);
+        }
+    }
+
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        try {
+            delegate.touchLastLogin(id, lastLoginAt);
+        } finally {
+            invalidateId(id);
+        }
+    }
+
+    @Override
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        try {
+            return delegate.updateLastLogins(lastLogins);
+        } finally {
+            lastLogins.keySet().forEach(this::invalidateId);
+        }
+    }
+
+}
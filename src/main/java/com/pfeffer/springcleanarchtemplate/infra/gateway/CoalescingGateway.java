@@ -0,0 +1,197 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlight;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A decorator for any {@link Gateway} that coalesces concurrent lookups of
+ * the same entity into a single delegate call.
+ * <p>
+ * Concurrent {@link #findById(Object)} calls for the same identifier share
+ * one in-flight fetch and all receive its result. Nothing is kept once the
+ * fetch completes, so this decorator is usually placed below a
+ * {@link CachingGateway}, coalescing the cache misses of a burst.
+ * <p>
+ * Every write through the gateway releases the lookups in flight for the
+ * written entities, both immediately and again once the surrounding
+ * transaction completes. A lookup issued after a write therefore never joins
+ * a fetch that started before it, which would hand the previous state to a
+ * caching decorator that already checked for the write.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @param <G>  the type of the decorated gateway.
+ * @author Mateus Pfeffer
+ * @see SingleFlight
+ * @since 1.0
+ */
+public class CoalescingGateway<BO extends EntityBO, ID, G extends Gateway<BO, ID>>
+        extends DelegatingGateway<BO, ID, G> implements AutoCloseable {
+
+    /**
+     * The lookups in flight, keyed by the lookup kind and its key.
+     */
+    protected final SingleFlight<LookupKey, Optional<BO>> flight;
+
+    /**
+     * Constructs a new {@link CoalescingGateway}.
+     *
+     * @param delegate the decorated gateway. Must not be {@code null}.
+     * @param flight   the single flight shared by the lookups. Must not be
+     *                 {@code null}.
+     */
+    public CoalescingGateway(G delegate, SingleFlight<LookupKey, Optional<BO>> flight) {
+        super(delegate);
+
+        InternalValidation.notNull(flight, "SingleFlight must not be null");
+
+        this.flight = flight;
+    }
+
+    @Override
+    public Optional<BO> findById(ID id) {
+        if (id == null) {
+            return delegate.findById(null);
+        }
+
+        return flight.execute(new LookupKey("id", id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public BO save(BO bo) {
+        try {
+            return delegate.save(bo);
+        } finally {
+            forget(bo);
+        }
+    }
+
+    @Override
+    public List<BO> saveAll(Iterable<? extends BO> bos) {
+        try {
+            return delegate.saveAll(bos);
+        } finally {
+            bos.forEach(this::forget);
+        }
+    }
+
+    @Override
+    public boolean updateById(ID id, Map<String, ?> changes) {
+        try {
+            return delegate.updateById(id, changes);
+        } finally {
+            forgetIds(Collections.singleton(id));
+        }
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            forgetIds(Collections.singleton(id));
+        }
+    }
+
+    @Override
+    public void delete(BO bo) {
+        try {
+            delegate.delete(bo);
+        } finally {
+            forget(bo);
+        }
+    }
+
+    @Override
+    public long deleteAllById(Iterable<? extends ID> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            forgetIds(ids);
+        }
+    }
+
+    @Override
+    public long deleteAll(Iterable<? extends BO> bos) {
+        try {
+            return delegate.deleteAll(bos);
+        } finally {
+            bos.forEach(this::forget);
+        }
+    }
+
+    @Override
+    public long deleteAll() {
+        try {
+            return delegate.deleteAll();
+        } finally {
+            flight.forget(key -> true);
+            afterCompletion(() -> flight.forget(key -> true));
+        }
+    }
+
+    /**
+     * Closes the delegate if it is {@link AutoCloseable}, so closing the
+     * outermost decorator releases the whole chain.
+     */
+    @Override
+    public void close() {
+        closeDelegate();
+    }
+
+    /**
+     * Releases the lookups in flight for the written entities, now and once
+     * the surrounding transaction completes. Lookups by other attributes than
+     * the identifier cannot be matched to the written entities, so they are
+     * all released.
+     *
+     * @param ids the identifiers of the entities written through the gateway.
+     */
+    protected void forgetIds(Iterable<?> ids) {
+        Set<Object> written = new HashSet<>();
+
+        for (Object id : ids) {
+            if (id != null) {
+                written.add(id);
+            }
+        }
+
+        if (written.isEmpty()) {
+            return;
+        }
+
+        forget(written);
+        afterCompletion(() -> forget(written));
+    }
+
+    private void forget(BO bo) {
+        if (bo != null) {
+            forgetIds(Collections.singleton(bo.getId()));
+        }
+    }
+
+    private void forget(Set<Object> ids) {
+        flight.forget(key -> !key.attribute().equals("id") || ids.contains(key.value()));
+    }
+
+    /**
+     * Identifies a lookup by the attribute it searches and the searched value.
+     *
+     * @param attribute the searched attribute, e.g. {@code "id"}
+     * @param value     the searched value
+     */
+    public record LookupKey(String attribute, Object value) {
+    }
+
+}
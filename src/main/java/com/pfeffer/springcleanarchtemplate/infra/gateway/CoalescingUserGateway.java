@@ -0,0 +1,81 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlight;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link CoalescingGateway} for users that also coalesces concurrent
+ * {@link #findByUsername(String)} and {@link #findByEmail(String)} calls.
+ *
+ * @author Mateus Pfeffer
+ * @see CoalescingGateway
+ * @since 1.0
+ */
+public class CoalescingUserGateway extends CoalescingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway {
+
+    public CoalescingUserGateway(UserGateway delegate, SingleFlight<LookupKey, Optional<UserBO>> flight) {
+        super(delegate, flight);
+    }
+
+    @Override
+    public Optional<UserBO> findByUsername(String username) {
+        if (username == null) {
+            return delegate.findByUsername(null);
+        }
+
+        return flight.execute(new LookupKey("username", username), () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<UserBO> findByEmail(String email) {
+        if (email == null) {
+            return delegate.findByEmail(null);
+        }
+
+        return flight.execute(new LookupKey("email", email), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public boolean softDeleteById(Long id) {
+        try {
+            return delegate.softDeleteById(id);
+        } finally {
+            forgetIds(Collections.singleton(id));
+        }
+    }
+
+    @Override
+    public int softDeleteAllById(Iterable<? extends Long> ids) {
+        try {
+            return delegate.softDeleteAllById(ids);
+        } finally {
+            forgetIds(ids);
+        }
+    }
+
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        try {
+            delegate.touchLastLogin(id, lastLoginAt);
+        } finally {
+            forgetIds(Collections.singleton(id));
+        }
+    }
+
+    @Override
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        try {
+            return delegate.updateLastLogins(lastLogins);
+        } finally {
+            forgetIds(lastLogins.keySet());
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.SliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Base class for {@link Gateway} decorators, forwarding every operation to a
+ * delegate gateway.
+ * <p>
+ * Subclasses override only the operations they decorate, e.g. to cache or
+ * batch reads, and keep the remaining ones untouched.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @param <G>  the type of the decorated gateway.
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public abstract class DelegatingGateway<BO extends EntityBO, ID, G extends Gateway<BO, ID>>
+        implements Gateway<BO, ID> {
+
+    /**
+     * The decorated gateway.
+     */
+    protected final G delegate;
+
+    protected DelegatingGateway(G delegate) {
+        InternalValidation.notNull(delegate, "Gateway delegate must not be null");
+
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the decorated gateway.
+     *
+     * @return the delegate, never {@code null}.
+     */
+    public G getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Optional<BO> findById(ID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public BO save(BO bo) {
+        return delegate.save(bo);
+    }
+
+    @Override
+    public List<BO> saveAll(Iterable<? extends BO> bos) {
+        return delegate.saveAll(bos);
+    }
+
+    @Override
+    public boolean existsById(ID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<BO> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<BO> findByIds(Iterable<ID> ids) {
+        return delegate.findByIds(ids);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long count(CountMode mode) {
+        return delegate.count(mode);
+    }
+
+    @Override
+    public boolean updateById(ID id, Map<String, ?> changes) {
+        return delegate.updateById(id, changes);
+    }
+
+    @Override
+    public void deleteById(ID id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void delete(BO bo) {
+        delegate.delete(bo);
+    }
+
+    @Override
+    public long deleteAllById(Iterable<? extends ID> ids) {
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public long deleteAll(Iterable<? extends BO> bos) {
+        return delegate.deleteAll(bos);
+    }
+
+    @Override
+    public long deleteAll() {
+        return delegate.deleteAll();
+    }
+
+    @Override
+    public List<BO> findAll(String... sort) {
+        return delegate.findAll(sort);
+    }
+
+    @Override
+    public PageContent<BO> findAll(Pagination pagination) {
+        return delegate.findAll(pagination);
+    }
+
+    @Override
+    public SliceContent<BO> findSlice(Pagination pagination) {
+        return delegate.findSlice(pagination);
+    }
+
+    @Override
+    public CursorSliceContent<BO> scroll(CursorPaginationRequest pagination) {
+        return delegate.scroll(pagination);
+    }
+
+    @Override
+    public Stream<BO> streamAll(String... sort) {
+        return delegate.streamAll(sort);
+    }
+
+    /**
+     * Closes the delegate if it is {@link AutoCloseable}, for decorators
+     * closing the chain they wrap. A checked exception thrown by the delegate
+     * is rethrown as an {@link IllegalStateException}; an interrupt restores
+     * the interrupt status first.
+     */
+    protected void closeDelegate() {
+        if (!(delegate instanceof AutoCloseable closeable)) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            throw new IllegalStateException("Failed to close the gateway delegate", e);
+        }
+    }
+
+    /**
+     * Runs an action once the surrounding transaction completes, whether it
+     * commits or rolls back, or never if there is no transaction.
+     *
+     * @param action the action to run.
+     */
+    protected static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+}
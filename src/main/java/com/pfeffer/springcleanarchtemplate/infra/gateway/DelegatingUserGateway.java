@@ -0,0 +1,118 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mixin for {@link UserGateway} decorators, forwarding every user-specific
+ * operation to the delegate gateway.
+ * <p>
+ * It complements {@link DelegatingGateway}, which forwards the generic
+ * gateway operations and provides {@link #getDelegate()}. It is an interface rather
+ * than a base class so decorators extending a generic decorator, such as
+ * {@link CachingGateway}, can use it too. Decorators override only the
+ * operations they change.
+ *
+ * @author Mateus Pfeffer
+ * @see DelegatingGateway
+ * @since 1.0
+ */
+public interface DelegatingUserGateway extends UserGateway {
+
+    /**
+     * Returns the decorated gateway.
+     *
+     * @return the delegate, never {@code null}.
+     */
+    UserGateway getDelegate();
+
+    @Override
+    default Optional<UserBO> findByUsername(String username) {
+        return getDelegate().findByUsername(username);
+    }
+
+    @Override
+    default Optional<UserBO> findByEmail(String email) {
+        return getDelegate().findByEmail(email);
+    }
+
+    @Override
+    default List<UserBO> findByUsernames(Collection<String> usernames) {
+        return getDelegate().findByUsernames(usernames);
+    }
+
+    @Override
+    default List<UserBO> findByEmails(Collection<String> emails) {
+        return getDelegate().findByEmails(emails);
+    }
+
+    @Override
+    default PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination) {
+        return getDelegate().findAll(filter, pagination);
+    }
+
+    @Override
+    default long export(UserExportFilterDTO filter, ExportFormat format, OutputStream out) {
+        return getDelegate().export(filter, format, out);
+    }
+
+    @Override
+    default Optional<IdRange> findIdRange() {
+        return getDelegate().findIdRange();
+    }
+
+    @Override
+    default List<UserBO> findRange(long afterId, long toId, int limit) {
+        return getDelegate().findRange(afterId, toId, limit);
+    }
+
+    @Override
+    default InsertResult<UserBO> create(UserBO bo) {
+        return getDelegate().create(bo);
+    }
+
+    @Override
+    default List<InsertResult<UserBO>> createAll(List<UserBO> bos) {
+        return getDelegate().createAll(bos);
+    }
+
+    @Override
+    default Map<Integer, String> insertAllIfAbsent(List<UserBO> bos) {
+        return getDelegate().insertAllIfAbsent(bos);
+    }
+
+    @Override
+    default boolean softDeleteById(Long id) {
+        return getDelegate().softDeleteById(id);
+    }
+
+    @Override
+    default int softDeleteAllById(Iterable<? extends Long> ids) {
+        return getDelegate().softDeleteAllById(ids);
+    }
+
+    @Override
+    default void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        getDelegate().touchLastLogin(id, lastLoginAt);
+    }
+
+    @Override
+    default int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        return getDelegate().updateLastLogins(lastLogins);
+    }
+
+}
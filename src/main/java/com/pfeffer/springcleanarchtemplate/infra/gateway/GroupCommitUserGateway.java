@@ -0,0 +1,69 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.GroupCommitter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link UserGateway} decorator group-committing {@link #create(UserBO)}:
+ * users created concurrently are inserted by a single committer thread with
+ * {@link UserGateway#createAll(List)}, so they share one transaction and one
+ * commit, and each caller gets its own result.
+ * <p>
+ * A caller already inside a transaction creates its user directly, since a
+ * user inserted by the committer would neither see that transaction nor be
+ * rolled back with it.
+ *
+ * @author Mateus Pfeffer
+ * @see GroupCommitter
+ * @since 1.0
+ */
+public class GroupCommitUserGateway extends DelegatingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway, AutoCloseable {
+
+    private final GroupCommitter<UserBO, InsertResult<UserBO>> committer;
+
+    public GroupCommitUserGateway(UserGateway delegate, int maxBatchSize, Duration maxWait, Duration timeout) {
+        super(delegate);
+
+        this.committer = new GroupCommitter<>(delegate::createAll, maxBatchSize, maxWait, timeout,
+                "user-group-commit");
+    }
+
+    /**
+     * Returns the group committer, e.g. to report its batch sizes.
+     *
+     * @return the committer, never {@code null}.
+     */
+    public GroupCommitter<UserBO, InsertResult<UserBO>> getCommitter() {
+        return committer;
+    }
+
+    @Override
+    public InsertResult<UserBO> create(UserBO bo) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.create(bo);
+        }
+
+        return committer.submit(bo);
+    }
+
+    /**
+     * Runs the queued creations, then closes the delegate if it is
+     * {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        try {
+            committer.close();
+        } finally {
+            closeDelegate();
+        }
+    }
+
+}
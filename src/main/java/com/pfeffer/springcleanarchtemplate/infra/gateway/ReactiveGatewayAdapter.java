@@ -0,0 +1,126 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.ReactiveGateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.PagingPublisher;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link ReactiveGateway} running the reads of a synchronous {@link Gateway}
+ * on a dedicated executor, as {@link AsyncGatewayAdapter} does for
+ * {@link java.util.concurrent.CompletableFuture}s.
+ * <p>
+ * {@link #findAll(String...)} scrolls the delegate with
+ * {@link Gateway#scroll(CursorPaginationRequest)}, one page per fetch, so a
+ * listing never holds more than a page per subscriber and never holds a
+ * thread or a connection while the subscriber is not requesting.
+ * <p>
+ * The executor should be bounded, both in threads and in queued tasks, since
+ * its size is what limits the connections used by reactive subscribers. A
+ * fetch rejected by the executor is signalled as
+ * {@link SimpleErrorCode#UNAVAILABLE}. Fetches run outside the subscriber's
+ * thread, and therefore outside its transaction.
+ *
+ * @param <BO> the type of the business object (entity) that this gateway
+ *             manages.
+ * @param <ID> the type of the identifier of the entity that this gateway
+ *             manages.
+ * @author Mateus Pfeffer
+ * @see PagingPublisher
+ * @since 1.0
+ */
+public class ReactiveGatewayAdapter<BO extends EntityBO, ID> implements ReactiveGateway<BO, ID>, AutoCloseable {
+
+    private final Gateway<BO, ID> delegate;
+
+    private final ExecutorService executor;
+
+    private final int pageSize;
+
+    /**
+     * Constructs a new {@link ReactiveGatewayAdapter}.
+     *
+     * @param delegate the gateway whose reads are run, must not be
+     *                 {@code null}
+     * @param executor runs the reads and is shut down by {@link #close()},
+     *                 must not be {@code null}
+     * @param pageSize the number of entities fetched at a time by
+     *                 {@link #findAll(String...)}, must be greater than zero
+     */
+    public ReactiveGatewayAdapter(Gateway<BO, ID> delegate, ExecutorService executor, int pageSize) {
+        InternalValidation.notNull(delegate, "Gateway delegate must not be null");
+        InternalValidation.notNull(executor, "ExecutorService must not be null");
+        InternalValidation.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+        this.delegate = delegate;
+        this.executor = executor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Flow.Publisher<BO> findById(ID id) {
+        return PagingPublisher.of(() -> delegate.findById(id).stream().toList(), executor);
+    }
+
+    @Override
+    public Flow.Publisher<BO> findByIds(Iterable<ID> ids) {
+        return PagingPublisher.of(() -> delegate.findByIds(ids), executor);
+    }
+
+    @Override
+    public Flow.Publisher<BO> findAll(String... sort) {
+        return new PagingPublisher<>(() -> new ScrollPages(CursorPaginationRequest.of(pageSize, sort)), executor);
+    }
+
+    @Override
+    public Flow.Publisher<Long> count(CountMode mode) {
+        return PagingPublisher.of(() -> List.of(delegate.count(mode)), executor);
+    }
+
+    /**
+     * Shuts down the executor, interrupting the fetches still running.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The pages of a scroll, each one fetched from the cursor left by the
+     * previous one.
+     */
+    private final class ScrollPages implements Iterator<List<BO>> {
+
+        private CursorPaginationRequest next;
+
+        private ScrollPages(CursorPaginationRequest first) {
+            this.next = first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public List<BO> next() {
+            CursorSliceContent<BO> slice = delegate.scroll(next);
+
+            next = slice.nextPagination().orElse(null);
+
+            return slice.getContent();
+        }
+
+    }
+
+}
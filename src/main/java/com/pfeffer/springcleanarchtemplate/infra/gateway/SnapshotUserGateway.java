@@ -0,0 +1,215 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar.UserSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link UserGateway} decorator answering
+ * {@link #findAll(UserFilterDTO, Pagination)} from a columnar
+ * {@link UserSnapshot}, and delegating it until the snapshot is loaded.
+ * <p>
+ * Every write through the gateway reports the affected users to the
+ * snapshot, both immediately and again once the surrounding transaction
+ * completes, so the refresh following the commit reloads them. Writes whose
+ * users are unknown, such as {@link #deleteAll()}, rebuild the snapshot.
+ *
+ * @author Mateus Pfeffer
+ * @see UserSnapshot
+ * @since 1.0
+ */
+public class SnapshotUserGateway extends DelegatingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway, AutoCloseable {
+
+    private final UserSnapshot snapshot;
+
+    public SnapshotUserGateway(UserGateway delegate, UserSnapshot snapshot) {
+        super(delegate);
+
+        InternalValidation.notNull(snapshot, "UserSnapshot must not be null");
+
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public PageContent<UserBO> findAll(UserFilterDTO filter, Pagination pagination) {
+        return snapshot.findAll(filter, pagination)
+                .orElseGet(() -> delegate.findAll(filter, pagination));
+    }
+
+    @Override
+    public UserBO save(UserBO bo) {
+        UserBO saved = delegate.save(bo);
+
+        changed(saved.getId());
+
+        return saved;
+    }
+
+    @Override
+    public List<UserBO> saveAll(Iterable<? extends UserBO> bos) {
+        List<UserBO> saved = delegate.saveAll(bos);
+
+        saved.forEach(bo -> changed(bo.getId()));
+
+        return saved;
+    }
+
+    @Override
+    public boolean updateById(Long id, Map<String, ?> changes) {
+        try {
+            return delegate.updateById(id, changes);
+        } finally {
+            changed(id);
+        }
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            changed(id);
+        }
+    }
+
+    @Override
+    public void delete(UserBO bo) {
+        try {
+            delegate.delete(bo);
+        } finally {
+            changed(bo.getId());
+        }
+    }
+
+    @Override
+    public long deleteAllById(Iterable<? extends Long> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            ids.forEach(this::changed);
+        }
+    }
+
+    @Override
+    public long deleteAll(Iterable<? extends UserBO> bos) {
+        try {
+            return delegate.deleteAll(bos);
+        } finally {
+            bos.forEach(bo -> changed(bo.getId()));
+        }
+    }
+
+    @Override
+    public long deleteAll() {
+        try {
+            return delegate.deleteAll();
+        } finally {
+            stale();
+        }
+    }
+
+    @Override
+    public boolean softDeleteById(Long id) {
+        try {
+            return delegate.softDeleteById(id);
+        } finally {
+            changed(id);
+        }
+    }
+
+    @Override
+    public int softDeleteAllById(Iterable<? extends Long> ids) {
+        try {
+            return delegate.softDeleteAllById(ids);
+        } finally {
+            ids.forEach(this::changed);
+        }
+    }
+
+    @Override
+    public InsertResult<UserBO> create(UserBO bo) {
+        InsertResult<UserBO> result = delegate.create(bo);
+
+        if (result.isInserted()) {
+            changed(result.value().getId());
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<InsertResult<UserBO>> createAll(List<UserBO> bos) {
+        List<InsertResult<UserBO>> results = delegate.createAll(bos);
+
+        results.stream()
+                .filter(InsertResult::isInserted)
+                .forEach(result -> changed(result.value().getId()));
+
+        return results;
+    }
+
+    @Override
+    public Map<Integer, String> insertAllIfAbsent(List<UserBO> bos) {
+        try {
+            return delegate.insertAllIfAbsent(bos);
+        } finally {
+            stale();
+        }
+    }
+
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        try {
+            delegate.touchLastLogin(id, lastLoginAt);
+        } finally {
+            changed(id);
+        }
+    }
+
+    @Override
+    public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+        try {
+            return delegate.updateLastLogins(lastLogins);
+        } finally {
+            lastLogins.keySet().forEach(this::changed);
+        }
+    }
+
+    /**
+     * Stops the refresh of the snapshot, then closes the delegate if it is
+     * {@link AutoCloseable}.
+     */
+    @Override
+    public void close() {
+        try {
+            snapshot.close();
+        } finally {
+            closeDelegate();
+        }
+    }
+
+    private void changed(Long id) {
+        if (id != null) {
+            snapshot.markChanged(id);
+
+            afterCompletion(() -> snapshot.markChanged(id));
+        }
+    }
+
+    private void stale() {
+        snapshot.markStale();
+
+        afterCompletion(snapshot::markStale);
+    }
+
+}
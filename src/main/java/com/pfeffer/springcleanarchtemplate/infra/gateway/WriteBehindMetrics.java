@@ -0,0 +1,68 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the statistics of a {@link WriteBehindUserGateway} to Micrometer,
+ * publishing a {@code write.behind.pending} gauge of buffered entries, a
+ * {@code write.behind.flush} timer of successful flushes, and
+ * {@code write.behind.flushed} and {@code write.behind.flush.failures}
+ * counters.
+ *
+ * @author Mateus Pfeffer
+ * @see WriteBehindUserGateway
+ * @since 1.0
+ */
+public class WriteBehindMetrics implements MeterBinder {
+
+    private final WriteBehindUserGateway gateway;
+
+    private final String name;
+
+    /**
+     * Constructs a new {@link WriteBehindMetrics}.
+     *
+     * @param gateway the gateway to observe, must not be {@code null}
+     * @param name    the value of the {@code name} tag, must not be
+     *                {@code null}
+     */
+    public WriteBehindMetrics(WriteBehindUserGateway gateway, String name) {
+        InternalValidation.notNull(gateway, "WriteBehindUserGateway must not be null");
+        InternalValidation.notNull(name, "Name must not be null");
+
+        this.gateway = gateway;
+        this.name = name;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("write.behind.pending", gateway, WriteBehindUserGateway::pendingCount)
+                .tags("name", name)
+                .description("The number of entries waiting to be written")
+                .register(registry);
+
+        FunctionTimer.builder("write.behind.flush", gateway, WriteBehindUserGateway::flushCount,
+                        WriteBehindUserGateway::flushNanos, TimeUnit.NANOSECONDS)
+                .tags("name", name)
+                .description("The time spent writing the buffered entries")
+                .register(registry);
+
+        FunctionCounter.builder("write.behind.flushed", gateway, WriteBehindUserGateway::flushedCount)
+                .tags("name", name)
+                .description("The number of entries written")
+                .register(registry);
+
+        FunctionCounter.builder("write.behind.flush.failures", gateway, WriteBehindUserGateway::failedFlushCount)
+                .tags("name", name)
+                .description("The number of flushes that failed")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.TouchBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link UserGateway} decorator buffering {@link #touchLastLogin(Long, LocalDateTime)}
+ * calls and writing them behind, in batches of
+ * {@link #updateLastLogins(Map)}.
+ * <p>
+ * Logins are kept in a {@link TouchBuffer}, so repeated logins of a user
+ * between two flushes cost one buffered entry and one updated row. The
+ * buffer is flushed at a fixed interval on a background thread, and right
+ * away by the caller that finds it holding {@code maxPending} users, which
+ * bounds its size and slows logins down rather than growing the heap when
+ * the database falls behind. Users of a failed flush are buffered again for
+ * the next one.
+ * <p>
+ * Last login times are therefore visible through the delegate only after
+ * the next flush; they are lost if the process dies before it. Closing the
+ * gateway flushes them, then closes the delegate if it is
+ * {@link AutoCloseable}.
+ *
+ * @author Mateus Pfeffer
+ * @see WriteBehindMetrics
+ * @since 1.0
+ */
+public class WriteBehindUserGateway extends DelegatingGateway<UserBO, Long, UserGateway>
+        implements DelegatingUserGateway, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindUserGateway.class);
+
+    private final TouchBuffer lastLogins = new TouchBuffer(Runtime.getRuntime().availableProcessors() * 4);
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final int maxPending;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService flusher;
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    private final AtomicLong flushNanos = new AtomicLong();
+
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    private WriteBehindUserGateway(UserGateway delegate, int maxPending, int maxBatchSize) {
+        super(delegate);
+
+        this.maxPending = maxPending;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("user-write-behind").daemon().factory());
+    }
+
+    /**
+     * Creates the gateway and starts flushing its buffer in the background.
+     *
+     * @param delegate      the decorated gateway. Must not be {@code null}.
+     * @param maxPending    the number of buffered users at which a login
+     *                      flushes the buffer first.
+     * @param maxBatchSize  the maximum number of users per
+     *                      {@link #updateLastLogins(Map)} call.
+     * @param flushInterval the delay between two background flushes.
+     * @return the gateway, to be closed on shutdown.
+     */
+    public static WriteBehindUserGateway start(UserGateway delegate, int maxPending, int maxBatchSize,
+                                               Duration flushInterval) {
+        InternalValidation.isTrue(maxPending > 0, "Max pending must be greater than zero");
+        InternalValidation.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+        InternalValidation.isTrue(flushInterval != null && flushInterval.isPositive(),
+                "Flush interval must be positive");
+
+        WriteBehindUserGateway gateway = new WriteBehindUserGateway(delegate, maxPending, maxBatchSize);
+        long interval = flushInterval.toMillis();
+
+        gateway.flusher.scheduleWithFixedDelay(gateway::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+
+        return gateway;
+    }
+
+    /**
+     * Buffers the login, after flushing the buffer if it is full.
+     *
+     * @throws RuntimeException if the buffer is full and could not be
+     *                          flushed.
+     */
+    @Override
+    public void touchLastLogin(Long id, LocalDateTime lastLoginAt) {
+        InternalValidation.notNull(id, "ID must not be null");
+        InternalValidation.notNull(lastLoginAt, "Last login time must not be null");
+
+        if (lastLogins.size() >= maxPending) {
+            flush();
+        }
+
+        lastLogins.touch(id, micros(lastLoginAt));
+    }
+
+    /**
+     * Writes every buffered login to the delegate, in batches of at most
+     * {@code maxBatchSize} users. Only one flush runs at a time.
+     *
+     * @return the number of users written.
+     * @throws RuntimeException if a batch fails; its users and the following
+     *                          ones are buffered again.
+     */
+    public int flush() {
+        flushLock.lock();
+
+        try {
+            if (lastLogins.size() == 0) {
+                return 0;
+            }
+
+            long start = System.nanoTime();
+            List<Map<Long, LocalDateTime>> batches = new ArrayList<>();
+
+            lastLogins.drain((id, micros) -> {
+                if (batches.isEmpty() || batches.getLast().size() == maxBatchSize) {
+                    batches.add(new HashMap<>());
+                }
+
+                batches.getLast().put(id, timestamp(micros));
+            });
+
+            int flushed = 0;
+
+            for (int i = 0; i < batches.size(); i++) {
+                try {
+                    delegate.updateLastLogins(batches.get(i));
+                } catch (RuntimeException e) {
+                    failedFlushCount.incrementAndGet();
+                    batches.subList(i, batches.size()).forEach(this::restore);
+                    throw e;
+                }
+
+                flushed += batches.get(i).size();
+            }
+
+            flushCount.incrementAndGet();
+            flushNanos.addAndGet(System.nanoTime() - start);
+            flushedCount.addAndGet(flushed);
+
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of users whose login is buffered.
+     */
+    public int pendingCount() {
+        return lastLogins.size();
+    }
+
+    /**
+     * Returns the number of successful flushes.
+     */
+    public long flushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * Returns the total time spent in successful flushes, in nanoseconds.
+     */
+    public long flushNanos() {
+        return flushNanos.get();
+    }
+
+    /**
+     * Returns the number of users written by successful flushes.
+     */
+    public long flushedCount() {
+        return flushedCount.get();
+    }
+
+    /**
+     * Returns the number of flushes that failed.
+     */
+    public long failedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    /**
+     * Stops the background flush, writes the buffered logins, then closes
+     * the delegate if it is {@link AutoCloseable}. If interrupted while
+     * waiting for a running flush, the logins are still written and the
+     * interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        flusher.shutdownNow();
+
+        try {
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+        } finally {
+            closeDelegate();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to write the buffered user logins", e);
+        }
+    }
+
+    private void restore(Map<Long, LocalDateTime> batch) {
+        batch.forEach((id, lastLoginAt) -> lastLogins.touch(id, micros(lastLoginAt)));
+    }
+
+    private static long micros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime timestamp(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+}
@@ -0,0 +1,602 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the gateway decorators, bound from the
+ * {@code clean-arch.gateway} prefix.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "clean-arch.gateway")
+public class GatewayProperties {
+
+    /**
+     * Where the entities are stored. {@link Store#MEMORY} keeps them on the
+     * heap only and loses them on shutdown; {@link Store#MAPPED} keeps them
+     * off-heap in memory-mapped files. Neither is decorated.
+     */
+    private Store store = Store.POSTGRES;
+
+    private final Memory memory = new Memory();
+
+    private final Mapped mapped = new Mapped();
+
+    private final Snapshot snapshot = new Snapshot();
+
+    private final Cache cache = new Cache();
+
+    private final Coalescing coalescing = new Coalescing();
+
+    private final Batching batching = new Batching();
+
+    private final Async async = new Async();
+
+    private final Reactive reactive = new Reactive();
+
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    private final GroupCommit groupCommit = new GroupCommit();
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+
+    public Memory getMemory() {
+        return memory;
+    }
+
+    public Mapped getMapped() {
+        return mapped;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    public Batching getBatching() {
+        return batching;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Reactive getReactive() {
+        return reactive;
+    }
+
+    public WriteBehind getWriteBehind() {
+        return writeBehind;
+    }
+
+    public GroupCommit getGroupCommit() {
+        return groupCommit;
+    }
+
+    public enum Store {
+
+        POSTGRES,
+
+        MEMORY,
+
+        MAPPED
+
+    }
+
+    /**
+     * In-memory store, used when {@code store} is {@link Store#MEMORY}.
+     */
+    public static class Memory {
+
+        /**
+         * Number of entities the store is sized for up front, to avoid
+         * resizing while it is loaded.
+         */
+        private int expectedSize = 10_000;
+
+        public int getExpectedSize() {
+            return expectedSize;
+        }
+
+        public void setExpectedSize(int expectedSize) {
+            this.expectedSize = expectedSize;
+        }
+
+    }
+
+    /**
+     * Memory-mapped store, used when {@code store} is {@link Store#MAPPED}.
+     */
+    public static class Mapped {
+
+        /**
+         * Directory of the log and index files, created if missing.
+         */
+        private Path directory = Path.of("data", "users");
+
+        /**
+         * Size of each log segment file. Larger segments mean fewer files
+         * but more data copied by each compaction.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Number of entities the indexes are created for; they double when
+         * three quarters full.
+         */
+        private int expectedSize = 1_000_000;
+
+        /**
+         * How often sparse segments are compacted.
+         */
+        private Duration compactionInterval = Duration.ofMinutes(1);
+
+        /**
+         * Fraction of live data under which a segment is compacted.
+         */
+        private double compactionThreshold = 0.5;
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(DataSize segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public int getExpectedSize() {
+            return expectedSize;
+        }
+
+        public void setExpectedSize(int expectedSize) {
+            this.expectedSize = expectedSize;
+        }
+
+        public Duration getCompactionInterval() {
+            return compactionInterval;
+        }
+
+        public void setCompactionInterval(Duration compactionInterval) {
+            this.compactionInterval = compactionInterval;
+        }
+
+        public double getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+
+    }
+
+    /**
+     * Columnar in-memory snapshot of the users, answering filtered listings.
+     */
+    public static class Snapshot {
+
+        /**
+         * Whether filtered user listings are answered from the snapshot. It
+         * holds every user in memory, so the heap must be sized for it.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How often users written on this node and newly inserted users are
+         * loaded into the snapshot.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(1);
+
+        /**
+         * How often the whole snapshot is reloaded. Bounds the staleness of
+         * users modified by other nodes or outside the application.
+         */
+        private Duration rebuildInterval = Duration.ofMinutes(15);
+
+        /**
+         * Number of users read per query while loading the snapshot.
+         */
+        private int batchSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getRebuildInterval() {
+            return rebuildInterval;
+        }
+
+        public void setRebuildInterval(Duration rebuildInterval) {
+            this.rebuildInterval = rebuildInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+    }
+
+    /**
+     * Read-through cache of entities by identifier and secondary keys.
+     */
+    public static class Cache {
+
+        /**
+         * Whether reads by identifier, username and email are cached.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached entities; the least recently used entity
+         * is evicted beyond it.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long an entity stays cached after being loaded. Bounds the
+         * staleness of rows modified outside the application.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+    }
+
+    /**
+     * Coalescing of concurrent lookups of the same entity into one fetch.
+     */
+    public static class Coalescing {
+
+        /**
+         * Whether concurrent reads by identifier, username and email share a
+         * single in-flight fetch.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    /**
+     * Micro-batching of concurrent lookups by identifier into one query.
+     */
+    public static class Batching {
+
+        /**
+         * Whether concurrent reads by identifier are merged into a single
+         * {@code findByIds} query. Adds up to {@code window} of latency to
+         * each read, so it pays off only under high concurrency.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long reads are collected before their batch is run.
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * Maximum number of identifiers per batch; a full batch is run right
+         * away.
+         */
+        private int maxBatchSize = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+    }
+
+    /**
+     * Executor running the operations of the asynchronous gateways.
+     */
+    public static class Async {
+
+        /**
+         * Number of operations run concurrently. Each one may hold a pooled
+         * connection, so this should stay below the connection pool size.
+         */
+        private int threads = 16;
+
+        /**
+         * Maximum number of operations waiting for a thread; operations
+         * beyond it are rejected right away.
+         */
+        private int queueCapacity = 1_000;
+
+        /**
+         * How long an operation may run, including its time in the queue,
+         * before it is cancelled.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+    }
+
+    /**
+     * Executor of the reactive gateway operations.
+     */
+    public static class Reactive {
+
+        /**
+         * Number of pages fetched concurrently. Each fetch may hold a pooled
+         * connection, so this should stay below the connection pool size.
+         */
+        private int threads = 16;
+
+        /**
+         * Maximum number of fetches waiting for a thread; fetches beyond it
+         * are signalled as errors right away.
+         */
+        private int queueCapacity = 1_000;
+
+        /**
+         * Number of entities fetched at a time by reactive listings, and
+         * thus held per subscriber.
+         */
+        private int pageSize = 500;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+    }
+
+    /**
+     * Write-behind buffer of touch updates, such as last login times.
+     */
+    public static class WriteBehind {
+
+        /**
+         * Whether touch updates are buffered and written in batches. When
+         * disabled, each one is written right away.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How often the buffer is written. Bounds how long a touch update is
+         * invisible to reads, and how many are lost if the process dies.
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * Maximum number of buffered entities; the caller that finds the
+         * buffer full writes it before its own update is buffered.
+         */
+        private int maxPending = 100_000;
+
+        /**
+         * Maximum number of entities written by one statement.
+         */
+        private int maxBatchSize = 5_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+    }
+
+    /**
+     * Group commit of entity creations issued outside of a transaction.
+     */
+    public static class GroupCommit {
+
+        /**
+         * Whether concurrent creations are inserted together, sharing one
+         * transaction and one commit. When disabled, each one commits alone.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of creations sharing one commit.
+         */
+        private int maxBatchSize = 100;
+
+        /**
+         * How long the first creation of a batch waits for others, added to
+         * the latency of a lone creation. Creations submitted while a batch
+         * commits join the next one without waiting.
+         */
+        private Duration maxWait = Duration.ofNanos(500_000);
+
+        /**
+         * How long a creation waits for its batch to commit before failing
+         * with a timeout.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+    }
+
+}
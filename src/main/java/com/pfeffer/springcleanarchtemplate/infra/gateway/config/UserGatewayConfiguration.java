@@ -0,0 +1,183 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway.config;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.AsyncGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.ReactiveGateway;
+import com.pfeffer.springcleanarchtemplate.infra.cache.LruCacheMetrics;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlight;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlightMetrics;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.ThreadFactories;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar.UserSnapshot;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.MappedUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.PgUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.AsyncGatewayAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.BatchingUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.CachingUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.CoalescingGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.CoalescingUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.GroupCommitUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.ReactiveGatewayAdapter;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.SnapshotUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.WriteBehindMetrics;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.WriteBehindUserGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembles the {@link UserGateway} injected into the application: the
+ * {@link PgUserGateway}, wrapped by the decorators enabled under
+ * {@code clean-arch.gateway}.
+ * <p>
+ * From the outermost to the innermost, the decorators are the cache, the
+ * coalescing layer and the micro-batching layer, so only cache misses are
+ * coalesced, and only distinct identifiers are batched. With
+ * {@code clean-arch.gateway.snapshot.enabled}, a {@link SnapshotUserGateway}
+ * wraps them to answer filtered listings from memory, and with
+ * {@code clean-arch.gateway.group-commit.enabled}, a
+ * {@link GroupCommitUserGateway} wraps those to let concurrent creations
+ * share a commit, while still invalidating the snapshot. Outermost, a
+ * {@link WriteBehindUserGateway} buffers last login times, so their batched
+ * writes still go through every other decorator. The outermost decorator
+ * is closed with the context, through the inferred destroy method of the
+ * bean, and closes the ones it wraps, down to the executor of the
+ * micro-batching layer.
+ * <p>
+ * With {@code clean-arch.gateway.store} set to {@code memory} or
+ * {@code mapped}, the {@link InMemoryUserGateway} or a
+ * {@link MappedUserGateway} is injected instead, undecorated, since caching
+ * or batching lookups that never leave the process would only slow them
+ * down. The {@link MappedUserGateway} is closed with the context, through
+ * the inferred destroy method of the bean.
+ * <p>
+ * The {@link AsyncGateway} runs the operations of that same decorated
+ * gateway on the bounded executor configured under
+ * {@code clean-arch.gateway.async}, and the {@link ReactiveGateway} runs its
+ * reads on the one configured under {@code clean-arch.gateway.reactive}.
+ *
+ * @author Mateus Pfeffer
+ * @see GatewayProperties
+ * @since 1.0
+ */
+@Configuration
+public class UserGatewayConfiguration {
+
+    @Bean
+    @Primary
+    public UserGateway userGateway(PgUserGateway pgUserGateway,
+                                   InMemoryUserGateway inMemoryUserGateway,
+                                   GatewayProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   Environment environment) {
+        if (properties.getStore() == GatewayProperties.Store.MEMORY) {
+            return inMemoryUserGateway;
+        }
+
+        if (properties.getStore() == GatewayProperties.Store.MAPPED) {
+            return MappedUserGateway.open(properties);
+        }
+
+        UserGateway gateway = pgUserGateway;
+
+        GatewayProperties.Batching batching = properties.getBatching();
+
+        if (batching.isEnabled()) {
+            // Not a bean on purpose: an Executor bean would replace Spring Boot's applicationTaskExecutor.
+            // Shut down when the gateway is closed
+            ThreadFactory threadFactory = ThreadFactories.named("user-batch-", environment);
+            ExecutorService executor = ThreadFactories.isVirtual(environment)
+                    ? Executors.newThreadPerTaskExecutor(threadFactory)
+                    : Executors.newCachedThreadPool(threadFactory);
+
+            gateway = new BatchingUserGateway(gateway, batching.getWindow(), batching.getMaxBatchSize(), executor);
+        }
+
+        if (properties.getCoalescing().isEnabled()) {
+            SingleFlight<CoalescingGateway.LookupKey, Optional<UserBO>> flight = new SingleFlight<>();
+
+            new SingleFlightMetrics(flight, "users").bindTo(meterRegistry);
+
+            gateway = new CoalescingUserGateway(gateway, flight);
+        }
+
+        GatewayProperties.Cache cache = properties.getCache();
+
+        if (cache.isEnabled()) {
+            CachingUserGateway cachingGateway = new CachingUserGateway(gateway, cache.getMaximumSize(), cache.getTimeToLive());
+
+            new LruCacheMetrics(cachingGateway.getCache(), "users", Tags.empty()).bindTo(meterRegistry);
+
+            gateway = cachingGateway;
+        }
+
+        GatewayProperties.Snapshot snapshot = properties.getSnapshot();
+
+        if (snapshot.isEnabled()) {
+            // Loaded straight from PostgreSQL, as the cache would only be polluted by the scan
+            UserSnapshot userSnapshot = UserSnapshot.start(pgUserGateway, snapshot.getBatchSize(),
+                    snapshot.getRefreshInterval(), snapshot.getRebuildInterval());
+
+            gateway = new SnapshotUserGateway(gateway, userSnapshot);
+        }
+
+        GatewayProperties.GroupCommit groupCommit = properties.getGroupCommit();
+
+        if (groupCommit.isEnabled()) {
+            gateway = new GroupCommitUserGateway(gateway, groupCommit.getMaxBatchSize(), groupCommit.getMaxWait(),
+                    groupCommit.getTimeout());
+        }
+
+        GatewayProperties.WriteBehind writeBehind = properties.getWriteBehind();
+
+        if (writeBehind.isEnabled()) {
+            WriteBehindUserGateway writeBehindGateway = WriteBehindUserGateway.start(gateway,
+                    writeBehind.getMaxPending(), writeBehind.getMaxBatchSize(), writeBehind.getFlushInterval());
+
+            new WriteBehindMetrics(writeBehindGateway, "users.last-login").bindTo(meterRegistry);
+
+            gateway = writeBehindGateway;
+        }
+
+        return gateway;
+    }
+
+    @Bean
+    public AsyncGateway<UserBO, Long> asyncUserGateway(UserGateway userGateway,
+                                                       GatewayProperties properties,
+                                                       Environment environment) {
+        GatewayProperties.Async async = properties.getAsync();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(async.getThreads(), async.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(async.getQueueCapacity()),
+                ThreadFactories.named("async-gateway-", environment));
+
+        return new AsyncGatewayAdapter<>(userGateway, executor, async.getTimeout());
+    }
+
+    @Bean
+    public ReactiveGateway<UserBO, Long> reactiveUserGateway(UserGateway userGateway,
+                                                             GatewayProperties properties,
+                                                             Environment environment) {
+        GatewayProperties.Reactive reactive = properties.getReactive();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(reactive.getThreads(), reactive.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(reactive.getQueueCapacity()),
+                ThreadFactories.named("reactive-gateway-", environment));
+
+        return new ReactiveGatewayAdapter<>(userGateway, executor, reactive.getPageSize());
+    }
+
+}
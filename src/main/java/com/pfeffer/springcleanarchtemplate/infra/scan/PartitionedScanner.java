@@ -0,0 +1,258 @@
+package com.pfeffer.springcleanarchtemplate.infra.scan;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.EntityBO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.RangeScanGateway;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import com.pfeffer.springcleanarchtemplate.infra.scan.config.ScanProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs batch jobs over every entity of a {@link RangeScanGateway}, splitting
+ * the identifier keyspace into {@link ScanProperties#getPartitions()} ranges
+ * that are scanned concurrently.
+ * <p>
+ * Each range is scanned on its own virtual thread, with at most
+ * {@link ScanProperties#getParallelism()} ranges running at a time, in keyset
+ * batches of {@link ScanProperties#getBatchSize()} entities. Every batch is
+ * read outside a transaction, so concurrent ranges use separate connections.
+ * <p>
+ * After each batch is processed, the last identifier of its range is stored
+ * in the {@link ScanCheckpointStore}. If the job fails, running it again with
+ * the same name resumes every range after its last checkpoint; the batch
+ * that failed is processed again, so processors should be idempotent. The
+ * checkpoints are removed once the job completes.
+ * <p>
+ * The ranges are computed from the identifiers present when the job starts,
+ * so entities inserted afterwards with greater identifiers are not scanned.
+ * <p>
+ * Progress is published per job through Micrometer as {@code scan.rows},
+ * {@code scan.batches}, the {@code scan.batch} timer and the
+ * {@code scan.ranges.remaining} gauge.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     scanner.scan("revalidate-users", userGateway, users -> users.forEach(UserBO::validate));
+ *     }
+ * </pre>
+ *
+ * @author Mateus Pfeffer
+ * @see ScanCheckpointStore
+ * @since 1.0
+ */
+@Component
+public class PartitionedScanner {
+
+    private final ScanCheckpointStore store;
+
+    private final ScanProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> remainingRanges = new ConcurrentHashMap<>();
+
+    public PartitionedScanner(ScanCheckpointStore store, ScanProperties properties, MeterRegistry meterRegistry) {
+        InternalValidation.notNull(store, "ScanCheckpointStore must not be null");
+        InternalValidation.notNull(properties, "ScanProperties must not be null");
+        InternalValidation.notNull(meterRegistry, "MeterRegistry must not be null");
+        InternalValidation.isTrue(properties.getParallelism() > 0, "Scan parallelism must be greater than zero");
+        InternalValidation.isTrue(properties.getPartitions() > 0, "Scan partitions must be greater than zero");
+        InternalValidation.isTrue(properties.getBatchSize() > 0, "Scan batch size must be greater than zero");
+
+        this.store = store;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a job, or resumes it if a previous run with the same name failed.
+     *
+     * @param job       the name of the job, used for checkpoints and metrics.
+     * @param gateway   the gateway to scan.
+     * @param processor processes each batch of entities; it is called
+     *                  concurrently from several threads.
+     * @param <BO>      the type of the entities scanned.
+     * @return the number of entities processed by this run.
+     * @throws RuntimeException the first exception thrown by the processor or
+     *                          the gateway, after every running range has
+     *                          stopped. An {@link Error} is rethrown as is.
+     *                          Either way, the checkpoints are kept.
+     */
+    public <BO extends EntityBO> long scan(String job, RangeScanGateway<BO> gateway, Consumer<List<BO>> processor) {
+        InternalValidation.notNull(job, "Job must not be null");
+        InternalValidation.notNull(gateway, "RangeScanGateway must not be null");
+        InternalValidation.notNull(processor, "Processor must not be null");
+
+        List<ScanRange> ranges = store.load(job);
+
+        if (ranges.isEmpty()) {
+            Optional<IdRange> idRange = gateway.findIdRange();
+
+            if (idRange.isEmpty()) {
+                return 0;
+            }
+
+            ranges = split(idRange.get(), properties.getPartitions());
+            store.create(job, ranges);
+        }
+
+        List<ScanRange> pending = ranges.stream()
+                .filter(range -> !range.completed())
+                .toList();
+
+        Progress progress = new Progress(job, pending.size());
+        Semaphore permits = new Semaphore(properties.getParallelism());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("scan-" + job + "-", 0).factory())) {
+            for (ScanRange range : pending) {
+                executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+
+                    try {
+                        scanRange(job, range, gateway, processor, progress, failure);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        Throwable error = failure.get();
+
+        if (error instanceof RuntimeException e) {
+            throw e;
+        }
+
+        if (error instanceof Error e) {
+            throw e;
+        }
+
+        if (error != null) {
+            throw new IllegalStateException("Scan " + job + " failed", error);
+        }
+
+        store.delete(job);
+
+        return progress.processed.sum();
+    }
+
+    private <BO extends EntityBO> void scanRange(String job, ScanRange range, RangeScanGateway<BO> gateway,
+                                                 Consumer<List<BO>> processor, Progress progress,
+                                                 AtomicReference<Throwable> failure) {
+        int batchSize = properties.getBatchSize();
+        ScanRange current = range;
+
+        while (failure.get() == null) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<BO> batch = gateway.findRange(current.lastId(), current.toId(), batchSize);
+
+            if (!batch.isEmpty()) {
+                processor.accept(batch);
+            }
+
+            long lastId = batch.isEmpty() ? current.lastId() : batch.getLast().getId();
+            boolean completed = batch.size() < batchSize || lastId >= current.toId();
+
+            current = current.advance(lastId, completed);
+            store.save(job, current);
+
+            sample.stop(progress.batchTimer);
+            progress.record(batch.size());
+
+            if (completed) {
+                progress.remaining.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private static List<ScanRange> split(IdRange idRange, int partitions) {
+        long span = idRange.max() - idRange.min() + 1;
+        long width = Math.max(1, (span + partitions - 1) / partitions);
+
+        List<ScanRange> ranges = new ArrayList<>(partitions);
+        long afterId = idRange.min() - 1;
+
+        while (afterId < idRange.max()) {
+            long toId = Math.min(idRange.max(), afterId + width);
+
+            ranges.add(new ScanRange(ranges.size(), afterId, toId, afterId, false));
+            afterId = toId;
+        }
+
+        return ranges;
+    }
+
+    private final class Progress {
+
+        private final Counter rows;
+
+        private final Counter batches;
+
+        private final Timer batchTimer;
+
+        private final AtomicInteger remaining;
+
+        private final LongAdder processed = new LongAdder();
+
+        private Progress(String job, int pendingRanges) {
+            Tags tags = Tags.of("job", job);
+
+            this.rows = Counter.builder("scan.rows")
+                    .description("Entities processed by partitioned scans")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.batches = Counter.builder("scan.batches")
+                    .description("Batches processed by partitioned scans")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.batchTimer = Timer.builder("scan.batch")
+                    .description("Time to read, process and checkpoint a batch")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.remaining = remainingRanges.computeIfAbsent(job, name -> {
+                AtomicInteger value = new AtomicInteger();
+
+                Gauge.builder("scan.ranges.remaining", value, AtomicInteger::get)
+                        .description("Ranges of the running partitioned scan not yet completed")
+                        .tags(tags)
+                        .register(meterRegistry);
+
+                return value;
+            });
+
+            this.remaining.set(pendingRanges);
+        }
+
+        private void record(int count) {
+            rows.increment(count);
+            batches.increment();
+            processed.add(count);
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.pfeffer.springcleanarchtemplate.infra.scan;
+
+import java.util.List;
+
+/**
+ * Persists the ranges of the {@link PartitionedScanner} jobs and how far each
+ * of them got, so a failed job can be resumed.
+ *
+ * @author Mateus Pfeffer
+ * @see PartitionedScanner
+ * @since 1.0
+ */
+public interface ScanCheckpointStore {
+
+    /**
+     * Returns the ranges of an unfinished job.
+     *
+     * @param job the name of the job.
+     * @return the ranges ordered by index, or empty if the job has no
+     * checkpoint.
+     */
+    List<ScanRange> load(String job);
+
+    /**
+     * Stores the ranges of a job that is starting.
+     *
+     * @param job    the name of the job.
+     * @param ranges the ranges of the job.
+     */
+    void create(String job, List<ScanRange> ranges);
+
+    /**
+     * Stores how far a range of a job got.
+     *
+     * @param job   the name of the job.
+     * @param range the advanced range.
+     */
+    void save(String job, ScanRange range);
+
+    /**
+     * Removes the checkpoints of a finished job.
+     *
+     * @param job the name of the job.
+     */
+    void delete(String job);
+
+}
@@ -0,0 +1,28 @@
+package com.pfeffer.springcleanarchtemplate.infra.scan;
+
+/**
+ * A partition of the identifier keyspace scanned by a
+ * {@link PartitionedScanner} job, together with its checkpoint.
+ *
+ * @param index     the position of the range within the job.
+ * @param afterId   the identifier after which the range starts, exclusive.
+ * @param toId      the identifier at which the range ends, inclusive.
+ * @param lastId    the last identifier processed, {@code afterId} if none.
+ * @param completed whether every identifier of the range was processed.
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public record ScanRange(int index, long afterId, long toId, long lastId, boolean completed) {
+
+    /**
+     * Returns this range advanced to the given identifier.
+     *
+     * @param lastId    the last identifier processed.
+     * @param completed whether the range is now completed.
+     * @return the advanced range.
+     */
+    public ScanRange advance(long lastId, boolean completed) {
+        return new ScanRange(index, afterId, toId, lastId, completed);
+    }
+
+}
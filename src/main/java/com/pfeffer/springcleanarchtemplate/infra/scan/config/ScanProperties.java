@@ -0,0 +1,58 @@
+package com.pfeffer.springcleanarchtemplate.infra.scan.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the partitioned scans, bound from the
+ * {@code clean-arch.scan} prefix.
+ *
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "clean-arch.scan")
+public class ScanProperties {
+
+    /**
+     * Maximum number of ranges scanned concurrently. Each one holds a pooled
+     * connection while it reads a batch, so this should stay below the
+     * connection pool size.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Number of ranges the identifier keyspace is split into. More ranges
+     * than {@link #parallelism} even out ranges with fewer rows.
+     */
+    private int partitions = 16;
+
+    /**
+     * Number of entities read, processed and checkpointed at a time within a
+     * range.
+     */
+    private int batchSize = 1_000;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+}
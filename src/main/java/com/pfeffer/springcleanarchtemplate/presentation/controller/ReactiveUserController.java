@@ -0,0 +1,47 @@
+package com.pfeffer.springcleanarchtemplate.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.presentation.streaming.NdjsonPublisherEmitter;
+import com.pfeffer.springcleanarchtemplate.service.UserService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("api/v1/reactive/users")
+public class ReactiveUserController {
+
+    private static final int PREFETCH = 256;
+
+    private final UserService service;
+
+    private final ObjectMapper objectMapper;
+
+    public ReactiveUserController(UserService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("{id}")
+    public CompletableFuture<ResponseEntity<UserResponseDTO>> findById(@PathVariable Long id) {
+        return service.findByIdReactive(id)
+                .thenApply(user -> ResponseEntity.ok().body(user));
+    }
+
+    @GetMapping(value = "all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamAll() {
+        ResponseBodyEmitter users = NdjsonPublisherEmitter.subscribe(objectMapper, service.publishAll(), PREFETCH);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(users);
+    }
+
+}
@@ -1,31 +1,82 @@
 package com.pfeffer.springcleanarchtemplate.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserBatchGetRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.ImportReportDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.PaginatedResponseDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CountMode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
 import com.pfeffer.springcleanarchtemplate.infra.adapter.SpringPageableAdapter;
+import com.pfeffer.springcleanarchtemplate.presentation.streaming.JsonStreamingResponseBody;
+import com.pfeffer.springcleanarchtemplate.presentation.streaming.StreamingRecordReader;
 import com.pfeffer.springcleanarchtemplate.service.UserService;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("api/v1/users")
 public class UserController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final UserService service;
 
-    public UserController(UserService service) {
+    private final ObjectMapper objectMapper;
+
+    public UserController(UserService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("{id}")
-    public ResponseEntity<UserResponseDTO> findById(@PathVariable Long id) {
-        UserResponseDTO user = service.findById(id);
+    public CompletableFuture<ResponseEntity<UserResponseDTO>> findById(@PathVariable Long id) {
+        return service.findByIdAsync(id)
+                .thenApply(user -> ResponseEntity.ok().body(user));
+    }
 
-        return ResponseEntity.ok().body(user);
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<List<UserResponseDTO>>> findByIds(@RequestParam List<Long> ids) {
+        return service.findByIdsAsync(ids)
+                .thenApply(users -> ResponseEntity.ok().body(users));
+    }
+
+    @PostMapping("batch-get")
+    public ResponseEntity<List<UserResponseDTO>> batchGet(@RequestBody UserBatchGetRequestDTO dto) {
+        List<UserResponseDTO> users = service.findAll(dto);
+
+        return ResponseEntity.ok().body(users);
     }
 
     @GetMapping("email/{email}")
@@ -35,20 +86,74 @@ public class UserController {
         return ResponseEntity.ok().body(user);
     }
 
-    @GetMapping("all")
-    public ResponseEntity<List<UserResponseDTO>> findAll() {
-        List<UserResponseDTO> users = service.findAll();
+    @GetMapping(value = "all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> findAll() {
+        StreamingResponseBody users = JsonStreamingResponseBody.array(objectMapper, service::streamAll);
 
-        return ResponseEntity.ok().body(users);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(users);
+    }
+
+    @GetMapping(value = "all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody users = JsonStreamingResponseBody.ndjson(objectMapper, service::streamAll);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(users);
+    }
+
+    @GetMapping(value = "export", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCsv(@RequestParam(required = false) UserStatus status,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return export(ExportFormat.CSV, MediaType.parseMediaType(TEXT_CSV_VALUE), "users.csv",
+                exportFilter(status, createdFrom, createdTo), acceptEncoding);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNdjson(@RequestParam(required = false) UserStatus status,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return export(ExportFormat.NDJSON, MediaType.APPLICATION_NDJSON, "users.ndjson",
+                exportFilter(status, createdFrom, createdTo), acceptEncoding);
     }
 
     @GetMapping
-    public ResponseEntity<PaginatedResponseDTO<UserResponseDTO>> findAll(Pageable pageable) {
-        PaginatedResponseDTO<UserResponseDTO> users = service.findAll(new SpringPageableAdapter(pageable));
+    public ResponseEntity<PaginatedResponseDTO<UserResponseDTO>> findAll(Pageable pageable,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "true") boolean count,
+                                                                        @RequestParam(defaultValue = "EXACT") CountMode countMode) {
+        if (cursor != null) {
+            CursorPaginationRequest pagination = cursor.isEmpty()
+                    ? CursorPaginationRequest.of(pageable.getPageSize(), new SpringPageableAdapter(pageable).getSort())
+                    : CursorPaginationRequest.fromCursor(cursor, pageable.getPageSize());
+
+            return ResponseEntity.ok().body(service.scroll(pagination));
+        }
+
+        PaginatedResponseDTO<UserResponseDTO> users = service.findAll(new SpringPageableAdapter(pageable, countMode), count);
 
         return ResponseEntity.ok().body(users);
     }
 
+    @GetMapping("search")
+    public ResponseEntity<PaginatedResponseDTO<UserResponseDTO>> search(Pageable pageable,
+                                                                       @RequestParam(required = false) UserStatus status,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastLoginFrom,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastLoginTo) {
+        UserFilterDTO filter = new UserFilterDTO();
+
+        filter.setStatus(status);
+        filter.setCreatedFrom(createdFrom);
+        filter.setCreatedTo(createdTo);
+        filter.setLastLoginFrom(lastLoginFrom);
+        filter.setLastLoginTo(lastLoginTo);
+
+        return ResponseEntity.ok().body(service.findAll(filter, new SpringPageableAdapter(pageable)));
+    }
+
     @GetMapping("username/{username}")
     public ResponseEntity<UserResponseDTO> findByUsername(@PathVariable String username) {
         UserResponseDTO user = service.findByUsername(username);
@@ -63,6 +168,20 @@ public class UserController {
         return ResponseEntity.ok(createdUser);
     }
 
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReportDTO> importNdjson(InputStream body) throws IOException {
+        try (StreamingRecordReader<UserRequestDTO> rows = StreamingRecordReader.ndjson(objectMapper, body, UserRequestDTO.class)) {
+            return ResponseEntity.ok(service.importAll(rows));
+        }
+    }
+
+    @PostMapping(value = "import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportReportDTO> importCsv(InputStream body) throws IOException {
+        try (StreamingRecordReader<UserRequestDTO> rows = StreamingRecordReader.csv(objectMapper, body, UserRequestDTO.class)) {
+            return ResponseEntity.ok(service.importAll(rows));
+        }
+    }
+
     @PutMapping("{id}")
     public ResponseEntity<UserResponseDTO> updateById(@PathVariable Long id, @RequestBody UserRequestDTO dto) {
         UserResponseDTO updatedUser = service.updateById(id, dto);
@@ -70,6 +189,31 @@ public class UserController {
         return ResponseEntity.ok().body(updatedUser);
     }
 
+    @PatchMapping(value = "{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchById(@PathVariable Long id, @RequestBody ObjectNode patch) {
+        Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(fields::add);
+
+        UserRequestDTO dto;
+
+        try {
+            dto = objectMapper.treeToValue(patch, UserRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, e.getOriginalMessage());
+        }
+
+        service.patchById(id, dto, fields);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("{id}/login")
+    public ResponseEntity<Void> recordLogin(@PathVariable Long id) {
+        service.recordLogin(id);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<UserResponseDTO> deleteById(@PathVariable Long id) {
         service.deleteById(id);
@@ -77,4 +221,45 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    private ResponseEntity<StreamingResponseBody> export(ExportFormat format, MediaType contentType, String filename,
+                                                         UserExportFilterDTO filter, String acceptEncoding) {
+        // Rejected here, as errors thrown by the body arrive after the 200 is committed
+        service.validateExport(filter, format);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out;
+            BufferedOutputStream buffered = new BufferedOutputStream(target, EXPORT_BUFFER_SIZE);
+
+            service.export(filter, format, buffered);
+            buffered.flush();
+
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(body);
+    }
+
+    private static UserExportFilterDTO exportFilter(UserStatus status, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        UserExportFilterDTO filter = new UserExportFilterDTO();
+
+        filter.setStatus(status);
+        filter.setCreatedFrom(createdFrom);
+        filter.setCreatedTo(createdTo);
+
+        return filter;
+    }
+
 }
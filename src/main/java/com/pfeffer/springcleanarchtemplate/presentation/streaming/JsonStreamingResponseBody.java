@@ -0,0 +1,111 @@
+package com.pfeffer.springcleanarchtemplate.presentation.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * A {@link StreamingResponseBody} that serializes the elements pushed by a
+ * source directly to the response, either as a single JSON array or as
+ * newline-delimited JSON (NDJSON).
+ * <p>
+ * Elements are written one by one as the source produces them, so the memory
+ * used is bounded by the response buffer rather than by the number of
+ * elements.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     StreamingResponseBody body = JsonStreamingResponseBody.array(objectMapper, service::streamAll);
+ *     }
+ * </pre>
+ *
+ * @param <T> the type of the elements to be written
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class JsonStreamingResponseBody<T> implements StreamingResponseBody {
+
+    private final ObjectMapper objectMapper;
+
+    private final Consumer<Consumer<T>> source;
+
+    private final boolean delimited;
+
+    private JsonStreamingResponseBody(ObjectMapper objectMapper, Consumer<Consumer<T>> source, boolean delimited) {
+        InternalValidation.notNull(objectMapper, "ObjectMapper must not be null");
+        InternalValidation.notNull(source, "Source must not be null");
+
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.delimited = delimited;
+    }
+
+    /**
+     * Creates a body that writes the elements as a single JSON array.
+     *
+     * @param objectMapper the mapper used to serialize each element
+     * @param source       pushes every element to the given consumer
+     * @param <T>          the type of the elements to be written
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> array(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return new JsonStreamingResponseBody<>(objectMapper, source, false);
+    }
+
+    /**
+     * Creates a body that writes each element as a JSON document on its own
+     * line.
+     *
+     * @param objectMapper the mapper used to serialize each element
+     * @param source       pushes every element to the given consumer
+     * @param <T>          the type of the elements to be written
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> ndjson(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        return new JsonStreamingResponseBody<>(objectMapper, source, true);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (delimited) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            try {
+                source.accept(element -> write(generator, element));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            if (!delimited) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void write(JsonGenerator generator, T element) {
+        try {
+            generator.writeObject(element);
+
+            if (delimited) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
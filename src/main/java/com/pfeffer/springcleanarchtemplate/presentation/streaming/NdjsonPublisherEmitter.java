@@ -0,0 +1,123 @@
+package com.pfeffer.springcleanarchtemplate.presentation.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link ResponseBodyEmitter} writing the elements of a
+ * {@link Flow.Publisher} as newline-delimited JSON (NDJSON), with
+ * backpressure.
+ * <p>
+ * At most {@code prefetch} elements are requested ahead of the ones written,
+ * so a slow client slows the publisher down instead of making elements pile
+ * up in memory. The subscription is cancelled when the client goes away, the
+ * request times out or a write fails. An error signalled before the first
+ * element is handled like an exception thrown by the handler.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     return ResponseEntity.ok()
+ *             .contentType(MediaType.APPLICATION_NDJSON)
+ *             .body(NdjsonPublisherEmitter.subscribe(objectMapper, service.publishAll(), 256));
+ *     }
+ * </pre>
+ *
+ * @param <T> the type of the elements to be written
+ * @author Mateus Pfeffer
+ * @see JsonStreamingResponseBody
+ * @since 1.0
+ */
+public class NdjsonPublisherEmitter<T> extends ResponseBodyEmitter implements Flow.Subscriber<T> {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+
+    private final int prefetch;
+
+    private Flow.Subscription subscription;
+
+    private int written;
+
+    private NdjsonPublisherEmitter(ObjectMapper objectMapper, int prefetch) {
+        this.objectMapper = objectMapper;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Creates an emitter and subscribes it to the publisher.
+     *
+     * @param objectMapper the mapper used to serialize each element, must not
+     *                     be {@code null}
+     * @param publisher    the elements to write, must not be {@code null}
+     * @param prefetch     the number of elements requested ahead, must be
+     *                     greater than zero
+     * @param <T>          the type of the elements to be written
+     * @return a new {@link NdjsonPublisherEmitter}
+     */
+    public static <T> NdjsonPublisherEmitter<T> subscribe(ObjectMapper objectMapper,
+                                                          Flow.Publisher<T> publisher,
+                                                          int prefetch) {
+        InternalValidation.notNull(objectMapper, "ObjectMapper must not be null");
+        InternalValidation.notNull(publisher, "Publisher must not be null");
+        InternalValidation.isTrue(prefetch > 0, "Prefetch must be greater than zero");
+
+        NdjsonPublisherEmitter<T> emitter = new NdjsonPublisherEmitter<>(objectMapper, prefetch);
+
+        publisher.subscribe(emitter);
+
+        return emitter;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+
+        onTimeout(subscription::cancel);
+        onError(failure -> subscription.cancel());
+        onCompletion(subscription::cancel);
+
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(item);
+            byte[] line = new byte[json.length + 1];
+
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = NEWLINE;
+
+            send(line, MediaType.APPLICATION_NDJSON);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            subscription.cancel();
+            completeWithError(e);
+            return;
+        }
+
+        // Tops the demand up once half of it has been written
+        if (++written == Math.max(1, prefetch / 2)) {
+            subscription.request(written);
+            written = 0;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        completeWithError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        complete();
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.pfeffer.springcleanarchtemplate.presentation.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.utils.InternalValidation;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads records one line at a time from a request body, either as
+ * newline-delimited JSON (NDJSON) or as CSV with a header line naming the
+ * properties of each column.
+ * <p>
+ * Only the current line is kept in memory, so arbitrarily large bodies can be
+ * consumed. A malformed line makes {@link #next()} throw a
+ * {@link LocalizedException}, after which reading resumes at the following
+ * line. Blank lines are skipped.
+ * <p>
+ * CSV fields may be quoted, with {@code ""} escaping a quote, but must not
+ * span lines. Empty fields are read as {@code null}.
+ * <p>
+ * <b>Usage:</b>
+ * <pre>
+ *     {@code
+ *     try (StreamingRecordReader<UserRequestDTO> rows = StreamingRecordReader.csv(objectMapper, body, UserRequestDTO.class)) {
+ *         service.importAll(rows);
+ *     }
+ *     }
+ * </pre>
+ *
+ * @param <T> the type of the records to be read
+ * @author Mateus Pfeffer
+ * @since 1.0
+ */
+public class StreamingRecordReader<T> implements Iterator<T>, Closeable {
+
+    private final ObjectMapper objectMapper;
+
+    private final BufferedReader reader;
+
+    private final Class<T> type;
+
+    private final boolean csv;
+
+    private List<String> header;
+
+    private String pending;
+
+    private StreamingRecordReader(ObjectMapper objectMapper, InputStream body, Class<T> type, boolean csv) {
+        InternalValidation.notNull(objectMapper, "ObjectMapper must not be null");
+        InternalValidation.notNull(body, "Body must not be null");
+        InternalValidation.notNull(type, "Type must not be null");
+
+        this.objectMapper = objectMapper;
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.type = type;
+        this.csv = csv;
+    }
+
+    /**
+     * Creates a reader of one JSON object per line.
+     *
+     * @param objectMapper the mapper used to deserialize each record
+     * @param body         the request body
+     * @param type         the type of the records
+     * @param <T>          the type of the records to be read
+     * @return a new {@link StreamingRecordReader}
+     */
+    public static <T> StreamingRecordReader<T> ndjson(ObjectMapper objectMapper, InputStream body, Class<T> type) {
+        return new StreamingRecordReader<>(objectMapper, body, type, false);
+    }
+
+    /**
+     * Creates a reader of CSV records, whose first line names the property
+     * of each column.
+     *
+     * @param objectMapper the mapper used to convert each record
+     * @param body         the request body
+     * @param type         the type of the records
+     * @param <T>          the type of the records to be read
+     * @return a new {@link StreamingRecordReader}
+     */
+    public static <T> StreamingRecordReader<T> csv(ObjectMapper objectMapper, InputStream body, Class<T> type) {
+        return new StreamingRecordReader<>(objectMapper, body, type, true);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pending == null) {
+            pending = readLine();
+
+            if (csv && header == null && pending != null) {
+                header = split(pending);
+                pending = readLine();
+            }
+        }
+
+        return pending != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = pending;
+        pending = null;
+
+        try {
+            return csv ? fromCsv(line) : objectMapper.readValue(line, type);
+        } catch (JsonMappingException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, propertyOf(e));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new LocalizedException(SimpleErrorCode.INVALID_PARAMETER, "row");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private T fromCsv(String line) {
+        List<String> fields = split(line);
+
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " fields but found " + fields.size());
+        }
+
+        Map<String, String> properties = new HashMap<>();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fields.get(i).isEmpty()) {
+                properties.put(header.get(i), fields.get(i));
+            }
+        }
+
+        return objectMapper.convertValue(properties, type);
+    }
+
+    private String readLine() {
+        try {
+            String line;
+
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private static String propertyOf(JsonMappingException e) {
+        return e.getPath().isEmpty() || e.getPath().getLast().getFieldName() == null
+                ? "row"
+                : e.getPath().getLast().getFieldName();
+    }
+
+}
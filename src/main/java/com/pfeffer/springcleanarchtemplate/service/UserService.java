@@ -1,23 +1,46 @@
 package com.pfeffer.springcleanarchtemplate.service;
 
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserBatchGetRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserExportFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.ImportReportDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.PaginatedResponseDTO;
 import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.ExportFormat;
 import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.AsyncGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.ReactiveGateway;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
 import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
 import com.pfeffer.springcleanarchtemplate.domain.usecase.user.*;
-import com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.PgUserGateway;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 @Service
 public class UserService {
 
     private final UserGateway gateway;
 
-    public UserService(PgUserGateway gateway) {
+    private final AsyncGateway<UserBO, Long> asyncGateway;
+
+    private final ReactiveGateway<UserBO, Long> reactiveGateway;
+
+    public UserService(UserGateway gateway,
+                       AsyncGateway<UserBO, Long> asyncGateway,
+                       ReactiveGateway<UserBO, Long> reactiveGateway) {
         this.gateway = gateway;
+        this.asyncGateway = asyncGateway;
+        this.reactiveGateway = reactiveGateway;
     }
 
     public UserResponseDTO findById(Long id) {
@@ -26,19 +49,62 @@ public class UserService {
         return findUserById.execute(id);
     }
 
+    public CompletableFuture<UserResponseDTO> findByIdAsync(Long id) {
+        FindUserByIdAsync findUserByIdAsync = new FindUserByIdAsync(asyncGateway);
+
+        return findUserByIdAsync.execute(id);
+    }
+
+    public CompletableFuture<UserResponseDTO> findByIdReactive(Long id) {
+        FindUserByIdReactive findUserByIdReactive = new FindUserByIdReactive(reactiveGateway);
+
+        return findUserByIdReactive.execute(id);
+    }
+
+    public List<UserResponseDTO> findAll(UserBatchGetRequestDTO dto) {
+        FindUsers findUsers = new FindUsers(gateway);
+
+        return findUsers.execute(dto);
+    }
+
+    public CompletableFuture<List<UserResponseDTO>> findByIdsAsync(List<Long> ids) {
+        FindUsersByIdsAsync findUsersByIdsAsync = new FindUsersByIdsAsync(asyncGateway);
+
+        return findUsersByIdsAsync.execute(ids);
+    }
+
     public UserResponseDTO findByEmail(String email) {
         FindUserByEmail findUserByEmail = new FindUserByEmail(gateway);
 
         return findUserByEmail.execute(email);
     }
 
-    public List<UserResponseDTO> findAll() {
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserResponseDTO> consumer) {
+        ListUser listUser = new ListUser(gateway);
+
+        listUser.execute(consumer);
+    }
+
+    public Flow.Publisher<UserResponseDTO> publishAll() {
+        ListUsersReactive listUsersReactive = new ListUsersReactive(reactiveGateway);
+
+        return listUsersReactive.execute();
+    }
+
+    public PaginatedResponseDTO<UserResponseDTO> findAll(Pagination pagination, boolean count) {
+        ListUser listUser = new ListUser(gateway);
+
+        return listUser.execute(pagination, count);
+    }
+
+    public PaginatedResponseDTO<UserResponseDTO> findAll(UserFilterDTO filter, Pagination pagination) {
         ListUser listUser = new ListUser(gateway);
 
-        return listUser.execute();
+        return listUser.execute(filter, pagination);
     }
 
-    public PaginatedResponseDTO<UserResponseDTO> findAll(Pagination pagination) {
+    public PaginatedResponseDTO<UserResponseDTO> scroll(CursorPaginationRequest pagination) {
         ListUser listUser = new ListUser(gateway);
 
         return listUser.execute(pagination);
@@ -62,6 +128,36 @@ public class UserService {
         return updateUser.execute(id, dto);
     }
 
+    public void patchById(Long id, UserRequestDTO dto, Set<String> fields) {
+        PatchUser patchUser = new PatchUser(gateway);
+
+        patchUser.execute(id, dto, fields);
+    }
+
+    public ImportReportDTO importAll(Iterator<UserRequestDTO> rows) {
+        ImportUsers importUsers = new ImportUsers(gateway);
+
+        return importUsers.execute(rows);
+    }
+
+    public void validateExport(UserExportFilterDTO filter, ExportFormat format) {
+        ExportUsers exportUsers = new ExportUsers(gateway);
+
+        exportUsers.validate(filter, format);
+    }
+
+    public long export(UserExportFilterDTO filter, ExportFormat format, OutputStream out) {
+        ExportUsers exportUsers = new ExportUsers(gateway);
+
+        return exportUsers.execute(filter, format, out);
+    }
+
+    public void recordLogin(Long id) {
+        RecordUserLogin recordUserLogin = new RecordUserLogin(gateway);
+
+        recordUserLogin.execute(id);
+    }
+
     public void deleteById(Long id) {
         DeleteUser deleteUser = new DeleteUser(gateway);
 
@@ -0,0 +1,87 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.support;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskScopeTest {
+
+    @Test
+    void runsCallsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (TaskScope scope = TaskScope.withDeadline(Duration.ofSeconds(10))) {
+            Supplier<String> first = scope.fork(() -> awaitOther(bothStarted, "first"));
+            Supplier<String> second = scope.fork(() -> awaitOther(bothStarted, "second"));
+
+            scope.join();
+
+            assertEquals("first", first.get());
+            assertEquals("second", second.get());
+        }
+    }
+
+    @Test
+    void cancelsTheOtherCallsOnTheFirstFailure() {
+        IllegalStateException failure = new IllegalStateException("taken");
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (TaskScope scope = TaskScope.withDeadline(Duration.ofSeconds(10))) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+            scope.fork(() -> {
+                throw failure;
+            });
+
+            assertSame(failure, assertThrows(IllegalStateException.class, scope::join));
+        }
+
+        assertEquals(0, interrupted.getCount());
+    }
+
+    @Test
+    void failsWhenTheDeadlinePasses() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (TaskScope scope = TaskScope.withDeadline(Duration.ofMillis(50))) {
+            scope.fork(() -> sleepUntilInterrupted(interrupted));
+
+            LocalizedException e = assertThrows(LocalizedException.class, scope::join);
+
+            assertEquals(SimpleErrorCode.TIMEOUT, e.getError());
+        }
+
+        assertEquals(0, interrupted.getCount());
+    }
+
+    private static String awaitOther(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+
+        try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Calls did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return value;
+    }
+
+    private static void sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofMinutes(1));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.pfeffer.springcleanarchtemplate.domain.usecase.user;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the p50/p99 latency of a {@link PatchUser} changing both the
+ * username and the email, whose two uniqueness checks now run concurrently,
+ * against the same checks run one after the other as before.
+ * <p>
+ * No database is needed: the gateway is a stub that sleeps for a simulated
+ * round trip (2ms by default, with up to 50% jitter) on every call. Run it
+ * after {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -DroundTripMicros=2000 \
+ *         com.pfeffer.springcleanarchtemplate.domain.usecase.user.PatchUserLatencyBenchmark
+ * </pre>
+ */
+public class PatchUserLatencyBenchmark {
+
+    private static final int WARMUP = 500;
+
+    private static final int ITERATIONS = 2_000;
+
+    private static final Set<String> FIELDS = Set.of("username", "email");
+
+    public static void main(String[] args) {
+        Duration roundTrip = Duration.ofNanos(Long.getLong("roundTripMicros", 2_000) * 1_000);
+        UserGateway gateway = slowGateway(roundTrip);
+        PatchUser patchUser = new PatchUser(gateway);
+
+        UserRequestDTO dto = new UserRequestDTO();
+        dto.setUsername("jdoe");
+        dto.setEmail("jdoe@example.com");
+
+        Runnable sequential = () -> {
+            gateway.findByUsername(dto.getUsername());
+            gateway.findByEmail(dto.getEmail());
+            gateway.updateById(1L, Map.of("username", dto.getUsername(), "email", dto.getEmail()));
+        };
+        Runnable concurrent = () -> patchUser.execute(1L, dto, FIELDS);
+
+        System.out.printf("%-24s %10s %10s%n", "checks", "p50 ms", "p99 ms");
+
+        report("sequential", measure(sequential));
+        report("concurrent (TaskScope)", measure(concurrent));
+    }
+
+    private static UserGateway slowGateway(Duration roundTrip) {
+        return (UserGateway) Proxy.newProxyInstance(UserGateway.class.getClassLoader(), new Class<?>[]{UserGateway.class},
+                (proxy, method, arguments) -> {
+                    long jitter = ThreadLocalRandom.current().nextLong(roundTrip.toNanos() / 2 + 1);
+
+                    Thread.sleep(roundTrip.plusNanos(jitter));
+
+                    return switch (method.getName()) {
+                        case "findByUsername", "findByEmail" -> Optional.empty();
+                        case "updateById" -> true;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private static long[] measure(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        long[] latencies = new long[ITERATIONS];
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+
+        return latencies;
+    }
+
+    private static void report(String checks, long[] sorted) {
+        System.out.printf("%-24s %10.2f %10.2f%n", checks,
+                sorted[sorted.length / 2] / 1_000_000.0, sorted[(int) (sorted.length * 0.99)] / 1_000_000.0);
+    }
+
+}
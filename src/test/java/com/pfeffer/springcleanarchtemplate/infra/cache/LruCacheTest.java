@@ -0,0 +1,49 @@
+package com.pfeffer.springcleanarchtemplate.infra.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LruCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryOnceFull() {
+        LruCache<Integer, String> cache = new LruCache<>(3, Duration.ofHours(1));
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.put(3, "three");
+
+        // Reading 1 makes 2 the least recently used entry
+        assertEquals("one", cache.get(1));
+
+        cache.put(4, "four");
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+        assertEquals("one", cache.get(1));
+        assertEquals("three", cache.get(3));
+        assertEquals("four", cache.get(4));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void expiresEntriesAfterTheirTimeToLive() throws Exception {
+        LruCache<Integer, String> cache = new LruCache<>(10, Duration.ofMillis(50));
+
+        cache.put(1, "one");
+        assertEquals("one", cache.get(1));
+
+        Thread.sleep(100);
+
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.evictionCount());
+    }
+
+}
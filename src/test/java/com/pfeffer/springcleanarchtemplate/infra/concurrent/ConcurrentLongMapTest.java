@@ -0,0 +1,88 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcurrentLongMapTest {
+
+    @Test
+    void behavesLikeAHashMapThroughResizesAndRemovals() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4, 2);
+        Map<Long, String> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // A narrow key range makes puts, overwrites and removals of the same keys collide
+            long key = random.nextLong(20_000) - 10_000;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = Integer.toString(i);
+
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        for (long key = -10_000; key < 10_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+
+        int[] visited = {0};
+
+        map.forEachValue(value -> visited[0]++);
+
+        assertEquals(expected.size(), visited[0]);
+    }
+
+    @Test
+    void keepsEveryKeyWrittenConcurrently() throws Exception {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(16, 4);
+        int writers = 8;
+        int keysPerWriter = 50_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            Future<?>[] futures = new Future<?>[writers];
+
+            for (int writer = 0; writer < writers; writer++) {
+                long first = (long) writer * keysPerWriter;
+
+                futures[writer] = executor.submit(() -> {
+                    for (long key = first; key < first + keysPerWriter; key++) {
+                        map.put(key, key);
+                    }
+
+                    for (long key = first; key < first + keysPerWriter; key += 2) {
+                        map.remove(key);
+                    }
+                });
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(writers * keysPerWriter / 2, map.size());
+
+        for (long key = 0; key < (long) writers * keysPerWriter; key++) {
+            if (key % 2 == 0) {
+                assertNull(map.get(key));
+            } else {
+                assertEquals(key, map.get(key));
+            }
+        }
+    }
+
+}
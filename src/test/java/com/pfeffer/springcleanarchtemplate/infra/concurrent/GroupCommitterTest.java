@@ -0,0 +1,152 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupCommitterTest {
+
+    @Test
+    void groupsConcurrentItemsAndIsolatesAFailingOne() throws Exception {
+        ConcurrentLinkedQueue<List<Integer>> batches = new ConcurrentLinkedQueue<>();
+
+        try (GroupCommitter<Integer, String> committer = new GroupCommitter<>(items -> {
+            batches.add(List.copyOf(items));
+
+            if (items.contains(13)) {
+                throw new IllegalStateException("Item 13 cannot be committed");
+            }
+
+            return items.stream().map(String::valueOf).toList();
+        }, 25, Duration.ofMillis(50), Duration.ofSeconds(10), "group-commit-test");
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                int item = i;
+                results.add(executor.submit(() -> committer.submit(item)));
+            }
+
+            for (int i = 0; i < 100; i++) {
+                if (i == 13) {
+                    Future<String> failed = results.get(i);
+                    ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                } else {
+                    assertEquals(String.valueOf(i), results.get(i).get(10, TimeUnit.SECONDS));
+                }
+            }
+
+            assertTrue(committer.batchCount() < 100, "Items were not grouped");
+            assertEquals(100, committer.itemCount());
+        }
+
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 25));
+    }
+
+    @Test
+    void rejectsItemsOnceClosed() {
+        GroupCommitter<Integer, Integer> committer = new GroupCommitter<>(
+                items -> items, 10, Duration.ZERO, Duration.ofSeconds(10), "group-commit-test");
+
+        assertEquals(1, committer.submit(1));
+
+        committer.close();
+
+        assertThrows(RejectedExecutionException.class, () -> committer.submit(2));
+    }
+
+    @Test
+    void timesOutAndDropsAQueuedItem() throws Exception {
+        ConcurrentLinkedQueue<Integer> committed = new ConcurrentLinkedQueue<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (GroupCommitter<Integer, Integer> committer = new GroupCommitter<>(items -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            committed.addAll(items);
+
+            return items;
+        }, 1, Duration.ZERO, Duration.ofMillis(200), "group-commit-test");
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> committer.submit(1));
+
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            LocalizedException e = assertThrows(LocalizedException.class, () -> committer.submit(2));
+
+            assertEquals(SimpleErrorCode.TIMEOUT, e.getError());
+
+            release.countDown();
+        }
+
+        assertEquals(List.of(1), List.copyOf(committed));
+    }
+
+    @Test
+    void failsQueuedItemsWhenTheCommitterStops() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (GroupCommitter<Integer, Integer> committer = new GroupCommitter<>(items -> {
+            started.countDown();
+
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            throw new IllegalStateException("Interrupted");
+        }, 1, Duration.ZERO, Duration.ofSeconds(10), "group-commit-stop-test");
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> first = executor.submit(() -> committer.submit(1));
+
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            Future<Integer> queued = executor.submit(() -> committer.submit(2));
+
+            while (committer.pendingCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("group-commit-stop-test"))
+                    .forEach(Thread::interrupt);
+
+            ExecutionException failed = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+            ExecutionException dropped = assertThrows(ExecutionException.class, () -> queued.get(10, TimeUnit.SECONDS));
+
+            assertInstanceOf(IllegalStateException.class, failed.getCause());
+            assertEquals(SimpleErrorCode.UNAVAILABLE,
+                    assertInstanceOf(LocalizedException.class, dropped.getCause()).getError());
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the throughput of per-call lookups against lookups merged by a
+ * {@link MicroBatchLoader}, at increasing concurrency levels.
+ * <p>
+ * The database is simulated by a pool of 10 connections (the HikariCP
+ * default) and a query cost of a fixed round trip plus a small per-row cost,
+ * so the numbers show the shape of the trade-off rather than the behavior of
+ * a real server. Run it after {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes \
+ *         com.pfeffer.springcleanarchtemplate.infra.concurrent.MicroBatchLoaderBenchmark
+ * </pre>
+ */
+public class MicroBatchLoaderBenchmark {
+
+    private static final int CONNECTIONS = 10;
+
+    private static final long ROUND_TRIP_MICROS = 500;
+
+    private static final long PER_ROW_MICROS = 5;
+
+    private static final Duration RUN = Duration.ofSeconds(2);
+
+    private static final Semaphore POOL = new Semaphore(CONNECTIONS);
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%12s %16s %16s %12s%n", "concurrency", "per-call ops/s", "batched ops/s", "avg batch");
+
+        for (int concurrency : new int[]{1, 16, 64, 256, 1024}) {
+            double perCall = run(concurrency, key -> query(Set.of(key)).get(key));
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                MicroBatchLoader<Integer, String> loader = new MicroBatchLoader<>(
+                        MicroBatchLoaderBenchmark::query, Duration.ofMillis(1), 100, executor);
+
+                double batched = run(concurrency, loader::load);
+                double avgBatch = (double) loader.keyCount() / Math.max(1, loader.batchCount());
+
+                System.out.printf("%12d %16.0f %16.0f %12.1f%n", concurrency, perCall, batched, avgBatch);
+            }
+        }
+    }
+
+    private static double run(int concurrency, IntFunction<String> lookup) throws InterruptedException {
+        LongAdder ops = new LongAdder();
+        long deadline = System.nanoTime() + RUN.toNanos();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                callers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        lookup.apply(ThreadLocalRandom.current().nextInt(1_000_000));
+                        ops.increment();
+                    }
+                });
+            }
+        }
+
+        return ops.sum() / (RUN.toNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Map<Integer, String> query(Set<Integer> keys) {
+        POOL.acquireUninterruptibly();
+
+        try {
+            sleepMicros(ROUND_TRIP_MICROS + PER_ROW_MICROS * keys.size());
+        } finally {
+            POOL.release();
+        }
+
+        Map<Integer, String> rows = new HashMap<>();
+        keys.forEach(key -> rows.put(key, "user" + key));
+
+        return rows;
+    }
+
+    private static void sleepMicros(long micros) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicroBatchLoaderTest {
+
+    @Test
+    void mergesConcurrentLoadsAndResolvesEachCaller() throws Exception {
+        ConcurrentLinkedQueue<Set<Integer>> batches = new ConcurrentLinkedQueue<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            MicroBatchLoader<Integer, String> loader = new MicroBatchLoader<>(keys -> {
+                batches.add(Set.copyOf(keys));
+                return keys.stream()
+                        .filter(key -> key % 10 != 0)
+                        .collect(Collectors.toMap(Function.identity(), String::valueOf));
+            }, Duration.ofMillis(50), 25, executor);
+
+            List<Future<String>> results = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                int key = i;
+                results.add(executor.submit(() -> loader.load(key)));
+            }
+
+            for (int i = 0; i < 100; i++) {
+                String result = results.get(i).get(10, TimeUnit.SECONDS);
+
+                if (i % 10 == 0) {
+                    assertNull(result);
+                } else {
+                    assertEquals(String.valueOf(i), result);
+                }
+            }
+        }
+
+        assertTrue(batches.size() < 100, "Loads were not batched");
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 25));
+        assertEquals(100, batches.stream().mapToInt(Set::size).sum());
+    }
+
+    @Test
+    void runsAPartialBatchOnceTheWindowElapses() {
+        MicroBatchLoader<Integer, Integer> loader = new MicroBatchLoader<>(
+                keys -> Map.of(1, 1), Duration.ofMillis(5), 100, Runnable::run);
+
+        assertEquals(1, loader.load(1));
+        assertEquals(1, loader.batchCount());
+    }
+
+}
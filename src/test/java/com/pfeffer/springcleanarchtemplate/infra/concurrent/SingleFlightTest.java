@@ -0,0 +1,81 @@
+package com.pfeffer.springcleanarchtemplate.infra.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    @Test
+    void issuesOneLoadPerKeyPerBurst() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                String key = i % 2 == 0 ? "even" : "odd";
+
+                results.add(executor.submit(() -> flight.execute(key, () -> {
+                    loads.incrementAndGet();
+                    awaitCoalesced(flight, CALLERS - 2);
+                    return key.toUpperCase();
+                })));
+            }
+
+            for (int i = 0; i < CALLERS; i++) {
+                assertEquals(i % 2 == 0 ? "EVEN" : "ODD", results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(2, loads.get());
+        assertEquals(2, flight.issuedCount());
+        assertEquals(CALLERS - 2, flight.coalescedCount());
+    }
+
+    @Test
+    void releasesTheKeyOnceTheLoadCompletes() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("key", loads::incrementAndGet);
+        flight.execute("key", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    @Test
+    void propagatesTheLoaderException() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+        assertThrows(IllegalStateException.class, () -> flight.execute("key", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, flight.execute("key", () -> 1));
+    }
+
+    private static void awaitCoalesced(SingleFlight<?, ?> flight, long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (flight.coalescedCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callers were not coalesced in time");
+            Thread.onSpinWait();
+        }
+    }
+
+}
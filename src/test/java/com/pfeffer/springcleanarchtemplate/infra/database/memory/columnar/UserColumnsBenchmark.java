@@ -0,0 +1,161 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PaginationRequest;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Measures filtered, sorted page queries on {@link UserColumns} at 1M and
+ * 10M users, against the same queries on the row-oriented
+ * {@link InMemoryUserGateway}.
+ * <p>
+ * Each query is run a few times to warm up, then timed one at a time; the
+ * median is reported. The row-oriented gateway is only measured with
+ * {@code --compare}, since holding both copies of 10M users needs more than
+ * 12 GB of heap; the columns alone need roughly 4 GB. Run it after
+ * {@code mvn test-compile} with:
+ * <pre>
+ *     java -Xmx8g -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar.UserColumnsBenchmark --compare 1000000 10000000
+ * </pre>
+ */
+public class UserColumnsBenchmark {
+
+    private static final int WARMUPS = 3;
+
+    private static final int RUNS = 7;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    public static void main(String[] args) {
+        boolean compare = Arrays.asList(args).contains("--compare");
+        int[] sizes = Arrays.stream(args)
+                .filter(arg -> !arg.startsWith("--"))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        System.out.printf("%10s %-44s %14s %14s%n", "users", "query", "columns ms", "rows ms");
+
+        for (int size : sizes.length == 0 ? new int[]{1_000_000} : sizes) {
+            run(size, compare);
+            System.gc();
+        }
+    }
+
+    private static void run(int size, boolean compare) {
+        UserColumns columns = new UserColumns(size);
+        InMemoryUserGateway gateway = null;
+
+        if (compare) {
+            GatewayProperties properties = new GatewayProperties();
+
+            properties.getMemory().setExpectedSize(size);
+            gateway = new InMemoryUserGateway(properties);
+        }
+
+        for (int first = 0; first < size; first += 10_000) {
+            List<UserBO> chunk = new ArrayList<>(10_000);
+
+            for (int i = first; i < Math.min(size, first + 10_000); i++) {
+                chunk.add(user(i));
+            }
+
+            columns.upsertAll(chunk);
+
+            if (gateway != null) {
+                // Assigns the same identifiers, from 1
+                gateway.insertAllIfAbsent(chunk.stream().map(UserColumnsBenchmark::withoutId).toList());
+            }
+        }
+
+        UserFilterDTO recent = new UserFilterDTO();
+
+        recent.setStatus(UserStatus.ACTIVE);
+        recent.setCreatedFrom(EPOCH.plusSeconds(size / 2));
+
+        UserFilterDTO loggedIn = new UserFilterDTO();
+
+        loggedIn.setLastLoginFrom(EPOCH.plusDays(10));
+        loggedIn.setLastLoginTo(EPOCH.plusDays(20));
+
+        UserFilterDTO disabled = new UserFilterDTO();
+
+        disabled.setStatus(UserStatus.DISABLED);
+
+        measure(size, "active, recent, lastLoginAt DESC, page 0", columns, gateway, recent,
+                PaginationRequest.of(0, 20, new String[]{"lastLoginAt DESC"}));
+        measure(size, "login range, lastName + createdAt, page 50", columns, gateway, loggedIn,
+                PaginationRequest.of(50, 20, new String[]{"lastName", "createdAt DESC"}));
+        measure(size, "disabled, email, page 0", columns, gateway, disabled,
+                PaginationRequest.of(0, 20, new String[]{"email"}));
+        measure(size, "all, id, page 0", columns, gateway, new UserFilterDTO(),
+                PaginationRequest.of(0, 20, new String[]{"id"}));
+    }
+
+    private static void measure(int size, String name, UserColumns columns, InMemoryUserGateway gateway,
+                                UserFilterDTO filter, Pagination pagination) {
+        double columnar = median(() -> columns.findAll(filter, pagination).getTotalElements());
+        double rows = gateway == null ? Double.NaN : median(() -> gateway.findAll(filter, pagination).getTotalElements());
+
+        System.out.printf("%10d %-44s %14.1f %14.1f%n", size, name, columnar, rows);
+    }
+
+    private static double median(Supplier<Long> query) {
+        for (int i = 0; i < WARMUPS; i++) {
+            query.get();
+        }
+
+        long[] times = new long[RUNS];
+
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+
+            query.get();
+
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+
+        return times[RUNS / 2] / 1e6;
+    }
+
+    private static UserBO user(int i) {
+        return new UserBO.Builder()
+                .id(i + 1L)
+                .firstName("First" + (i % 1_000))
+                .lastName("Last" + (i % 10_000))
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .status(STATUSES[i % 7 == 0 ? 2 : i % 3 == 0 ? 1 : 0])
+                .createdAt(new CreatedAtVO(EPOCH.plusSeconds(i)))
+                .lastLoginAt(i % 4 == 0 ? null : EPOCH.plusMinutes((i * 7919L) % 43_200))
+                .build();
+    }
+
+    private static UserBO withoutId(UserBO user) {
+        return new UserBO.Builder()
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .status(user.getStatus())
+                .createdAt(user.getCreatedAt())
+                .lastLoginAt(user.getLastLoginAt())
+                .build();
+    }
+
+}
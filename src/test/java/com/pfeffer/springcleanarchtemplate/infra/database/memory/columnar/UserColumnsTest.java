@@ -0,0 +1,153 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.columnar;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserFilterDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PageContent;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.Pagination;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PaginationRequest;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserColumnsTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String[][] SORTS = {
+            {},
+            {"lastName"},
+            {"status", "createdAt DESC"},
+            {"lastLoginAt DESC", "firstName"},
+            {"email DESC"}
+    };
+
+    @Test
+    void answersFilteredPagesLikeTheInMemoryGateway() {
+        Random random = new Random(42);
+        InMemoryUserGateway gateway = new InMemoryUserGateway(new GatewayProperties());
+        UserColumns columns = new UserColumns(16);
+
+        List<UserBO> users = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            users.add(user(random, i));
+        }
+
+        gateway.insertAllIfAbsent(users);
+        assertTrue(columns.upsertAll(gateway.findAll("id")));
+
+        // Changes applied to both, as the snapshot refresh would
+        for (int i = 0; i < 200; i++) {
+            long id = random.nextInt(2_000) + 1;
+
+            gateway.updateById(id, Map.of("lastLoginAt", EPOCH.plusMinutes(random.nextInt(100_000))));
+            columns.upsertAll(List.of(gateway.findById(id).orElseThrow()));
+        }
+
+        for (long id = 1; id <= 100; id++) {
+            gateway.softDeleteById(id);
+            columns.upsertAll(List.of(gateway.findById(id).orElseThrow()));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            UserFilterDTO filter = filter(random);
+            String[] sort = SORTS[random.nextInt(SORTS.length)];
+            Pagination pagination = random.nextInt(10) == 0
+                    ? Pagination.unpaged(sort)
+                    : PaginationRequest.of(random.nextInt(5), 1 + random.nextInt(50), sort);
+
+            PageContent<UserBO> expected = gateway.findAll(filter, pagination);
+            PageContent<UserBO> actual = columns.findAll(filter, pagination);
+
+            assertEquals(expected.getTotalElements(), actual.getTotalElements());
+            assertEquals(ids(expected), ids(actual));
+        }
+
+        assertEquals(gateway.findById(500L).orElseThrow().getLastLoginAt(),
+                columns.findAll(new UserFilterDTO(), Pagination.unpaged(new String[]{"id"})).getContent()
+                        .get(399).getLastLoginAt());
+    }
+
+    @Test
+    void appendsInIdentifierOrderAndRemoves() {
+        UserColumns columns = new UserColumns(16);
+
+        assertTrue(columns.upsertAll(List.of(user(1), user(3))));
+        assertFalse(columns.upsertAll(List.of(user(2))));
+        assertEquals(2, columns.size());
+        assertEquals(3, columns.maxId());
+
+        columns.remove(1);
+
+        UserFilterDTO active = new UserFilterDTO();
+
+        active.setStatus(UserStatus.ACTIVE);
+
+        assertEquals(List.of(3L), ids(columns.findAll(active, Pagination.unpaged())));
+    }
+
+    private static UserFilterDTO filter(Random random) {
+        UserFilterDTO filter = new UserFilterDTO();
+
+        if (random.nextBoolean()) {
+            filter.setStatus(UserStatus.values()[random.nextInt(UserStatus.values().length)]);
+        }
+
+        if (random.nextBoolean()) {
+            filter.setCreatedFrom(EPOCH.plusHours(random.nextInt(2_000)));
+        }
+
+        if (random.nextBoolean()) {
+            filter.setCreatedTo(EPOCH.plusHours(random.nextInt(2_000)));
+        }
+
+        if (random.nextInt(4) == 0) {
+            filter.setLastLoginFrom(EPOCH.plusMinutes(random.nextInt(100_000)));
+        }
+
+        if (random.nextInt(4) == 0) {
+            filter.setLastLoginTo(EPOCH.plusMinutes(random.nextInt(100_000)));
+        }
+
+        return filter;
+    }
+
+    private static UserBO user(Random random, int i) {
+        return new UserBO.Builder()
+                .firstName("First" + random.nextInt(20))
+                .lastName(random.nextInt(10) == 0 ? null : "Last" + random.nextInt(50))
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .status(UserStatus.values()[random.nextInt(UserStatus.values().length)])
+                .createdAt(new CreatedAtVO(EPOCH.plusSeconds(random.nextInt(7_200_000)).plusNanos(1_000L * i)))
+                .lastLoginAt(random.nextBoolean() ? null : EPOCH.plusMinutes(random.nextInt(100_000)))
+                .build();
+    }
+
+    private static UserBO user(long id) {
+        return new UserBO.Builder()
+                .id(id)
+                .firstName("First")
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private static List<Long> ids(PageContent<UserBO> page) {
+        return page.getContent().stream().map(UserBO::getId).toList();
+    }
+
+}
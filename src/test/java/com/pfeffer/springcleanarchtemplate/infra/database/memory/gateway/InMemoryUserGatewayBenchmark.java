@@ -0,0 +1,151 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.PaginationRequest;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures the {@link InMemoryUserGateway} at 1M and 10M users: bulk inserts,
+ * concurrent reads by identifier and username, concurrent updates, and
+ * sorted page scans.
+ * <p>
+ * Read and update throughput is measured with one thread per available
+ * processor over random users; page scans are timed one at a time, as each
+ * one already visits every user. 10M users need roughly 6 GB of heap. Run it
+ * after {@code mvn test-compile} with:
+ * <pre>
+ *     java -Xmx8g -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGatewayBenchmark 1000000 10000000
+ * </pre>
+ */
+public class InMemoryUserGatewayBenchmark {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final int OPERATIONS_PER_THREAD = 1_000_000;
+
+    private static final int SCANS = 5;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0
+                ? new int[]{1_000_000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        System.out.printf("%10s %14s %14s %14s %14s %14s%n", "users", "insert ops/s", "get ops/s",
+                "username ops/s", "update ops/s", "page p50 ms");
+
+        for (int size : sizes) {
+            run(size);
+            System.gc();
+        }
+    }
+
+    private static void run(int size) throws Exception {
+        GatewayProperties properties = new GatewayProperties();
+
+        properties.getMemory().setExpectedSize(size);
+
+        InMemoryUserGateway gateway = new InMemoryUserGateway(properties);
+
+        long start = System.nanoTime();
+
+        for (int first = 0; first < size; first += 10_000) {
+            List<UserBO> chunk = new ArrayList<>(10_000);
+
+            for (int i = first; i < Math.min(size, first + 10_000); i++) {
+                chunk.add(user(i));
+            }
+
+            gateway.insertAllIfAbsent(chunk);
+        }
+
+        double insert = size / seconds(start);
+
+        double get = concurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                gateway.findById(random.nextLong(size) + 1);
+            }
+        });
+
+        double username = concurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                gateway.findByUsername("user" + random.nextInt(size));
+            }
+        });
+
+        double update = concurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < OPERATIONS_PER_THREAD / 10; i++) {
+                gateway.updateById(random.nextLong(size) + 1, Map.of("lastLoginAt", LocalDateTime.now()));
+            }
+        }) / 10;
+
+        long[] scans = new long[SCANS];
+
+        for (int i = 0; i < SCANS; i++) {
+            long scanStart = System.nanoTime();
+
+            gateway.findAll(PaginationRequest.of(100, 20, new String[]{"lastName", "createdAt DESC"}));
+
+            scans[i] = System.nanoTime() - scanStart;
+        }
+
+        Arrays.sort(scans);
+
+        System.out.printf("%10d %14.0f %14.0f %14.0f %14.0f %14.1f%n", size, insert, get, username, update,
+                scans[SCANS / 2] / 1e6);
+    }
+
+    private static double concurrently(Runnable work) throws Exception {
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(work));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        return (double) THREADS * OPERATIONS_PER_THREAD / seconds(start);
+    }
+
+    private static UserBO user(int i) {
+        return new UserBO.Builder()
+                .firstName("First" + (i % 1_000))
+                .lastName("Last" + (i % 10_000))
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .createdAt(new CreatedAtVO(EPOCH.plusSeconds(i)))
+                .build();
+    }
+
+    private static double seconds(long start) {
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Compares the heap footprint and the lookup latency of the
+ * {@link InMemoryUserGateway} and the {@link MappedUserGateway}, and how long
+ * the latter takes to reopen its files.
+ * <p>
+ * Footprint is the heap still used after a full collection, plus the size of
+ * the mapped files. When {@code -Durl} is given, the latency of the query
+ * {@code PgUserGateway} issues for {@code findById} is measured too, over
+ * the users already in {@code sc_user}. Run it after {@code mvn test-compile}
+ * with:
+ * <pre>
+ *     java -Xmx8g -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         [-Durl=jdbc:postgresql://localhost:5432/cleanarchtemplate -Duser=cleanarchtemplate -Dpassword=cleanarchtemplate] \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.MappedUserGatewayBenchmark 1000000
+ * </pre>
+ */
+public class MappedUserGatewayBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length == 0 ? 1_000_000 : Integer.parseInt(args[0]);
+
+        System.out.printf("%-10s %10s %12s %12s %10s %10s %10s %10s%n", "store", "users", "heap MB", "files MB",
+                "id p50 us", "id p99 us", "name p50", "name p99");
+
+        long baseline = usedHeap();
+
+        GatewayProperties properties = new GatewayProperties();
+
+        properties.getMemory().setExpectedSize(size);
+
+        InMemoryUserGateway heap = new InMemoryUserGateway(properties);
+
+        load(heap, size);
+        report("heap", size, usedHeap() - baseline, 0, heap);
+
+        heap = null;
+        baseline = usedHeap();
+
+        Path directory = Files.createTempDirectory("mapped-users");
+
+        properties.getMapped().setDirectory(directory);
+        properties.getMapped().setExpectedSize(size);
+
+        MappedUserGateway mapped = MappedUserGateway.open(properties);
+
+        load(mapped, size);
+        report("mapped", size, usedHeap() - baseline, filesSize(directory), mapped);
+
+        mapped.close();
+
+        long start = System.nanoTime();
+
+        mapped = MappedUserGateway.open(properties);
+
+        System.out.printf("%nmapped reopen with %d users: %.1f ms%n", mapped.count(), (System.nanoTime() - start) / 1e6);
+
+        mapped.close();
+        delete(directory);
+
+        String url = System.getProperty("url");
+
+        if (url != null) {
+            postgres(url);
+        }
+    }
+
+    private static void load(LocalUserGateway gateway, int size) {
+        for (int first = 0; first < size; first += 10_000) {
+            List<UserBO> chunk = new ArrayList<>(10_000);
+
+            for (int i = first; i < Math.min(size, first + 10_000); i++) {
+                chunk.add(new UserBO.Builder()
+                        .firstName("First" + (i % 1_000))
+                        .lastName("Last" + (i % 10_000))
+                        .username("user" + i)
+                        .email("user" + i + "@example.com")
+                        .status(UserStatus.ACTIVE)
+                        .createdAt(new CreatedAtVO(EPOCH.plusSeconds(i)))
+                        .build());
+            }
+
+            gateway.insertAllIfAbsent(chunk);
+        }
+    }
+
+    private static void report(String store, int size, long heap, long files, LocalUserGateway gateway) {
+        long[] byId = latencies(id -> gateway.findById(id % size + 1));
+        long[] byUsername = latencies(id -> gateway.findByUsername("user" + id % size));
+
+        System.out.printf("%-10s %10d %12.1f %12.1f %10.2f %10.2f %10.2f %10.2f%n", store, size, heap / 1e6, files / 1e6,
+                byId[LOOKUPS / 2] / 1e3, byId[LOOKUPS / 100 * 99] / 1e3,
+                byUsername[LOOKUPS / 2] / 1e3, byUsername[LOOKUPS / 100 * 99] / 1e3);
+    }
+
+    private static void postgres(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, System.getProperty("user", "cleanarchtemplate"),
+                System.getProperty("password", "cleanarchtemplate"));
+             PreparedStatement count = connection.prepareStatement("SELECT max(id) FROM sc_user");
+             PreparedStatement select = connection.prepareStatement("SELECT * FROM sc_user WHERE id = ?")) {
+            long maxId;
+
+            try (ResultSet resultSet = count.executeQuery()) {
+                resultSet.next();
+                maxId = Math.max(1, resultSet.getLong(1));
+            }
+
+            long[] byId = latencies(id -> {
+                try {
+                    select.setLong(1, id % maxId + 1);
+
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        resultSet.next();
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, LOOKUPS / 100);
+
+            System.out.printf("postgres findById over %d users: p50 %.2f us, p99 %.2f us%n", maxId,
+                    byId[byId.length / 2] / 1e3, byId[byId.length / 100 * 99] / 1e3);
+        }
+    }
+
+    private static long[] latencies(LongConsumer lookup) {
+        return latencies(lookup, LOOKUPS);
+    }
+
+    private static long[] latencies(LongConsumer lookup, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            long id = random.nextLong(Long.MAX_VALUE);
+            long start = System.nanoTime();
+
+            lookup.accept(id);
+
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+
+        return latencies;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long filesSize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+}
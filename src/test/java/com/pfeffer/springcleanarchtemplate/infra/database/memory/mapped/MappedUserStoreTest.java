@@ -0,0 +1,102 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.memory.mapped;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.entity.vo.CreatedAtVO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedUserStoreTest {
+
+    private static final int SEGMENT_SIZE = 4_096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void keepsUsersAndIndexesAcrossRestarts() {
+        try (MappedUserStore store = new MappedUserStore(directory, SEGMENT_SIZE, 16)) {
+            store.put(user(1, "alice"));
+            store.put(user(2, "bob"));
+            store.put(user(1, "alicia"));
+        }
+
+        try (MappedUserStore store = new MappedUserStore(directory, SEGMENT_SIZE, 16)) {
+            assertEquals(2, store.size());
+            assertEquals(2, store.maxId());
+            assertEquals("alicia", store.get(1).getUsername());
+            assertEquals(1L, store.getByEmail("alicia@example.com").getId());
+            assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000), store.get(2).getCreatedAt().value());
+            assertNull(store.getByUsername("alice"));
+        }
+    }
+
+    @Test
+    void rebuildsTheIndexesAfterACrash() {
+        MappedUserStore crashed = new MappedUserStore(directory, SEGMENT_SIZE, 16);
+
+        crashed.put(user(1, "alice"));
+        crashed.put(user(1, "alicia"));
+        crashed.put(user(2, "bob"));
+
+        // Not closed, as if the process had died
+        try (MappedUserStore store = new MappedUserStore(directory, SEGMENT_SIZE, 16)) {
+            assertEquals(2, store.size());
+            assertEquals(1L, store.getByUsername("alicia").getId());
+            assertNull(store.getByUsername("alice"));
+        }
+    }
+
+    @Test
+    void compactionReclaimsSegmentsOfReplacedUsers() throws IOException {
+        try (MappedUserStore store = new MappedUserStore(directory, SEGMENT_SIZE, 16)) {
+            for (int version = 0; version < 50; version++) {
+                for (long id = 1; id <= 10; id++) {
+                    store.put(user(id, "user" + id + "v" + version));
+                }
+            }
+
+            long before = segmentCount();
+
+            assertTrue(store.compact(0.5) > 0);
+            assertTrue(segmentCount() < before);
+
+            for (long id = 1; id <= 10; id++) {
+                assertEquals(id, store.getByUsername("user" + id + "v49").getId());
+            }
+        }
+
+        try (MappedUserStore store = new MappedUserStore(directory, SEGMENT_SIZE, 16)) {
+            assertEquals(10, store.size());
+            assertEquals("user7v49", store.get(7).getUsername());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    private static UserBO user(long id, String username) {
+        return new UserBO.Builder()
+                .id(id)
+                .firstName("First")
+                .username(username)
+                .email(username + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .createdAt(new CreatedAtVO(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000)))
+                .build();
+    }
+
+}
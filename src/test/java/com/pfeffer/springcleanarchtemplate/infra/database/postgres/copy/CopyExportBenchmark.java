@@ -0,0 +1,131 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.copy;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the throughput of the {@code COPY ... TO STDOUT} statements used
+ * by the user export, in rows/s and MB/s of uncompressed output, for a
+ * 5M-row table shaped like {@code sc_user}.
+ * <p>
+ * It needs a running PostgreSQL server and works on a temporary table, so no
+ * application data is touched. The output is discarded after being counted,
+ * so the numbers show the server and driver side of an export without the
+ * network to the HTTP client. Run it after {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -Durl=jdbc:postgresql://localhost:5432/cleanarchtemplate -Duser=cleanarchtemplate -Dpassword=cleanarchtemplate \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.postgres.copy.CopyExportBenchmark
+ * </pre>
+ */
+public class CopyExportBenchmark {
+
+    private static final int ROWS = 5_000_000;
+
+    private static final String CSV = """
+            COPY (SELECT id, first_name AS "firstName", last_name AS "lastName", username, email, status,
+                         to_char(created_at, 'YYYY-MM-DD"T"HH24:MI:SS.US') AS "createdAt"
+                  FROM bench_user) TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    private static final String NDJSON = """
+            COPY (SELECT json_build_object('id', id::text, 'firstName', first_name, 'lastName', last_name,
+                                           'username', username, 'email', email, 'status', status,
+                                           'createdAt', created_at)::text
+                  FROM bench_user) TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')
+            """;
+
+    public static void main(String[] args) throws SQLException, IOException {
+        String url = System.getProperty("url", "jdbc:postgresql://localhost:5432/cleanarchtemplate");
+        String user = System.getProperty("user", "cleanarchtemplate");
+        String password = System.getProperty("password", "cleanarchtemplate");
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TEMPORARY TABLE bench_user AS
+                        SELECT g::bigint AS id, 'First ' || g AS first_name, 'Last ' || g AS last_name,
+                               'user' || g AS username, 'user' || g || '@example.com' AS email,
+                               'ACTIVE'::varchar AS status, now()::timestamp - g * interval '1 second' AS created_at
+                        FROM generate_series(1, %d) g
+                        """.formatted(ROWS));
+                statement.execute("ANALYZE bench_user");
+            }
+
+            System.out.printf("%-14s %10s %12s %10s %12s%n", "format", "seconds", "rows/s", "MB/s", "gzip MB");
+
+            run(connection, "csv", CSV, false);
+            run(connection, "ndjson", NDJSON, false);
+            run(connection, "csv+gzip", CSV, true);
+            run(connection, "ndjson+gzip", NDJSON, true);
+        }
+    }
+
+    private static void run(Connection connection, String name, String sql, boolean gzip) throws SQLException, IOException {
+        CountingOutputStream raw = new CountingOutputStream(OutputStream.nullOutputStream());
+        CountingOutputStream compressed = new CountingOutputStream(OutputStream.nullOutputStream());
+
+        long start = System.nanoTime();
+        long rows;
+
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed, 64 * 1024)) {
+                rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, new CountingOutputStream(out, raw));
+            }
+        } else {
+            rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, raw);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%-14s %10.2f %12.0f %10.1f %12s%n", name, seconds, rows / seconds,
+                raw.bytes / 1e6 / seconds, gzip ? String.format("%.1f", compressed.bytes / 1e6) : "-");
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream out;
+
+        private final CountingOutputStream counter;
+
+        private long bytes;
+
+        private CountingOutputStream(OutputStream out) {
+            this(out, null);
+        }
+
+        private CountingOutputStream(OutputStream out, CountingOutputStream counter) {
+            this.out = out;
+            this.counter = counter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            count(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count(len);
+            out.write(b, off, len);
+        }
+
+        private void count(int length) {
+            if (counter != null) {
+                counter.bytes += length;
+            } else {
+                bytes += length;
+            }
+        }
+
+    }
+
+}
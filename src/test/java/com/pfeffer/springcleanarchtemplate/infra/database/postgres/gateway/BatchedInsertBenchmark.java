@@ -0,0 +1,154 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Compares the insert rate of the statements Hibernate issues for
+ * {@link PgGateway#saveAll(Iterable)} with an {@code IDENTITY} key (one
+ * {@code INSERT ... RETURNING id} round trip per row) against the ones it
+ * issues with the pooled {@code sc_user_id_seq} allocator (one
+ * {@code nextval} per 50 ids, then JDBC batches of
+ * {@code clean-arch.postgres.batch-size} rows rewritten into multi-row
+ * inserts by {@code reWriteBatchedInserts}).
+ * <p>
+ * It needs a running PostgreSQL server and works on temporary tables and
+ * sequences, so no application data is touched. The row counts default to
+ * 10k, 100k and 1M. Run it after {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -Durl=jdbc:postgresql://localhost:5432/cleanarchtemplate -Duser=cleanarchtemplate -Dpassword=cleanarchtemplate \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.BatchedInsertBenchmark [rows...]
+ * </pre>
+ */
+public class BatchedInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("url", "jdbc:postgresql://localhost:5432/cleanarchtemplate");
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("user", "cleanarchtemplate"));
+        properties.setProperty("password", System.getProperty("password", "cleanarchtemplate"));
+
+        Properties rewriting = new Properties();
+        rewriting.putAll(properties);
+        rewriting.setProperty("reWriteBatchedInserts", "true");
+
+        String[] sizes = args.length > 0 ? args : new String[]{"10000", "100000", "1000000"};
+
+        try (Connection plain = DriverManager.getConnection(url, properties);
+             Connection batched = DriverManager.getConnection(url, rewriting)) {
+            plain.setAutoCommit(false);
+            batched.setAutoCommit(false);
+
+            try (Statement statement = plain.createStatement()) {
+                statement.execute("""
+                        CREATE TEMPORARY TABLE bench_identity (
+                            id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                            username text NOT NULL,
+                            email text NOT NULL)""");
+            }
+
+            try (Statement statement = batched.createStatement()) {
+                statement.execute("""
+                        CREATE TEMPORARY TABLE bench_pooled (
+                            id bigint PRIMARY KEY,
+                            username text NOT NULL,
+                            email text NOT NULL)""");
+                statement.execute("CREATE TEMPORARY SEQUENCE bench_pooled_seq START WITH " + ALLOCATION_SIZE
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+            }
+
+            System.out.printf("%-24s %10s %10s %12s%n", "strategy", "rows", "ms", "rows/s");
+
+            for (String size : sizes) {
+                int rows = Integer.parseInt(size);
+
+                report("identity, row by row", rows, time(plain, "bench_identity", rows, BatchedInsertBenchmark::identity));
+                report("pooled, batched", rows, time(batched, "bench_pooled", rows, BatchedInsertBenchmark::pooled));
+            }
+        }
+    }
+
+    private interface Strategy {
+
+        void insert(Connection connection, int rows) throws SQLException;
+
+    }
+
+    private static long time(Connection connection, String table, int rows, Strategy strategy) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE " + table);
+        }
+
+        connection.commit();
+
+        long start = System.nanoTime();
+        strategy.insert(connection, rows);
+        connection.commit();
+
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static void identity(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_identity (username, email) VALUES (?, ?)", new String[]{"id"})) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+    }
+
+    private static void pooled(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('bench_pooled_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO bench_pooled (id, username, email) VALUES (?, ?, ?)")) {
+            long nextId = 0;
+            long lastId = -1;
+
+            for (int i = 0; i < rows; i++) {
+                if (nextId > lastId) {
+                    // The pooled optimizer hands out the block ending at the sequence value
+                    try (ResultSet value = nextval.executeQuery()) {
+                        value.next();
+                        lastId = value.getLong(1);
+                        nextId = lastId - ALLOCATION_SIZE + 1;
+                    }
+                }
+
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+
+                if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+
+            insert.executeBatch();
+        }
+    }
+
+    private static void bind(PreparedStatement insert, int index, int row) throws SQLException {
+        insert.setString(index, "user" + row);
+        insert.setString(index + 1, "user" + row + "@example.com");
+    }
+
+    private static void report(String strategy, int rows, long millis) {
+        System.out.printf("%-24s %10d %10d %12.0f%n", strategy, rows, millis, rows * 1000.0 / Math.max(1, millis));
+    }
+
+}
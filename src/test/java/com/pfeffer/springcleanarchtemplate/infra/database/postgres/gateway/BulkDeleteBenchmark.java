@@ -0,0 +1,160 @@
+package com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Compares deleting 100k rows entity by entity, as Spring Data's default
+ * {@code deleteAllById} does (one {@code SELECT} to load each entity, then
+ * batched single-row {@code DELETE}s), against the set-based statements
+ * issued by {@link PgGateway#deleteAllById(Iterable)}.
+ * <p>
+ * It needs a running PostgreSQL server and works on a temporary table, so no
+ * application data is touched. Run it after {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -Durl=jdbc:postgresql://localhost:5432/cleanarchtemplate -Duser=cleanarchtemplate -Dpassword=cleanarchtemplate \
+ *         com.pfeffer.springcleanarchtemplate.infra.database.postgres.gateway.BulkDeleteBenchmark
+ * </pre>
+ */
+public class BulkDeleteBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    private static final int MAX_IDS_PER_STATEMENT = 1_000;
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("url", "jdbc:postgresql://localhost:5432/cleanarchtemplate");
+        String user = System.getProperty("user", "cleanarchtemplate");
+        String password = System.getProperty("password", "cleanarchtemplate");
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(false);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMPORARY TABLE bench_delete (id bigint PRIMARY KEY, payload text NOT NULL)");
+            }
+
+            List<Long> ids = LongStream.rangeClosed(1, ROWS).boxed().toList();
+
+            System.out.printf("%-28s %10s %10s%n", "strategy", "rows", "ms");
+
+            report("entity by entity", ROWS, time(connection, ids, BulkDeleteBenchmark::entityByEntity));
+            report("IN (...) chunks of " + MAX_IDS_PER_STATEMENT, ROWS, time(connection, ids, BulkDeleteBenchmark::inChunks));
+            report("= ANY(?) single array", ROWS, time(connection, ids, BulkDeleteBenchmark::anyArray));
+        }
+    }
+
+    private interface Strategy {
+
+        long delete(Connection connection, List<Long> ids) throws SQLException;
+
+    }
+
+    private static long time(Connection connection, List<Long> ids, Strategy strategy) throws SQLException {
+        populate(connection);
+
+        long start = System.nanoTime();
+        long deleted = strategy.delete(connection, ids);
+        connection.commit();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        if (deleted != ids.size()) {
+            throw new IllegalStateException("Deleted " + deleted + " of " + ids.size() + " rows");
+        }
+
+        return elapsed;
+    }
+
+    private static void populate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO bench_delete SELECT g, md5(g::text) FROM generate_series(1, " + ROWS + ") g");
+            statement.execute("ANALYZE bench_delete");
+        }
+
+        connection.commit();
+    }
+
+    private static long entityByEntity(Connection connection, List<Long> ids) throws SQLException {
+        long deleted = 0;
+
+        try (PreparedStatement select = connection.prepareStatement("SELECT id, payload FROM bench_delete WHERE id = ?");
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM bench_delete WHERE id = ?")) {
+            int pending = 0;
+
+            for (Long id : ids) {
+                select.setLong(1, id);
+
+                try (ResultSet row = select.executeQuery()) {
+                    if (!row.next()) {
+                        continue;
+                    }
+                }
+
+                delete.setLong(1, id);
+                delete.addBatch();
+
+                if (++pending == JDBC_BATCH_SIZE) {
+                    deleted += sum(delete.executeBatch());
+                    pending = 0;
+                }
+            }
+
+            deleted += sum(delete.executeBatch());
+        }
+
+        return deleted;
+    }
+
+    private static long inChunks(Connection connection, List<Long> ids) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(MAX_IDS_PER_STATEMENT, "?"));
+        long deleted = 0;
+
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM bench_delete WHERE id IN (" + placeholders + ")")) {
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_STATEMENT) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, ids.size()));
+
+                for (int i = 0; i < MAX_IDS_PER_STATEMENT; i++) {
+                    // Pad short chunks with the last id, as Hibernate's in_clause_parameter_padding does
+                    delete.setLong(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                }
+
+                deleted += delete.executeUpdate();
+            }
+        }
+
+        return deleted;
+    }
+
+    private static long anyArray(Connection connection, List<Long> ids) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM bench_delete WHERE id = ANY(?)")) {
+            delete.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+
+            return delete.executeUpdate();
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long sum = 0;
+
+        for (int count : counts) {
+            sum += Math.max(count, 0);
+        }
+
+        return sum;
+    }
+
+    private static void report(String strategy, int rows, long millis) {
+        System.out.printf("%-28s %10d %10d%n", strategy, rows, millis);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.Gateway;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncGatewayAdapterTest {
+
+    @Test
+    void interruptsCallsThatOutliveTheTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Gateway<UserBO, Long> gateway = gateway(() -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+
+            return Optional.empty();
+        });
+
+        try (AsyncGatewayAdapter<UserBO, Long> adapter = new AsyncGatewayAdapter<>(gateway,
+                Executors.newSingleThreadExecutor(), Duration.ofMillis(50))) {
+            assertEquals(SimpleErrorCode.TIMEOUT, failureOf(adapter.findById(1L)).getError());
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void rejectsCallsBeyondTheExecutorCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Gateway<UserBO, Long> gateway = gateway(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return Optional.empty();
+        });
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+
+        try (AsyncGatewayAdapter<UserBO, Long> adapter = new AsyncGatewayAdapter<>(gateway, executor, Duration.ofSeconds(10))) {
+            CompletableFuture<Optional<UserBO>> running = adapter.findById(1L);
+
+            assertEquals(SimpleErrorCode.UNAVAILABLE, failureOf(adapter.findById(2L)).getError());
+
+            release.countDown();
+            assertEquals(Optional.empty(), running.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Gateway<UserBO, Long> gateway(Supplier<Optional<UserBO>> findById) {
+        return (Gateway<UserBO, Long>) Proxy.newProxyInstance(Gateway.class.getClassLoader(), new Class<?>[]{Gateway.class},
+                (proxy, method, arguments) -> {
+                    if (method.getName().equals("findById")) {
+                        return findById.get();
+                    }
+
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static LocalizedException failureOf(CompletableFuture<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+
+        return assertInstanceOf(LocalizedException.class, e.getCause());
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlight;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchingUserGatewayTest {
+
+    @Test
+    void closingTheOutermostDecoratorShutsTheBatchExecutorDown() {
+        ClosableStore store = new ClosableStore();
+        ExecutorService executor = Executors.newCachedThreadPool();
+
+        BatchingUserGateway batching = new BatchingUserGateway(store, Duration.ofMillis(1), 100, executor);
+        CachingUserGateway gateway = new CachingUserGateway(new CoalescingUserGateway(batching, new SingleFlight<>()),
+                100, Duration.ofHours(1));
+
+        gateway.close();
+
+        assertTrue(executor.isShutdown());
+        assertTrue(store.closed);
+    }
+
+    private static final class ClosableStore extends InMemoryUserGateway implements AutoCloseable {
+
+        private boolean closed;
+
+        ClosableStore() {
+            super(new GatewayProperties());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingUserGatewayTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Runs while a load is in flight, between the read of the store and the
+     * return to the cache.
+     */
+    private Runnable duringLoad = () -> {
+    };
+
+    private final InMemoryUserGateway store = new InMemoryUserGateway(new GatewayProperties()) {
+        @Override
+        public Optional<UserBO> findById(Long id) {
+            loads.incrementAndGet();
+
+            Optional<UserBO> found = super.findById(id);
+            Runnable write = duringLoad;
+
+            duringLoad = () -> {
+            };
+            write.run();
+
+            return found;
+        }
+    };
+
+    private final CachingUserGateway gateway = new CachingUserGateway(store, 100, Duration.ofHours(1));
+
+    @Test
+    void readsAfterAWriteMissTheCache() {
+        long id = insertUser("user");
+
+        assertEquals("First", gateway.findById(id).orElseThrow().getFirstName());
+        assertEquals("First", gateway.findById(id).orElseThrow().getFirstName());
+        assertEquals(1, loads.get());
+
+        assertTrue(gateway.updateById(id, Map.of("firstName", "Changed")));
+
+        assertEquals("Changed", gateway.findById(id).orElseThrow().getFirstName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void doesNotCacheALoadOverlappingAWrite() {
+        long id = insertUser("user");
+
+        duringLoad = () -> gateway.updateById(id, Map.of("firstName", "Changed"));
+
+        // The load read the user before the write, so its result must not be kept
+        assertEquals("First", gateway.findById(id).orElseThrow().getFirstName());
+
+        assertEquals("Changed", gateway.findById(id).orElseThrow().getFirstName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void doesNotServeARenamedUserByItsPreviousUsername() {
+        long id = insertUser("before");
+
+        assertEquals(id, gateway.findByUsername("before").orElseThrow().getId());
+
+        assertTrue(gateway.updateById(id, Map.of("username", "after")));
+
+        assertTrue(gateway.findByUsername("before").isEmpty());
+        assertEquals(id, gateway.findByUsername("after").orElseThrow().getId());
+
+        // The user entry goes away but its username index entry outlives it,
+        // then the user is renamed elsewhere and reloaded by identifier
+        gateway.getCache().remove(id);
+        assertTrue(store.updateById(id, Map.of("username", "elsewhere")));
+        assertEquals("elsewhere", gateway.findById(id).orElseThrow().getUsername());
+
+        assertTrue(gateway.findByUsername("after").isEmpty());
+    }
+
+    private long insertUser(String username) {
+        UserBO user = new UserBO.Builder()
+                .firstName("First")
+                .username(username)
+                .email(username + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        return store.create(user).value().getId();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.infra.concurrent.SingleFlight;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingUserGatewayTest {
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Holds the first load after reading the store, until released.
+     */
+    private final InMemoryUserGateway store = new InMemoryUserGateway(new GatewayProperties()) {
+        @Override
+        public Optional<UserBO> findById(Long id) {
+            Optional<UserBO> found = super.findById(id);
+
+            if (loading.getCount() > 0) {
+                loading.countDown();
+                awaitUninterruptibly(release);
+            }
+
+            return found;
+        }
+    };
+
+    private final SingleFlight<CoalescingGateway.LookupKey, Optional<UserBO>> flight = new SingleFlight<>();
+
+    private final CachingUserGateway gateway = new CachingUserGateway(
+            new CoalescingUserGateway(store, flight), 100, Duration.ofHours(1));
+
+    @Test
+    void doesNotJoinALoadStartedBeforeAWrite() throws Exception {
+        long id = insertUser();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<UserBO>> before = executor.submit(() -> gateway.findById(id));
+
+            try {
+                assertTrue(loading.await(10, TimeUnit.SECONDS));
+                assertTrue(gateway.updateById(id, Map.of("firstName", "Changed")));
+
+                // Joining the held load would hand back, and cache, the user read before the write
+                Future<Optional<UserBO>> after = executor.submit(() -> gateway.findById(id));
+
+                assertEquals("Changed", after.get(2, TimeUnit.SECONDS).orElseThrow().getFirstName());
+            } finally {
+                release.countDown();
+            }
+
+            assertEquals("First", before.get(10, TimeUnit.SECONDS).orElseThrow().getFirstName());
+        }
+
+        assertEquals("Changed", gateway.findById(id).orElseThrow().getFirstName());
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    private long insertUser() {
+        UserBO user = new UserBO.Builder()
+                .firstName("First")
+                .username("user")
+                .email("user@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        return store.create(user).value().getId();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.UserGateway;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.InsertResult;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the throughput of user creations committed one by one against
+ * creations group-committed by a {@link GroupCommitUserGateway}, at
+ * increasing concurrency levels.
+ * <p>
+ * No database is needed: the gateway is a stub holding one of 10 simulated
+ * connections (the HikariCP default) for a round trip per inserted user
+ * (100us by default) plus one commit per transaction (2ms by default, the
+ * cost of flushing the WAL to disk). The first creation of a batch waits
+ * for others for {@code maxWaitMicros} (500us by default). Run it after
+ * {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -DstatementMicros=100 -DcommitMicros=2000 -DmaxWaitMicros=500 \
+ *         com.pfeffer.springcleanarchtemplate.infra.gateway.GroupCommitUserGatewayBenchmark
+ * </pre>
+ */
+public class GroupCommitUserGatewayBenchmark {
+
+    private static final int CONNECTIONS = 10;
+
+    private static final Duration RUN = Duration.ofSeconds(2);
+
+    private static final long STATEMENT_MICROS = Long.getLong("statementMicros", 100);
+
+    private static final long COMMIT_MICROS = Long.getLong("commitMicros", 2_000);
+
+    private static final Duration MAX_WAIT = Duration.ofNanos(Long.getLong("maxWaitMicros", 500) * 1_000);
+
+    private static final Semaphore POOL = new Semaphore(CONNECTIONS);
+
+    private static final LongAdder COMMITS = new LongAdder();
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    public static void main(String[] args) {
+        UserGateway gateway = slowGateway();
+
+        System.out.printf("%12s %14s %14s %14s %14s %10s%n", "concurrency",
+                "direct ops/s", "commits/s", "grouped ops/s", "commits/s", "avg batch");
+
+        for (int concurrency : new int[]{1, 16, 64, 256, 1024}) {
+            double[] direct = run(concurrency, gateway);
+
+            try (GroupCommitUserGateway grouped = new GroupCommitUserGateway(gateway, 100, MAX_WAIT,
+                    Duration.ofSeconds(30))) {
+                double[] group = run(concurrency, grouped);
+                double avgBatch = (double) grouped.getCommitter().itemCount()
+                        / Math.max(1, grouped.getCommitter().batchCount());
+
+                System.out.printf("%12d %14.0f %14.0f %14.0f %14.0f %10.1f%n",
+                        concurrency, direct[0], direct[1], group[0], group[1], avgBatch);
+            }
+        }
+    }
+
+    /**
+     * @return the creations and the commits per second.
+     */
+    private static double[] run(int concurrency, UserGateway gateway) {
+        LongAdder ops = new LongAdder();
+        long commits = COMMITS.sum();
+        long deadline = System.nanoTime() + RUN.toNanos();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                callers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        gateway.create(newUser());
+                        ops.increment();
+                    }
+                });
+            }
+        }
+
+        double seconds = RUN.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+
+        return new double[]{ops.sum() / seconds, (COMMITS.sum() - commits) / seconds};
+    }
+
+    private static UserGateway slowGateway() {
+        return (UserGateway) Proxy.newProxyInstance(UserGateway.class.getClassLoader(), new Class<?>[]{UserGateway.class},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "create" -> transaction(List.of((UserBO) arguments[0])).getFirst();
+                    case "createAll" -> {
+                        @SuppressWarnings("unchecked")
+                        List<UserBO> bos = (List<UserBO>) arguments[0];
+
+                        yield transaction(bos);
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<InsertResult<UserBO>> transaction(List<UserBO> bos) throws InterruptedException {
+        POOL.acquire();
+
+        try {
+            TimeUnit.MICROSECONDS.sleep(STATEMENT_MICROS * bos.size() + COMMIT_MICROS);
+            COMMITS.increment();
+        } finally {
+            POOL.release();
+        }
+
+        return bos.stream().map(InsertResult::inserted).toList();
+    }
+
+    private static UserBO newUser() {
+        long id = IDS.incrementAndGet();
+
+        return new UserBO.Builder()
+                .firstName("First")
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+}
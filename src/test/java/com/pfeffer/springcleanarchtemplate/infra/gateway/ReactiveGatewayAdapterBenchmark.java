@@ -0,0 +1,294 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compares full user listings served the JDBC/Tomcat way, where a worker
+ * thread loads the whole listing and then writes it to the client, against
+ * listings served through a {@link ReactiveGatewayAdapter}, where pages are
+ * fetched as the client drains them and no thread waits on the client.
+ * <p>
+ * For 16, 256 and 1024 concurrent clients it reports the throughput in
+ * users per second, the p50 and p99 time to serve one listing, and the memory
+ * held per connection: the peak number of users fetched but not written yet,
+ * per client, and the peak number of live threads, each of which reserves a
+ * stack.
+ * <p>
+ * No database is needed: the gateway is an {@link InMemoryUserGateway}
+ * holding one of 10 simulated connections (the HikariCP default) for a round
+ * trip per query (1ms by default) plus a transfer time per row (2us by
+ * default). Blocking listings run on 200 platform threads, as Tomcat's
+ * default worker pool does; reactive ones on the 16 threads of the default
+ * {@code clean-arch.gateway.reactive} executor. Clients write 500 users per
+ * millisecond. Run it after {@code mvn test-compile} with:
+ * <pre>
+ *     java -Xmx4g -cp target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *         -Dusers=20000 -DpageSize=500 -DqueryMicros=1000 -DrowNanos=2000 \
+ *         com.pfeffer.springcleanarchtemplate.infra.gateway.ReactiveGatewayAdapterBenchmark
+ * </pre>
+ * The end-to-end comparison goes through HTTP instead: start the application
+ * with the {@code reactive} profile and point {@code UserControllerLoadBenchmark}
+ * at {@code /api/v1/users/all} and {@code /api/v1/reactive/users/all}.
+ */
+public class ReactiveGatewayAdapterBenchmark {
+
+    private static final int USERS = Integer.getInteger("users", 20_000);
+
+    private static final long QUERY_MICROS = Long.getLong("queryMicros", 1_000);
+
+    private static final long ROW_NANOS = Long.getLong("rowNanos", 2_000);
+
+    private static final int CONNECTIONS = 10;
+
+    private static final int WORKER_THREADS = 200;
+
+    private static final int REACTIVE_THREADS = 16;
+
+    private static final int PAGE_SIZE = Integer.getInteger("pageSize", 500);
+
+    private static final int USERS_PER_WRITE = 500;
+
+    private static final Semaphore POOL = new Semaphore(CONNECTIONS);
+
+    /**
+     * Users fetched from the gateway and not written to their client yet.
+     */
+    private static final AtomicLong HELD = new AtomicLong();
+
+    private static final AtomicLong PEAK_HELD = new AtomicLong();
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        InMemoryUserGateway gateway = slowGateway();
+
+        System.out.printf("%-10s %8s %12s %10s %10s %14s %8s%n",
+                "mode", "clients", "users/s", "p50 ms", "p99 ms", "held/client", "threads");
+
+        try (ScheduledExecutorService socket = Executors.newSingleThreadScheduledExecutor()) {
+            for (int clients : new int[]{16, 256, 1024}) {
+                report("blocking", clients, measure(clients, () -> blocking(gateway, clients)));
+
+                try (ReactiveGatewayAdapter<UserBO, Long> reactive = new ReactiveGatewayAdapter<>(gateway,
+                        Executors.newFixedThreadPool(REACTIVE_THREADS), PAGE_SIZE)) {
+                    report("reactive", clients, measure(clients, () -> reactive(reactive, socket, clients)));
+                }
+            }
+        }
+    }
+
+    private interface Run {
+
+        long[] latencies() throws Exception;
+
+    }
+
+    private record Result(long[] latencies, long millis, long peakHeld, int peakThreads) {
+    }
+
+    /**
+     * Each listing is loaded in full by a worker thread, which then writes it.
+     */
+    private static long[] blocking(InMemoryUserGateway gateway, int clients) throws InterruptedException {
+        long[] latencies = new long[clients];
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS)) {
+            long start = System.nanoTime();
+
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+
+                workers.execute(() -> {
+                    List<UserBO> users = gateway.findAll();
+
+                    for (int written = 0; written < users.size(); written += USERS_PER_WRITE) {
+                        sleepMicros(1_000);
+                        HELD.addAndGet(-Math.min(USERS_PER_WRITE, users.size() - written));
+                    }
+
+                    latencies[client] = System.nanoTime() - start;
+                });
+            }
+        }
+
+        return latencies;
+    }
+
+    /**
+     * Each listing is a subscription requesting one write worth of users at
+     * a time, once the previous write has drained.
+     */
+    private static long[] reactive(ReactiveGatewayAdapter<UserBO, Long> gateway, ScheduledExecutorService socket,
+                                   int clients) throws InterruptedException {
+        long[] latencies = new long[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+
+            gateway.findAll("id").subscribe(new Flow.Subscriber<>() {
+
+                private Flow.Subscription subscription;
+
+                private int buffered;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(USERS_PER_WRITE);
+                }
+
+                @Override
+                public void onNext(UserBO user) {
+                    if (++buffered == USERS_PER_WRITE) {
+                        buffered = 0;
+                        socket.schedule(() -> {
+                            HELD.addAndGet(-USERS_PER_WRITE);
+                            subscription.request(USERS_PER_WRITE);
+                        }, 1, TimeUnit.MILLISECONDS);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throwable.printStackTrace();
+                    done.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    HELD.addAndGet(-buffered);
+                    latencies[client] = System.nanoTime() - start;
+                    done.countDown();
+                }
+
+            });
+        }
+
+        done.await();
+
+        return latencies;
+    }
+
+    private static Result measure(int clients, Run run) throws Exception {
+        HELD.set(0);
+        PEAK_HELD.set(0);
+        THREADS.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        long[] latencies = run.latencies();
+
+        return new Result(latencies, (System.nanoTime() - start) / 1_000_000, PEAK_HELD.get() / clients,
+                THREADS.getPeakThreadCount());
+    }
+
+    private static void report(String mode, int clients, Result result) {
+        long[] latencies = result.latencies().clone();
+        Arrays.sort(latencies);
+
+        System.out.printf("%-10s %8d %12.0f %10.1f %10.1f %14d %8d%n", mode, clients,
+                (double) clients * USERS * 1000 / Math.max(1, result.millis()),
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                result.peakHeld(), result.peakThreads());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    /**
+     * Serves listings from an array sorted by identifier, so a page costs a
+     * seek, as it does on the primary key index, instead of the full scan of
+     * {@link InMemoryUserGateway#scroll(CursorPaginationRequest)}.
+     */
+    private static InMemoryUserGateway slowGateway() {
+        GatewayProperties properties = new GatewayProperties();
+        properties.getMemory().setExpectedSize(USERS);
+
+        InMemoryUserGateway store = new InMemoryUserGateway(properties);
+
+        for (int i = 0; i < USERS; i++) {
+            store.create(new UserBO.Builder()
+                    .firstName("First")
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+
+        List<UserBO> sorted = store.findAll().stream()
+                .sorted(Comparator.comparing(UserBO::getId))
+                .toList();
+        long[] ids = sorted.stream().mapToLong(UserBO::getId).toArray();
+
+        return new InMemoryUserGateway(properties) {
+
+            @Override
+            public List<UserBO> findAll() {
+                return query(USERS, () -> new ArrayList<>(sorted));
+            }
+
+            @Override
+            public CursorSliceContent<UserBO> scroll(CursorPaginationRequest pagination) {
+                return query(pagination.getPageSize(), () -> {
+                    String lastId = pagination.getKeys().get("id");
+                    int from = lastId == null ? 0 : Arrays.binarySearch(ids, Long.parseLong(lastId)) + 1;
+                    int to = Math.min(ids.length, from + pagination.getPageSize());
+                    List<UserBO> content = new ArrayList<>(sorted.subList(from, to));
+
+                    CursorPaginationRequest next = to < ids.length
+                            ? pagination.after(Map.of("id", String.valueOf(ids[to - 1])))
+                            : null;
+
+                    return new CursorSliceContent<>(content, pagination, next);
+                });
+            }
+
+        };
+    }
+
+    private static <T> T query(int rows, Supplier<T> query) {
+        POOL.acquireUninterruptibly();
+
+        try {
+            sleepMicros(QUERY_MICROS + rows * ROW_NANOS / 1_000);
+            PEAK_HELD.accumulateAndGet(HELD.addAndGet(rows), Math::max);
+
+            return query.get();
+        } finally {
+            POOL.release();
+        }
+    }
+
+    private static void sleepMicros(long micros) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
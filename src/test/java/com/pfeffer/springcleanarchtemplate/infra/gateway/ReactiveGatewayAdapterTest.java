@@ -0,0 +1,163 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import com.pfeffer.springcleanarchtemplate.domain.exception.SimpleErrorCode;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorPaginationRequest;
+import com.pfeffer.springcleanarchtemplate.domain.pagination.CursorSliceContent;
+import com.pfeffer.springcleanarchtemplate.domain.utils.FlowPublishers;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveGatewayAdapterTest {
+
+    private final AtomicInteger pages = new AtomicInteger();
+
+    private final InMemoryUserGateway store = new InMemoryUserGateway(new GatewayProperties()) {
+        @Override
+        public CursorSliceContent<UserBO> scroll(CursorPaginationRequest pagination) {
+            pages.incrementAndGet();
+
+            return super.scroll(pagination);
+        }
+    };
+
+    @Test
+    void fetchesPagesOnlyAsTheSubscriberRequests() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            insertUser("user" + i);
+        }
+
+        try (ReactiveGatewayAdapter<UserBO, Long> adapter = new ReactiveGatewayAdapter<>(store,
+                Executors.newSingleThreadExecutor(), 10)) {
+            RecordingSubscriber<UserBO> subscriber = new RecordingSubscriber<>();
+
+            adapter.findAll("id").subscribe(subscriber);
+            subscriber.request(5);
+
+            List<UserBO> first = subscriber.take(5);
+
+            assertEquals(1, pages.get());
+
+            subscriber.request(Long.MAX_VALUE);
+
+            List<UserBO> users = new ArrayList<>(first);
+            users.addAll(subscriber.take(20));
+
+            assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+            assertEquals(3, pages.get());
+
+            List<Long> ids = users.stream().map(UserBO::getId).toList();
+
+            assertEquals(25, ids.stream().distinct().count());
+            assertEquals(ids.stream().sorted().toList(), ids);
+        }
+    }
+
+    @Test
+    void emitsAtMostOneUserById() throws Exception {
+        long id = insertUser("user");
+
+        try (ReactiveGatewayAdapter<UserBO, Long> adapter = new ReactiveGatewayAdapter<>(store,
+                Executors.newSingleThreadExecutor(), 10)) {
+            assertEquals(id, FlowPublishers.first(adapter.findById(id)).get(10, TimeUnit.SECONDS).orElseThrow().getId());
+            assertTrue(FlowPublishers.first(adapter.findById(id + 1)).get(10, TimeUnit.SECONDS).isEmpty());
+        }
+    }
+
+    @Test
+    void signalsUnavailableWhenTheExecutorRejectsAFetch() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        try (ReactiveGatewayAdapter<UserBO, Long> adapter = new ReactiveGatewayAdapter<>(store, executor, 10)) {
+            CompletableFuture<?> first = FlowPublishers.first(adapter.findAll("id"));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+
+            assertEquals(SimpleErrorCode.UNAVAILABLE, assertInstanceOf(LocalizedException.class, e.getCause()).getError());
+        }
+    }
+
+    private long insertUser(String username) {
+        UserBO user = new UserBO.Builder()
+                .firstName("First")
+                .username(username)
+                .email(username + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        return store.create(user).value().getId();
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final LinkedBlockingQueue<T> items = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError("Unexpected error", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void request(long n) throws InterruptedException {
+            assertTrue(subscribed.await(10, TimeUnit.SECONDS));
+            subscription.request(n);
+        }
+
+        List<T> take(int count) throws InterruptedException {
+            List<T> taken = new ArrayList<>();
+
+            for (int i = 0; i < count; i++) {
+                T item = items.poll(10, TimeUnit.SECONDS);
+
+                assertTrue(item != null, "Missing item " + i);
+                taken.add(item);
+            }
+
+            return taken;
+        }
+
+    }
+
+}
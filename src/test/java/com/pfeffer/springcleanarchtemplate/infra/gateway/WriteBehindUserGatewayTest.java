@@ -0,0 +1,107 @@
+package com.pfeffer.springcleanarchtemplate.infra.gateway;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindUserGatewayTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final AtomicInteger batches = new AtomicInteger();
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private final InMemoryUserGateway store = new InMemoryUserGateway(new GatewayProperties()) {
+        @Override
+        public int updateLastLogins(Map<Long, LocalDateTime> lastLogins) {
+            if (failing.get()) {
+                throw new IllegalStateException("Database unavailable");
+            }
+
+            batches.incrementAndGet();
+
+            return super.updateLastLogins(lastLogins);
+        }
+    };
+
+    @Test
+    void coalescesRepeatedLoginsIntoBatchesOfTheLatestTime() {
+        insertUsers(10);
+
+        try (WriteBehindUserGateway gateway = WriteBehindUserGateway.start(store, 1_000, 4, Duration.ofHours(1))) {
+            for (int minute = 0; minute < 100; minute++) {
+                gateway.touchLastLogin(minute % 10 + 1L, EPOCH.plusMinutes(minute).plusNanos(123_000));
+            }
+
+            assertEquals(10, gateway.pendingCount());
+            assertNull(store.findById(1L).orElseThrow().getLastLoginAt());
+
+            assertEquals(10, gateway.flush());
+            assertEquals(3, batches.get());
+            assertEquals(0, gateway.pendingCount());
+            assertEquals(EPOCH.plusMinutes(90).plusNanos(123_000), store.findById(1L).orElseThrow().getLastLoginAt());
+            assertEquals(EPOCH.plusMinutes(99).plusNanos(123_000), store.findById(10L).orElseThrow().getLastLoginAt());
+        }
+    }
+
+    @Test
+    void flushesWhenFullAndKeepsTheLoginsOfAFailedFlush() {
+        insertUsers(19);
+
+        try (WriteBehindUserGateway gateway = WriteBehindUserGateway.start(store, 5, 100, Duration.ofHours(1))) {
+            for (long id = 1; id <= 19; id++) {
+                gateway.touchLastLogin(id, EPOCH);
+                assertTrue(gateway.pendingCount() <= 5);
+            }
+
+            failing.set(true);
+
+            gateway.touchLastLogin(1L, EPOCH.plusDays(1));
+            assertThrows(IllegalStateException.class, gateway::flush);
+            assertEquals(5, gateway.pendingCount());
+
+            // Full, so the caller has to flush first, and fails instead of growing the buffer
+            assertThrows(IllegalStateException.class, () -> gateway.touchLastLogin(2L, EPOCH.plusDays(1)));
+            assertEquals(5, gateway.pendingCount());
+
+            failing.set(false);
+
+            assertEquals(5, gateway.flush());
+            assertEquals(EPOCH.plusDays(1), store.findById(1L).orElseThrow().getLastLoginAt());
+            assertEquals(EPOCH, store.findById(19L).orElseThrow().getLastLoginAt());
+            assertEquals(2, gateway.failedFlushCount());
+        }
+    }
+
+    private void insertUsers(int count) {
+        List<UserBO> users = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            users.add(new UserBO.Builder()
+                    .firstName("First")
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+
+        store.insertAllIfAbsent(users);
+    }
+
+}
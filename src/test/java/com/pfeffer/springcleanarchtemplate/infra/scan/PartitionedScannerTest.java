@@ -0,0 +1,167 @@
+package com.pfeffer.springcleanarchtemplate.infra.scan;
+
+import com.pfeffer.springcleanarchtemplate.domain.entity.UserBO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.gateway.support.IdRange;
+import com.pfeffer.springcleanarchtemplate.infra.database.memory.gateway.InMemoryUserGateway;
+import com.pfeffer.springcleanarchtemplate.infra.gateway.config.GatewayProperties;
+import com.pfeffer.springcleanarchtemplate.infra.scan.config.ScanProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedScannerTest {
+
+    private final InMemoryUserGateway users = new InMemoryUserGateway(new GatewayProperties());
+
+    private final MemoryCheckpointStore store = new MemoryCheckpointStore();
+
+    private final Map<Long, Integer> processed = new ConcurrentHashMap<>();
+
+    @Test
+    void splitsTheKeyspaceIntoContiguousRanges() {
+        insertUsers(100);
+        IdRange idRange = users.findIdRange().orElseThrow();
+
+        assertEquals(100, scanner(3, 7, 2).scan("split", users, this::record));
+
+        List<ScanRange> ranges = store.created.get("split");
+
+        assertEquals(3, ranges.size());
+        assertEquals(idRange.min() - 1, ranges.getFirst().afterId());
+        assertEquals(idRange.max(), ranges.getLast().toId());
+
+        assertEquals(List.of(34L, 34L, 32L), ranges.stream().map(range -> range.toId() - range.afterId()).toList());
+
+        for (int i = 0; i < ranges.size(); i++) {
+            assertEquals(i, ranges.get(i).index());
+            assertEquals(ranges.get(i).afterId(), ranges.get(i).lastId());
+
+            if (i > 0) {
+                assertEquals(ranges.get(i - 1).toId(), ranges.get(i).afterId(), "Gap before range " + i);
+            }
+        }
+
+        assertEquals(100, processed.size());
+        assertTrue(processed.values().stream().allMatch(count -> count == 1));
+        assertTrue(store.load("split").isEmpty());
+    }
+
+    @Test
+    void createsOneRangePerIdentifierWhenThereAreMorePartitions() {
+        insertUsers(2);
+
+        assertEquals(2, scanner(5, 10, 2).scan("narrow", users, this::record));
+
+        List<ScanRange> ranges = store.created.get("narrow");
+
+        assertEquals(2, ranges.size());
+        assertEquals(ranges.getFirst().toId(), ranges.getLast().afterId());
+        assertEquals(1, ranges.getLast().toId() - ranges.getLast().afterId());
+    }
+
+    @Test
+    void resumesAfterAFailedRangeWithoutLosingItsCheckpoints() {
+        insertUsers(100);
+        long failingId = users.findIdRange().orElseThrow().min() + 74;
+        AtomicBoolean failed = new AtomicBoolean();
+
+        PartitionedScanner scanner = scanner(2, 10, 1);
+
+        assertThrows(Error.class, () -> scanner.scan("resume", users, batch -> {
+            if (batch.stream().anyMatch(user -> user.getId() == failingId) && failed.compareAndSet(false, true)) {
+                throw new Error("Processor crashed");
+            }
+
+            record(batch);
+        }));
+
+        List<ScanRange> checkpoints = store.load("resume");
+        ScanRange failedRange = checkpoints.get(1);
+
+        assertEquals(2, checkpoints.size());
+        assertFalse(failedRange.completed());
+        assertEquals(failingId - 5, failedRange.lastId());
+
+        long resumed = scanner.scan("resume", users, this::record);
+
+        assertEquals(100, processed.size());
+        assertTrue(processed.values().stream().allMatch(count -> count == 1), "A processed batch was scanned again");
+        assertTrue(resumed < 100);
+        assertTrue(store.load("resume").isEmpty());
+    }
+
+    private PartitionedScanner scanner(int partitions, int batchSize, int parallelism) {
+        ScanProperties properties = new ScanProperties();
+        properties.setPartitions(partitions);
+        properties.setBatchSize(batchSize);
+        properties.setParallelism(parallelism);
+
+        return new PartitionedScanner(store, properties, new SimpleMeterRegistry());
+    }
+
+    private void record(List<UserBO> batch) {
+        batch.forEach(user -> processed.merge(user.getId(), 1, Integer::sum));
+    }
+
+    private void insertUsers(int count) {
+        List<UserBO> bos = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            bos.add(new UserBO.Builder()
+                    .firstName("First")
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+
+        users.insertAllIfAbsent(bos);
+    }
+
+    private static final class MemoryCheckpointStore implements ScanCheckpointStore {
+
+        private final Map<String, List<ScanRange>> created = new ConcurrentHashMap<>();
+
+        private final Map<String, Map<Integer, ScanRange>> jobs = new ConcurrentHashMap<>();
+
+        @Override
+        public List<ScanRange> load(String job) {
+            return jobs.getOrDefault(job, Map.of()).values().stream()
+                    .sorted(Comparator.comparingInt(ScanRange::index))
+                    .toList();
+        }
+
+        @Override
+        public void create(String job, List<ScanRange> ranges) {
+            Map<Integer, ScanRange> checkpoints = new ConcurrentHashMap<>();
+            ranges.forEach(range -> checkpoints.put(range.index(), range));
+
+            created.put(job, List.copyOf(ranges));
+            jobs.put(job, checkpoints);
+        }
+
+        @Override
+        public void save(String job, ScanRange range) {
+            jobs.get(job).put(range.index(), range);
+        }
+
+        @Override
+        public void delete(String job) {
+            jobs.remove(job);
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.pfeffer.springcleanarchtemplate.presentation.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of {@link UserController} with 1k, 5k and 10k concurrent
+ * clients, each one sending requests back to back for a fixed duration.
+ * <p>
+ * It compares the threading modes by running it once against an application
+ * started with platform threads and once against one started with
+ * {@code VIRTUAL_THREADS_ENABLED=true}. The difference shows when requests
+ * block on the database: with platform threads, throughput stops growing
+ * once Tomcat's 200 worker threads are all waiting on JDBC, while with
+ * virtual threads it is bounded by the connection pool instead. Adding
+ * latency to the database (e.g. through a proxy) makes the gap wider.
+ * <p>
+ * Every client is a virtual thread of this process. Run it after
+ * {@code mvn test-compile} with:
+ * <pre>
+ *     java -cp target/test-classes -Durl=http://localhost:8079 -Dpath=/api/v1/users?size=20 -Dseconds=30 \
+ *         com.pfeffer.springcleanarchtemplate.presentation.controller.UserControllerLoadBenchmark
+ * </pre>
+ */
+public class UserControllerLoadBenchmark {
+
+    private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+
+    public static void main(String[] args) throws InterruptedException {
+        URI uri = URI.create(System.getProperty("url", "http://localhost:8079")
+                + System.getProperty("path", "/api/v1/users?size=20"));
+        Duration duration = Duration.ofSeconds(Long.getLong("seconds", 30));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("%8s %10s %8s %10s %10s %10s%n", "clients", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+
+        for (int clients : CLIENTS) {
+            run(client, uri, clients, duration);
+        }
+    }
+
+    private static void run(HttpClient client, URI uri, int clients, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        LongAdder errors = new LongAdder();
+        Latencies latencies = new Latencies();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+
+                        latencies.record(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+
+        long[] sorted = latencies.sorted();
+
+        System.out.printf("%8d %10d %8d %10.0f %10.1f %10.1f%n", clients, sorted.length, errors.sum(),
+                sorted.length / (double) duration.toSeconds(), percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private static final class Latencies {
+
+        private static final int CAPACITY = 10_000_000;
+
+        private final long[] values = new long[CAPACITY];
+
+        private final AtomicLong size = new AtomicLong();
+
+        private void record(long nanos) {
+            long index = size.getAndIncrement();
+
+            if (index < CAPACITY) {
+                values[(int) index] = nanos;
+            }
+        }
+
+        private long[] sorted() {
+            long[] copy = Arrays.copyOf(values, (int) Math.min(size.get(), CAPACITY));
+
+            Arrays.sort(copy);
+
+            return copy;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.pfeffer.springcleanarchtemplate.presentation.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.response.UserResponseDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The million-row tests sample the retained heap while the body is written,
+ * so a body that buffered the rows instead of streaming them would exceed
+ * {@link #MAX_RETAINED_BYTES}.
+ */
+class JsonStreamingResponseBodyTest {
+
+    private static final long ROWS = 1_000_000;
+
+    /**
+     * A million buffered rows would retain several hundred megabytes.
+     */
+    private static final long MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    private static final long SAMPLE_INTERVAL_BYTES = 16L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    @Test
+    void streamsOneMillionRowsAsNdjsonWithBoundedMemory() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+
+        JsonStreamingResponseBody.ndjson(objectMapper, users()).writeTo(out);
+
+        assertEquals(ROWS, out.newLines);
+        assertTrue(out.bytes > ROWS * 100);
+        assertTrue(out.maxRetained < MAX_RETAINED_BYTES, "Retained " + out.maxRetained + " bytes while streaming");
+    }
+
+    @Test
+    void streamsOneMillionRowsAsJsonArrayWithBoundedMemory() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+
+        JsonStreamingResponseBody.array(objectMapper, users()).writeTo(out);
+
+        assertEquals('[', out.first);
+        assertEquals(']', out.last);
+        assertTrue(out.bytes > ROWS * 100);
+        assertTrue(out.maxRetained < MAX_RETAINED_BYTES, "Retained " + out.maxRetained + " bytes while streaming");
+    }
+
+    @Test
+    void writesValidJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonStreamingResponseBody.array(objectMapper, consumer -> {
+            consumer.accept(user(1));
+            consumer.accept(user(2));
+        }).writeTo(out);
+
+        List<?> users = objectMapper.readValue(out.toString(StandardCharsets.UTF_8), List.class);
+
+        assertEquals(2, users.size());
+    }
+
+    private static Consumer<Consumer<UserResponseDTO>> users() {
+        return consumer -> LongStream.rangeClosed(1, ROWS)
+                .mapToObj(JsonStreamingResponseBodyTest::user)
+                .forEach(consumer);
+    }
+
+    private static UserResponseDTO user(long id) {
+        UserResponseDTO user = new UserResponseDTO();
+
+        user.setId(String.valueOf(id));
+        user.setFirstName("First " + id);
+        user.setLastName("Last " + id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setStatus(UserStatus.values()[0]);
+        user.setCreatedAt(LocalDateTime.now());
+
+        return user;
+    }
+
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        System.gc();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Counts the written bytes and samples the heap retained since it was
+     * created every {@link #SAMPLE_INTERVAL_BYTES}.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private final long baseline = retainedHeap();
+
+        private long maxRetained;
+
+        private long bytes;
+
+        private long newLines;
+
+        private int first = -1;
+
+        private int last = -1;
+
+        @Override
+        public void write(int b) {
+            if (first == -1) {
+                first = b;
+            }
+
+            last = b;
+            bytes++;
+
+            if (bytes % SAMPLE_INTERVAL_BYTES == 0) {
+                maxRetained = Math.max(maxRetained, retainedHeap() - baseline);
+            }
+
+            if (b == '\n') {
+                newLines++;
+            }
+        }
+
+    }
+
+}
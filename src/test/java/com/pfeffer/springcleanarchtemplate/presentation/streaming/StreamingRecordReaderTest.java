@@ -0,0 +1,67 @@
+package com.pfeffer.springcleanarchtemplate.presentation.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pfeffer.springcleanarchtemplate.domain.entity.dto.request.UserRequestDTO;
+import com.pfeffer.springcleanarchtemplate.domain.entity.enums.UserStatus;
+import com.pfeffer.springcleanarchtemplate.domain.exception.LocalizedException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingRecordReaderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+    @Test
+    void readsCsvWithQuotedFieldsAndEmptyValues() {
+        InputStream body = body("""
+                firstName,lastName,username,email,status
+                "Doe, John",,jdoe,"john""doe@example.com",ACTIVE
+                """);
+
+        StreamingRecordReader<UserRequestDTO> rows = StreamingRecordReader.csv(objectMapper, body, UserRequestDTO.class);
+        UserRequestDTO user = rows.next();
+
+        assertEquals("Doe, John", user.getFirstName());
+        assertNull(user.getLastName());
+        assertEquals("john\"doe@example.com", user.getEmail());
+        assertEquals(UserStatus.ACTIVE, user.getStatus());
+        assertFalse(rows.hasNext());
+    }
+
+    @Test
+    void resumesAfterMalformedLine() {
+        InputStream body = body("""
+                {"username":"first"}
+                {"username":
+                
+                {"username":"second","status":"UNKNOWN"}
+                {"username":"third"}
+                """);
+
+        StreamingRecordReader<UserRequestDTO> rows = StreamingRecordReader.ndjson(objectMapper, body, UserRequestDTO.class);
+
+        assertEquals("first", rows.next().getUsername());
+        assertThrows(LocalizedException.class, rows::next);
+        assertThrows(LocalizedException.class, rows::next);
+        assertTrue(rows.hasNext());
+        assertEquals("third", rows.next().getUsername());
+        assertFalse(rows.hasNext());
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}